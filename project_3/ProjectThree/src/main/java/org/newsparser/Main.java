@@ -1,5 +1,8 @@
 package org.newsparser;
 
+import org.newsparser.cli.BatchCommand;
+import org.newsparser.cli.ServeCommand;
+import org.newsparser.cli.ShardCommand;
 import org.newsparser.parsers.BaseJsonParser;
 import org.newsparser.parsers.NewsResponseJsonParser;
 import org.newsparser.parsers.SimpleNewsResponseJsonParser;
@@ -8,6 +11,7 @@ import org.newsparser.sources.FileJsonSource;
 import org.newsparser.sources.SourceFormat;
 import org.newsparser.sources.URLJsonSource;
 
+import java.util.Arrays;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -19,6 +23,24 @@ public class Main {
         logger.setUseParentHandlers(false);
         logger.addHandler(new ConsoleHandler());
 
+        // Daemon mode, see ServeCommand.USAGE.
+        if (args.length > 0 && args[0].equals("--serve")) {
+            System.exit(ServeCommand.run(Arrays.copyOfRange(args, 1, args.length), System.out, System.err, logger));
+        }
+
+        // Sharded run across processes, see ShardCommand.USAGE.
+        if (args.length > 0 && args[0].equals("--coordinate")) {
+            System.exit(ShardCommand.coordinate(Arrays.copyOfRange(args, 1, args.length), System.out, System.err, logger));
+        }
+        if (args.length > 0 && args[0].equals("--shard-worker")) {
+            System.exit(ShardCommand.work(Arrays.copyOfRange(args, 1, args.length), System.err, logger));
+        }
+
+        // Batch mode when inputs are given, see BatchOptions.USAGE.
+        if (args.length > 0) {
+            System.exit(BatchCommand.run(args, System.out, System.err, logger));
+        }
+
         // NewsResponse from url.
         System.out.println("NewsResponse from URL.");
         SourceFormat.ArticleSourceType source = SourceFormat.ArticleSourceType.WEB;
@@ -0,0 +1,222 @@
+package org.newsparser.cli;
+
+import org.newsparser.databind.NewsResponse;
+import org.newsparser.databind.SimpleArticle;
+import org.newsparser.jobs.FeedJob;
+import org.newsparser.jobs.FeedJobScheduler;
+import org.newsparser.jobs.FeedManifest;
+import org.newsparser.jobs.JobAction;
+import org.newsparser.jobs.JobResult;
+import org.newsparser.jobs.ParserRegistry;
+import org.newsparser.output.ArticleRenderer;
+import org.newsparser.parsers.NewsResponseJsonParser;
+import org.newsparser.parsers.SimpleNewsResponseJsonParser;
+import org.newsparser.sources.FileJsonSource;
+import org.newsparser.sources.PathJsonSource;
+import org.newsparser.sources.SourceFormat;
+import org.newsparser.sources.URLJsonSource;
+import org.newsparser.utils.ValidationReport;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Processes many documents in parallel and prints a {@link BatchSummary}.
+ *
+ * <p>Command line inputs and the jobs of any manifests are run together on a
+ * {@link FeedJobScheduler}. Invalid articles are counted in a shared {@link ValidationReport}
+ * instead of being logged one by one, and with {@code --format} the accepted articles are written
+ * to standard output, one document at a time. A job that times out adds nothing to either.</p>
+ */
+public class BatchCommand {
+
+    /**
+     * The exit code when every document was processed.
+     */
+    public static final int EXIT_OK = 0;
+
+    /**
+     * The exit code when some documents failed or timed out.
+     */
+    public static final int EXIT_FAILURES = 1;
+
+    /**
+     * The exit code when the command line is invalid.
+     */
+    public static final int EXIT_USAGE = 2;
+
+    private BatchCommand() {}
+
+    /**
+     * Runs a batch from command line arguments.
+     *
+     * @param args   the arguments, see {@link BatchOptions#USAGE}
+     * @param out    the stream receiving articles and the summary
+     * @param err    the stream receiving usage errors
+     * @param logger the {@link Logger} for failed documents
+     * @return the exit code
+     */
+    public static int run(String[] args, PrintStream out, PrintStream err, Logger logger) {
+        BatchOptions options;
+        List<FeedJob> jobs;
+        try {
+            options = BatchOptions.parse(args);
+            jobs = jobs(options);
+        } catch (IllegalArgumentException | IOException e) {
+            err.println(e.getMessage());
+            err.println(BatchOptions.USAGE);
+            return EXIT_USAGE;
+        }
+
+        ArticleRenderer renderer = null;
+        if (options.getOutputFormat() != null) {
+            try {
+                renderer = options.getOutputFormat().open(ArticleRenderer.newBufferedWriter(out));
+            } catch (IOException e) {
+                err.println("Failed to open output: " + e.getMessage());
+                return EXIT_FAILURES;
+            }
+        }
+
+        LongAdder bytesRead = new LongAdder();
+        ValidationReport report = new ValidationReport(logger);
+        BatchOutput output = new BatchOutput(report, renderer);
+
+        long start = System.nanoTime();
+        List<JobResult> results;
+        try (FeedJobScheduler scheduler = new FeedJobScheduler(registry(bytesRead), options.getThreads(),
+                options.getTimeoutMillis(), logger)) {
+            results = scheduler.runAll(jobs, action(output, logger));
+        }
+        long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        try {
+            output.close();
+        } catch (IOException e) {
+            logger.warning("Failed to write articles: " + e.getMessage());
+        }
+        BatchSummary summary = new BatchSummary(results, report, bytesRead.sum(), wallMillis);
+        out.print(summary);
+        out.flush();
+        return (summary.getFailed() + summary.getTimedOut() == 0) ? EXIT_OK : EXIT_FAILURES;
+    }
+
+    private static List<FeedJob> jobs(BatchOptions options) throws IOException {
+        List<FeedJob> jobs = new ArrayList<>();
+        for (String input : options.getInputs()) {
+            SourceFormat.ArticleSourceType sourceType = (input.startsWith("http://") || input.startsWith("https://"))
+                    ? SourceFormat.ArticleSourceType.WEB
+                    : SourceFormat.ArticleSourceType.FILE_JSON;
+            jobs.add(new FeedJob(input, sourceType, options.getFormatType(), input, null));
+        }
+        for (Path path : options.getManifests()) {
+            FeedManifest manifest = FeedManifest.load(path);
+            for (FeedJob job : manifest.getJobs()) {
+                if (job.getTimeoutMillis() == 0 && manifest.getDefaultTimeoutMillis() > 0) {
+                    job = new FeedJob(job.getId(), job.getSourceType(), job.getFormatType(), job.getLocation(),
+                            manifest.getDefaultTimeoutMillis());
+                }
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Creates the standard registry, reading files from the file system when they exist there
+     * and counting the bytes of every source.
+     */
+    private static ParserRegistry registry(LongAdder bytesRead) {
+        ParserRegistry registry = ParserRegistry.standard();
+        registry.registerSource(SourceFormat.ArticleSourceType.WEB,
+                location -> new CountingSource(new URLJsonSource(location), bytesRead));
+        registry.registerSource(SourceFormat.ArticleSourceType.FILE_JSON, location -> {
+            Path path = Path.of(location);
+            return new CountingSource(Files.isRegularFile(path) ? new PathJsonSource(path) : new FileJsonSource(location),
+                    bytesRead);
+        });
+        return registry;
+    }
+
+    /**
+     * Validates each job into its own report, and hands the report and the job's articles to the
+     * output only once the job is done, so a job that timed out adds nothing.
+     */
+    private static JobAction action(BatchOutput output, Logger logger) {
+        return (job, parser) -> {
+            ValidationReport jobReport = new ValidationReport(logger);
+            parser.setValidationReport(jobReport);
+            if (parser instanceof NewsResponseJsonParser newsParser) {
+                NewsResponse response = newsParser.getNewsResponse();
+                if (response == null || "error".equals(response.getStatus())) {
+                    output.commit(jobReport, null);
+                    throw new IOException("Invalid or unreadable response.");
+                }
+                output.commit(jobReport, renderer -> renderer.renderAll(response.getArticles()));
+            } else if (parser instanceof SimpleNewsResponseJsonParser simpleParser) {
+                SimpleArticle article = simpleParser.getArticle();
+                if (article == null) {
+                    output.commit(jobReport, null);
+                    throw new IOException("Invalid or unreadable article.");
+                }
+                output.commit(jobReport, renderer -> renderer.render(article));
+            }
+        };
+    }
+
+    /**
+     * Writes a job's articles to the batch renderer.
+     */
+    @FunctionalInterface
+    private interface Rendering {
+        void renderTo(ArticleRenderer renderer) throws IOException;
+    }
+
+    /**
+     * The shared report and renderer of a batch. A job that times out keeps running until it
+     * notices, possibly after the batch has ended, so each job's results pass through
+     * {@link #commit} under one monitor, which drops them once the job's worker was interrupted
+     * or the output is closed.
+     */
+    private static final class BatchOutput {
+        private final ValidationReport report;
+        private final ArticleRenderer renderer;
+        private boolean closed;
+
+        private BatchOutput(ValidationReport report, ArticleRenderer renderer) {
+            this.report = report;
+            this.renderer = renderer;
+        }
+
+        /**
+         * Adds a job's counts to the batch report and renders its articles, unless the job has
+         * timed out, which the scheduler signals by interrupting its worker.
+         */
+        private synchronized void commit(ValidationReport jobReport, Rendering rendering) throws IOException {
+            if (closed || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            report.addAll(jobReport);
+            if (renderer != null && rendering != null) {
+                rendering.renderTo(renderer);
+            }
+        }
+
+        /**
+         * Drops the results of any job still running and finishes the output.
+         */
+        private synchronized void close() throws IOException {
+            closed = true;
+            if (renderer != null) {
+                renderer.finish();
+            }
+        }
+    }
+}
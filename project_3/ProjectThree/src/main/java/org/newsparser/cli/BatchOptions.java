@@ -0,0 +1,140 @@
+package org.newsparser.cli;
+
+import org.newsparser.output.OutputFormat;
+import org.newsparser.sources.SourceFormat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The command line options of the batch mode of {@link BatchCommand}.
+ */
+public class BatchOptions {
+
+    /**
+     * The usage message printed for invalid options.
+     */
+    public static final String USAGE = """
+            Usage: Main [options] <path|url>...
+              --threads <n>        number of documents processed at once (default: processors)
+              --manifest <file>    also run the jobs of a JSON manifest; may be repeated
+              --timeout <ms>       longest time one document may take (default: 30000)
+              --simple             read the inputs as single simple articles instead of NewsAPI responses
+              --format <format>    write accepted articles to standard output as text, json, csv or ndjson
+            Inputs starting with http:// or https:// are fetched; other inputs are files, or
+            resources if no such file exists.""";
+
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long timeoutMillis = 30_000;
+    private SourceFormat.ArticleFormatType formatType = SourceFormat.ArticleFormatType.NEWS_RESPONSE;
+    private OutputFormat outputFormat;
+    private final List<Path> manifests = new ArrayList<>();
+    private final List<String> inputs = new ArrayList<>();
+
+    private BatchOptions() {}
+
+    /**
+     * Parses the command line.
+     *
+     * @param args the arguments
+     * @return the options
+     * @throws IllegalArgumentException if an option is unknown or malformed, or there is nothing to process
+     */
+    public static BatchOptions parse(String[] args) {
+        BatchOptions options = new BatchOptions();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--threads" -> options.threads = positiveInt(arg, value(args, ++i, arg));
+                case "--manifest" -> options.manifests.add(Path.of(value(args, ++i, arg)));
+                case "--timeout" -> options.timeoutMillis = positiveInt(arg, value(args, ++i, arg));
+                case "--simple" -> options.formatType = SourceFormat.ArticleFormatType.SIMPLE_ARTICLE;
+                case "--format" -> options.outputFormat = OutputFormat.forName(value(args, ++i, arg));
+                default -> {
+                    if (arg.startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option " + arg + ".");
+                    }
+                    options.inputs.add(arg);
+                }
+            }
+        }
+        if (options.inputs.isEmpty() && options.manifests.isEmpty()) {
+            throw new IllegalArgumentException("No inputs or manifests given.");
+        }
+        return options;
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Option " + option + " needs a value.");
+        }
+        return args[index];
+    }
+
+    private static int positiveInt(String option, String value) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Option " + option + " needs a positive number, not " + value + ".");
+    }
+
+    /**
+     * Gets the number of documents processed at once.
+     *
+     * @return the thread count
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Gets the longest time one document may take.
+     *
+     * @return the timeout in milliseconds
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Gets the format of the inputs given on the command line.
+     *
+     * @return the format type
+     */
+    public SourceFormat.ArticleFormatType getFormatType() {
+        return formatType;
+    }
+
+    /**
+     * Gets the format accepted articles are written in.
+     *
+     * @return the output format, or null if articles are not written
+     */
+    public OutputFormat getOutputFormat() {
+        return outputFormat;
+    }
+
+    /**
+     * Gets the manifests whose jobs are run.
+     *
+     * @return the manifest files
+     */
+    public List<Path> getManifests() {
+        return manifests;
+    }
+
+    /**
+     * Gets the paths, resource names and URLs given on the command line.
+     *
+     * @return the inputs
+     */
+    public List<String> getInputs() {
+        return inputs;
+    }
+}
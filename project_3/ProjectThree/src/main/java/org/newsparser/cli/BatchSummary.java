@@ -0,0 +1,153 @@
+package org.newsparser.cli;
+
+import org.newsparser.jobs.JobResult;
+import org.newsparser.utils.ValidationReport;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The totals of one batch run: how many documents were processed, how many articles they
+ * held, how much was read and how long each document took.
+ */
+public class BatchSummary {
+
+    private final int documents;
+    private final int failed;
+    private final int timedOut;
+    private final long accepted;
+    private final long rejected;
+    private final Map<String, Long> reasonCounts;
+    private final long bytesRead;
+    private final long p50Millis;
+    private final long p99Millis;
+    private final long wallMillis;
+
+    /**
+     * Constructs a BatchSummary from the results of a run.
+     *
+     * @param results    the result of each document
+     * @param report     the report counting accepted and rejected articles
+     * @param bytesRead  the number of bytes read from all sources
+     * @param wallMillis the running time of the whole batch
+     */
+    public BatchSummary(List<JobResult> results, ValidationReport report, long bytesRead, long wallMillis) {
+        this.documents = results.size();
+        this.failed = (int) results.stream().filter(r -> r.getStatus() == JobResult.Status.FAILED).count();
+        this.timedOut = (int) results.stream().filter(r -> r.getStatus() == JobResult.Status.TIMED_OUT).count();
+        this.accepted = report.getAcceptedCount();
+        this.rejected = report.getRejectedCount();
+        this.reasonCounts = report.getReasonCounts();
+        this.bytesRead = bytesRead;
+        this.wallMillis = wallMillis;
+
+        long[] times = results.stream().mapToLong(JobResult::getElapsedMillis).sorted().toArray();
+        this.p50Millis = percentile(times, 0.50);
+        this.p99Millis = percentile(times, 0.99);
+    }
+
+    /**
+     * Finds a percentile of sorted values by the nearest-rank method.
+     *
+     * @param sorted   the values, in ascending order
+     * @param fraction the percentile as a fraction, greater than 0 and at most 1
+     * @return the smallest value at or above that fraction of the values, or 0 if there are none
+     */
+    static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Gets the number of documents processed.
+     *
+     * @return the document count
+     */
+    public int getDocuments() {
+        return documents;
+    }
+
+    /**
+     * Gets the number of documents that could not be read or were invalid.
+     *
+     * @return the failed count
+     */
+    public int getFailed() {
+        return failed;
+    }
+
+    /**
+     * Gets the number of documents that ran past their timeout.
+     *
+     * @return the timed out count
+     */
+    public int getTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Gets the number of valid articles.
+     *
+     * @return the accepted count
+     */
+    public long getAccepted() {
+        return accepted;
+    }
+
+    /**
+     * Gets the number of invalid articles.
+     *
+     * @return the rejected count
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Gets the number of bytes read from all sources.
+     *
+     * @return the byte count
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * Gets the median time taken per document.
+     *
+     * @return the 50th percentile in milliseconds
+     */
+    public long getP50Millis() {
+        return p50Millis;
+    }
+
+    /**
+     * Gets the time within which 99% of documents were processed.
+     *
+     * @return the 99th percentile in milliseconds
+     */
+    public long getP99Millis() {
+        return p99Millis;
+    }
+
+    /**
+     * Returns the summary as printed at the end of a batch run.
+     *
+     * @return the summary lines
+     */
+    @Override
+    public String toString() {
+        String nl = System.lineSeparator();
+        return "--- Batch Summary ---" + nl
+                + "Documents: " + documents + " (" + (documents - failed - timedOut) + " ok, " + failed + " failed, "
+                + timedOut + " timed out)" + nl
+                + "Articles: " + accepted + " accepted, " + rejected + " rejected"
+                + (reasonCounts.isEmpty() ? "" : " " + reasonCounts) + nl
+                + "Bytes read: " + bytesRead + nl
+                + "Time per document: p50 " + p50Millis + " ms, p99 " + p99Millis + " ms" + nl
+                + "Total time: " + wallMillis + " ms" + nl;
+    }
+}
@@ -0,0 +1,58 @@
+package org.newsparser.cli;
+
+import org.newsparser.sources.ArticleSource;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link ArticleSource} adding the UTF-8 size of every document it returns to a shared counter.
+ * It does not override {@link ArticleSource#openReader()}, so streamed reads are counted too.
+ */
+class CountingSource implements ArticleSource {
+
+    private final ArticleSource delegate;
+    private final LongAdder bytes;
+
+    /**
+     * Constructs a {@code CountingSource}.
+     *
+     * @param delegate the source to read
+     * @param bytes    the counter of bytes read
+     */
+    CountingSource(ArticleSource delegate, LongAdder bytes) {
+        this.delegate = delegate;
+        this.bytes = bytes;
+    }
+
+    @Override
+    public String getJsonString() throws IOException {
+        String json = delegate.getJsonString();
+        bytes.add(utf8Length(json));
+        return json;
+    }
+
+    /**
+     * Computes the UTF-8 encoded length of a string without encoding it.
+     *
+     * @param text the string
+     * @return the length in bytes
+     */
+    static long utf8Length(String text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,126 @@
+package org.newsparser.cli;
+
+import org.newsparser.jobs.FeedJob;
+import org.newsparser.jobs.FeedManifest;
+import org.newsparser.jobs.ParserRegistry;
+import org.newsparser.jobs.PollingPolicy;
+import org.newsparser.server.ArticleDaemon;
+import org.newsparser.sources.CircuitBreakers;
+import org.newsparser.sources.ConcurrencyLimiters;
+import org.newsparser.sources.RequestHedging;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Logger;
+
+/**
+ * Runs an {@link ArticleDaemon} on the loopback interface until the process is stopped.
+ */
+public class ServeCommand {
+
+    /**
+     * The usage message printed for invalid options.
+     */
+    public static final String USAGE = """
+            Usage: Main --serve --manifest <file> [options]
+              --manifest <file>    poll the jobs of a JSON manifest; may be repeated
+              --port <n>           port to serve on (default: 8080)
+              --threads <n>        number of feeds polled at once (default: 4)
+              --max-articles <n>   number of articles served at most (default: 100000)
+              --retention-hours <n> hours after publication an article is served (default: 168)
+              --snapshot <file>    keep the served articles in a snapshot file, loaded on startup
+              --snapshot-minutes <n> minutes between snapshot writes (default: 5)
+              --hedge              race a second fetch when one runs past its host's p95 latency""";
+
+    private ServeCommand() {}
+
+    /**
+     * Starts the daemon from command line arguments and blocks until the JVM shuts down.
+     *
+     * @param args   the arguments after {@code --serve}, see {@link #USAGE}
+     * @param out    the stream receiving the address served on
+     * @param err    the stream receiving usage errors
+     * @param logger the {@link Logger} for the daemon
+     * @return the exit code, if the daemon could not be started
+     */
+    public static int run(String[] args, PrintStream out, PrintStream err, Logger logger) {
+        int port = 8080;
+        int threads = 4;
+        int maxArticles = ArticleDaemon.DEFAULT_MAX_ARTICLES;
+        long retentionMillis = ArticleDaemon.DEFAULT_RETENTION_MILLIS;
+        Path snapshot = null;
+        long snapshotMillis = ArticleDaemon.DEFAULT_SNAPSHOT_PERIOD_MILLIS;
+        boolean hedge = false;
+        List<FeedJob> jobs = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--manifest" -> jobs.addAll(FeedManifest.load(Path.of(value(args, ++i))).getJobs());
+                    case "--port" -> port = Integer.parseInt(value(args, ++i));
+                    case "--threads" -> threads = Integer.parseInt(value(args, ++i));
+                    case "--max-articles" -> maxArticles = Integer.parseInt(value(args, ++i));
+                    case "--retention-hours" -> retentionMillis = Duration.ofHours(Long.parseLong(value(args, ++i))).toMillis();
+                    case "--snapshot" -> snapshot = Path.of(value(args, ++i));
+                    case "--snapshot-minutes" -> snapshotMillis = Duration.ofMinutes(Long.parseLong(value(args, ++i))).toMillis();
+                    case "--hedge" -> hedge = true;
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i] + ".");
+                }
+            }
+            if (jobs.isEmpty()) {
+                throw new IllegalArgumentException("No manifest jobs given.");
+            }
+            if (snapshotMillis <= 0) {
+                throw new IllegalArgumentException("Snapshot minutes must be positive.");
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return BatchCommand.EXIT_USAGE;
+        }
+
+        ArticleDaemon daemon;
+        try {
+            ParserRegistry registry = ParserRegistry.standard();
+            // Breakers wrap the limiters, so a refused read never waits for a fetch slot, and
+            // hedges sit between them, so each hedge takes its own slot and a refused read is never hedged
+            registry.useConcurrencyLimiters(new ConcurrencyLimiters());
+            if (hedge) {
+                registry.useHedging(new RequestHedging());
+            }
+            registry.useCircuitBreakers(new CircuitBreakers(logger));
+            daemon = new ArticleDaemon(jobs, registry, PollingPolicy.DEFAULT, threads, maxArticles, retentionMillis,
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), port), logger);
+            daemon.setSnapshot(snapshot, snapshotMillis);
+        } catch (IOException | IllegalArgumentException e) {
+            err.println("Failed to start: " + e.getMessage());
+            return BatchCommand.EXIT_FAILURES;
+        }
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            daemon.close();
+            stopped.countDown();
+        }));
+        daemon.start();
+        out.println("Serving " + jobs.size() + " feeds on http://localhost:" + daemon.getPort() + "/articles");
+        try {
+            stopped.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return BatchCommand.EXIT_OK;
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Option " + args[index - 1] + " needs a value.");
+        }
+        return args[index];
+    }
+}
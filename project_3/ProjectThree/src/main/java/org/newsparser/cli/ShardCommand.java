@@ -0,0 +1,144 @@
+package org.newsparser.cli;
+
+import org.newsparser.databind.Article;
+import org.newsparser.jobs.FeedJob;
+import org.newsparser.jobs.FeedManifest;
+import org.newsparser.jobs.ParserRegistry;
+import org.newsparser.shard.RoundResult;
+import org.newsparser.shard.ShardCoordinator;
+import org.newsparser.shard.ShardWorker;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+
+/**
+ * Runs one side of a sharded run across processes on the same machine: a coordinator that
+ * splits manifest jobs over the workers that connect to it, or a worker.
+ */
+public class ShardCommand {
+
+    /**
+     * The usage message printed for invalid options.
+     */
+    public static final String USAGE = """
+            Usage: Main --coordinate --manifest <file> [options]
+                   Main --shard-worker --port <n> [options]
+              --manifest <file>    run the jobs of a JSON manifest; may be repeated
+              --port <n>           port the coordinator listens on (default: 9090)
+              --workers <n>        workers to wait for before the round starts (default: 2)
+              --timeout <ms>       longest time to wait for workers and for the round (default: 60000)
+              --id <name>          the worker's name (default: worker-<pid>)
+              --threads <n>        number of jobs a worker runs at once (default: 4)""";
+
+    private ShardCommand() {}
+
+    /**
+     * Runs a coordinator for one round and prints its totals.
+     *
+     * @param args   the arguments after {@code --coordinate}, see {@link #USAGE}
+     * @param out    the stream receiving the round totals
+     * @param err    the stream receiving usage errors
+     * @param logger the {@link Logger} for the coordinator
+     * @return {@link BatchCommand#EXIT_OK} if every job succeeded, {@link BatchCommand#EXIT_FAILURES}
+     * if any failed or the round did not finish, or {@link BatchCommand#EXIT_USAGE} for invalid options
+     */
+    public static int coordinate(String[] args, PrintStream out, PrintStream err, Logger logger) {
+        int port = 9090;
+        int workers = 2;
+        long timeoutMillis = 60_000;
+        List<FeedJob> jobs = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--manifest" -> jobs.addAll(FeedManifest.load(Path.of(value(args, ++i))).getJobs());
+                    case "--port" -> port = Integer.parseInt(value(args, ++i));
+                    case "--workers" -> workers = Integer.parseInt(value(args, ++i));
+                    case "--timeout" -> timeoutMillis = Long.parseLong(value(args, ++i));
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i] + ".");
+                }
+            }
+            if (jobs.isEmpty()) {
+                throw new IllegalArgumentException("No manifest jobs given.");
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return BatchCommand.EXIT_USAGE;
+        }
+
+        try (ShardCoordinator coordinator = new ShardCoordinator(port, logger)) {
+            out.println("Waiting for " + workers + " workers on port " + coordinator.getPort());
+            if (!coordinator.awaitWorkers(workers, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                err.println("Only " + coordinator.getWorkers().size() + " of " + workers + " workers connected.");
+                return BatchCommand.EXIT_FAILURES;
+            }
+            ConcurrentLinkedQueue<Article> articles = new ConcurrentLinkedQueue<>();
+            RoundResult result = coordinator.runRound(jobs, articles::add, timeoutMillis, TimeUnit.MILLISECONDS);
+            out.println(result);
+            return (result.getFailedJobs() == 0) ? BatchCommand.EXIT_OK : BatchCommand.EXIT_FAILURES;
+        } catch (IOException | TimeoutException | IllegalStateException e) {
+            err.println("Sharded run failed: " + e.getMessage());
+            return BatchCommand.EXIT_FAILURES;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BatchCommand.EXIT_FAILURES;
+        }
+    }
+
+    /**
+     * Runs a worker until its coordinator disconnects.
+     *
+     * @param args   the arguments after {@code --shard-worker}, see {@link #USAGE}
+     * @param err    the stream receiving usage errors
+     * @param logger the {@link Logger} for the worker
+     * @return {@link BatchCommand#EXIT_OK} once disconnected, or {@link BatchCommand#EXIT_USAGE} for invalid options
+     */
+    public static int work(String[] args, PrintStream err, Logger logger) {
+        int port = 9090;
+        int threads = 4;
+        String id = "worker-" + ProcessHandle.current().pid();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--port" -> port = Integer.parseInt(value(args, ++i));
+                    case "--threads" -> threads = Integer.parseInt(value(args, ++i));
+                    case "--id" -> id = value(args, ++i);
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i] + ".");
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return BatchCommand.EXIT_USAGE;
+        }
+
+        try (ShardWorker worker = new ShardWorker(id, new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                ParserRegistry.standard(), threads, logger)) {
+            worker.start();
+            worker.awaitDisconnect();
+            return BatchCommand.EXIT_OK;
+        } catch (IOException e) {
+            err.println("Failed to reach the coordinator: " + e.getMessage());
+            return BatchCommand.EXIT_FAILURES;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BatchCommand.EXIT_FAILURES;
+        }
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Option " + args[index - 1] + " needs a value.");
+        }
+        return args[index];
+    }
+}
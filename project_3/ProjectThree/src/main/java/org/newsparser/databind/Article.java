@@ -2,7 +2,9 @@ package org.newsparser.databind;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.newsparser.utils.TextChecks;
 import org.newsparser.utils.Validatable;
 
 import java.util.Date;
@@ -64,10 +66,29 @@ public class Article implements Validatable {
      */
     @Override
     public boolean isValid() {
-        return  title != null && !title.trim().isEmpty() &&
-                description != null && !description.trim().isEmpty() &&
-                url != null && !url.trim().isEmpty() &&
-                publishedDateTime != null;
+        return invalidReason() == null;
+    }
+
+    /**
+     * Gets the name of the first required field that is missing or blank.
+     *
+     * @return the field name, or {@code null} if the article is valid
+     */
+    @Override
+    public String invalidReason() {
+        if (TextChecks.isBlank(title)) {
+            return "title";
+        }
+        if (TextChecks.isBlank(description)) {
+            return "description";
+        }
+        if (TextChecks.isBlank(url)) {
+            return "url";
+        }
+        if (publishedDateTime == null) {
+            return "publishedAt";
+        }
+        return null;
     }
 
     /**
@@ -133,6 +154,16 @@ public class Article implements Validatable {
         return (publishedDateTime != null) ? new Date(publishedDateTime.getTime()) : null;
     }
 
+    /**
+     * Gets the publication time without copying the date, for checks on hot paths.
+     *
+     * @return the publication time in milliseconds since the epoch, or {@link Long#MIN_VALUE} if unspecified
+     */
+    @JsonIgnore
+    public long getPublishedTimeMillis() {
+        return (publishedDateTime != null) ? publishedDateTime.getTime() : Long.MIN_VALUE;
+    }
+
     /**
      * Gets the content of the article.
      *
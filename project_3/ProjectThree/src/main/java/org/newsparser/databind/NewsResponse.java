@@ -1,7 +1,11 @@
 package org.newsparser.databind;
 
+import org.newsparser.output.ArticleRenderer;
+import org.newsparser.output.TextRenderer;
 import org.newsparser.utils.Validatable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -42,7 +46,23 @@ public class NewsResponse implements Validatable {
      */
     @Override
     public boolean isValid() {
-        return status != null && !status.isEmpty() && articles != null && !articles.isEmpty();
+        return invalidReason() == null;
+    }
+
+    /**
+     * Gets the name of the first field that is missing or empty.
+     *
+     * @return the field name, or {@code null} if the NewsResponse is valid
+     */
+    @Override
+    public String invalidReason() {
+        if (status == null || status.isEmpty()) {
+            return "status";
+        }
+        if (articles == null || articles.isEmpty()) {
+            return "articles";
+        }
+        return null;
     }
 
     /**
@@ -111,13 +131,17 @@ public class NewsResponse implements Validatable {
 
     }
 
+    /**
+     * Displays the articles on standard output. The text is rendered into one large buffer
+     * and written in a few writes rather than one write per line.
+     */
     public void displayArticles() {
-        for (Article article : this.getArticles()) {
-            System.out.println("\n--- Article ---");
-            System.out.println("Title: " + article.getTitle());
-            System.out.println("Description: " + article.getDescription());
-            System.out.println("Published Date: " + article.getPublishedDateTime());
-            System.out.println("URL: " + article.getUrl());
+        try {
+            ArticleRenderer renderer = new TextRenderer(ArticleRenderer.newBufferedWriter(System.out));
+            renderer.renderAll(this.getArticles());
+            renderer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 }
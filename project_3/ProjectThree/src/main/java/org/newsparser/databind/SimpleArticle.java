@@ -2,8 +2,12 @@ package org.newsparser.databind;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.newsparser.output.ArticleRenderer;
+import org.newsparser.output.TextRenderer;
 import org.newsparser.utils.Validatable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -56,7 +60,29 @@ public class SimpleArticle implements Validatable {
      */
     @Override
     public boolean isValid() {
-        return title != null && !title.isEmpty() && description != null && !description.isEmpty() && publishedAt != null && url != null && !url.isEmpty();
+        return invalidReason() == null;
+    }
+
+    /**
+     * Gets the name of the first required field that is missing or empty.
+     *
+     * @return the field name, or {@code null} if the SimpleArticle is valid
+     */
+    @Override
+    public String invalidReason() {
+        if (title == null || title.isEmpty()) {
+            return "title";
+        }
+        if (description == null || description.isEmpty()) {
+            return "description";
+        }
+        if (publishedAt == null) {
+            return "publishedAt";
+        }
+        if (url == null || url.isEmpty()) {
+            return "url";
+        }
+        return null;
     }
 
     /**
@@ -106,10 +132,16 @@ public class SimpleArticle implements Validatable {
         return "Title: " + title + "\n" + "Published At: " + publishedAt + "\n" + "Description: " + description + "\n" + "URL: " + url + "\n";
     }
 
-    public void display(){
-        System.out.println("Title: " + this.getTitle());
-        System.out.println("Description: " + this.getDescription());
-        System.out.println("Published Date: " + this.getPublishedAt());
-        System.out.println("URL: " + this.getUrl());
+    /**
+     * Displays the article on standard output in a single buffered write.
+     */
+    public void display() {
+        try {
+            ArticleRenderer renderer = new TextRenderer(ArticleRenderer.newBufferedWriter(System.out));
+            renderer.render(this);
+            renderer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -2,6 +2,7 @@ package org.newsparser.databind;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.newsparser.utils.TextChecks;
 import org.newsparser.utils.Validatable;
 
 /**
@@ -61,6 +62,22 @@ public class Source implements Validatable {
      */
     @Override
     public boolean isValid() {
-        return id != null && !id.trim().isEmpty() && name != null && !name.trim().isEmpty();
+        return invalidReason() == null;
+    }
+
+    /**
+     * Gets the name of the first field that is missing or blank.
+     *
+     * @return the field name, or {@code null} if the source is valid
+     */
+    @Override
+    public String invalidReason() {
+        if (TextChecks.isBlank(id)) {
+            return "source.id";
+        }
+        if (TextChecks.isBlank(name)) {
+            return "source.name";
+        }
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,245 @@
+package org.newsparser.dedup;
+
+import org.newsparser.databind.Article;
+import org.newsparser.utils.Tokenizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Detects near-duplicate articles, such as the same syndicated story published by
+ * several sources with slightly different wording.
+ *
+ * <p>Each article's title and description are reduced to a MinHash signature over
+ * word shingles. Signatures are split into bands and every band is hashed into a
+ * bucket (locality-sensitive hashing), so an incoming article is only compared with
+ * the few articles sharing at least one bucket instead of the whole corpus.</p>
+ *
+ * <p>Every article is assigned a cluster ID. Near duplicates share the cluster ID of the
+ * first article they matched, so downstream consumers can collapse on it. An article with
+ * no words in its title or description cannot be compared, and gets a cluster of its own.</p>
+ */
+public class NearDuplicateDetector {
+
+    /** Default number of LSH bands. */
+    public static final int DEFAULT_BANDS = 16;
+
+    /** Default number of signature rows per band. */
+    public static final int DEFAULT_ROWS = 4;
+
+    /** Default estimated Jaccard similarity at or above which two articles are near duplicates. */
+    public static final double DEFAULT_THRESHOLD = 0.6;
+
+    // Upper bound of candidates verified per bucket, keeping the cost per article bounded
+    private static final int MAX_CANDIDATES_PER_BUCKET = 64;
+
+    private final int bands;
+    private final int rows;
+    private final double threshold;
+    private final long[] seeds;
+
+    private final Map<Long, List<Entry>> buckets = new HashMap<>();
+    private long nextClusterId;
+    private int size;
+
+    /**
+     * Constructs a {@code NearDuplicateDetector} with the default banding and threshold.
+     */
+    public NearDuplicateDetector() {
+        this(DEFAULT_BANDS, DEFAULT_ROWS, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@code NearDuplicateDetector} with the specified banding and threshold.
+     * More rows per band make candidate matches stricter, more bands make them looser.
+     *
+     * @param bands     the number of LSH bands
+     * @param rows      the number of signature rows in each band
+     * @param threshold the estimated similarity, between 0 and 1, required to join a cluster
+     * @throws IllegalArgumentException if any argument is out of range
+     */
+    public NearDuplicateDetector(int bands, int rows, double threshold) {
+        if (bands <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("Bands and rows must be positive.");
+        }
+        if (threshold <= 0 || threshold > 1) {
+            throw new IllegalArgumentException("Threshold must be in (0, 1].");
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.threshold = threshold;
+
+        // Fixed seed so signatures are stable across runs
+        SplittableRandom random = new SplittableRandom(0x5EED_1DEAL);
+        this.seeds = new long[bands * rows];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Assigns a cluster ID to the article and remembers it for future lookups.
+     * If a previously seen article is a near duplicate, its cluster ID is returned;
+     * otherwise a new cluster is started.
+     *
+     * @param article the article to cluster
+     * @return the cluster ID of the article
+     */
+    public synchronized long assignCluster(Article article) {
+        List<String> tokens = tokens(article);
+        if (tokens.isEmpty()) {
+            // Nothing to compare: every empty signature would share every bucket
+            size++;
+            return nextClusterId++;
+        }
+        long[] signature = signature(tokens);
+        long[] bandKeys = bandKeys(signature);
+
+        // Find the most similar candidate among the buckets this article falls into
+        Entry best = null;
+        double bestSimilarity = 0;
+        for (long bandKey : bandKeys) {
+            List<Entry> bucket = buckets.get(bandKey);
+            if (bucket == null) {
+                continue;
+            }
+            int from = Math.max(0, bucket.size() - MAX_CANDIDATES_PER_BUCKET);
+            for (int i = from; i < bucket.size(); i++) {
+                Entry candidate = bucket.get(i);
+                double similarity = similarity(signature, candidate.signature);
+                if (similarity >= threshold && similarity > bestSimilarity) {
+                    best = candidate;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+
+        long clusterId = (best != null) ? best.clusterId : nextClusterId++;
+        Entry entry = new Entry(signature, clusterId);
+        for (long bandKey : bandKeys) {
+            buckets.computeIfAbsent(bandKey, key -> new ArrayList<>(1)).add(entry);
+        }
+        size++;
+        return clusterId;
+    }
+
+    /**
+     * Clusters the given articles and keeps only the first article of each cluster,
+     * in their original order.
+     *
+     * @param articles the articles to collapse
+     * @return one representative article per cluster
+     */
+    public List<Article> collapse(List<Article> articles) {
+        Map<Long, Article> representatives = new LinkedHashMap<>();
+        for (Article article : articles) {
+            representatives.putIfAbsent(assignCluster(article), article);
+        }
+        return new ArrayList<>(representatives.values());
+    }
+
+    /**
+     * Computes the MinHash signature of the article's title and description.
+     *
+     * @param article the article to sign
+     * @return the signature, with {@code bands * rows} entries
+     */
+    public long[] signature(Article article) {
+        return signature(tokens(article));
+    }
+
+    private static List<String> tokens(Article article) {
+        List<String> tokens = Tokenizer.tokenize(article.getTitle());
+        Tokenizer.tokenize(article.getDescription(), tokens::add);
+        return tokens;
+    }
+
+    private long[] signature(List<String> tokens) {
+        long[] signature = new long[seeds.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+
+        if (tokens.size() < 2) {
+            // Too short for bigrams, fall back to single tokens
+            for (String token : tokens) {
+                updateSignature(signature, token.hashCode());
+            }
+        } else {
+            for (int i = 1; i < tokens.size(); i++) {
+                updateSignature(signature, 31L * tokens.get(i - 1).hashCode() + tokens.get(i).hashCode());
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Estimates the Jaccard similarity of two signatures as the fraction of equal entries.
+     *
+     * @param first  the first signature
+     * @param second the second signature
+     * @return the estimated similarity, between 0 and 1
+     */
+    public static double similarity(long[] first, long[] second) {
+        int equal = 0;
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] == second[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / first.length;
+    }
+
+    /**
+     * Gets the number of articles seen so far.
+     *
+     * @return the number of clustered articles
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void updateSignature(long[] signature, long shingle) {
+        for (int i = 0; i < seeds.length; i++) {
+            long hash = mix(shingle ^ seeds[i]);
+            if (hash < signature[i]) {
+                signature[i] = hash;
+            }
+        }
+    }
+
+    private long[] bandKeys(long[] signature) {
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long key = band;
+            for (int row = 0; row < rows; row++) {
+                key = mix(key * 31 + signature[band * rows + row]);
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    // 64-bit finalizer from SplitMix64
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * A remembered article signature and the cluster it belongs to.
+     */
+    private static final class Entry {
+        private final long[] signature;
+        private final long clusterId;
+
+        private Entry(long[] signature, long clusterId) {
+            this.signature = signature;
+            this.clusterId = clusterId;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.newsparser.index;
+
+import org.newsparser.databind.Article;
+
+import java.util.List;
+
+/**
+ * One page of articles returned by {@link PagedArticleSet}, with the cursor for the next page.
+ */
+public class ArticlePage {
+
+    private final List<Article> articles;
+    private final String nextCursor;
+
+    /**
+     * Constructs an ArticlePage with the given articles and next-page cursor.
+     *
+     * @param articles   the articles on this page, newest first
+     * @param nextCursor the cursor for the following page, or {@code null} if this is the last page
+     */
+    public ArticlePage(List<Article> articles, String nextCursor) {
+        this.articles = articles;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the articles on this page.
+     *
+     * @return an unmodifiable list of articles, newest first
+     */
+    public List<Article> getArticles() {
+        return articles;
+    }
+
+    /**
+     * Gets the cursor to pass to {@link PagedArticleSet#page(String, int)} for the following page.
+     *
+     * @return the cursor, or {@code null} if there are no more articles
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Checks whether another page may follow.
+     *
+     * @return true if {@link #getNextCursor()} is not null
+     */
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
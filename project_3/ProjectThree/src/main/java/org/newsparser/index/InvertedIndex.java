@@ -0,0 +1,237 @@
+package org.newsparser.index;
+
+import org.newsparser.databind.Article;
+import org.newsparser.databind.NewsResponse;
+import org.newsparser.utils.Tokenizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory inverted index for keyword search over article titles, descriptions and content.
+ *
+ * <p>Articles are assigned increasing document IDs as they are indexed, and every term maps to a
+ * delta-encoded {@link PostingList}. Queries are answered by intersecting (AND) or merging (OR)
+ * posting lists and returning the most recently published matches first.</p>
+ *
+ * <p>The index is safe for concurrent use: indexing takes a write lock, searches share a read lock.</p>
+ */
+public class InvertedIndex {
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Article[] documents = new Article[16];
+    private long[] publishedAt = new long[16];
+    private int size;
+
+    /**
+     * Indexes a single article.
+     *
+     * @param article the article to index
+     * @return the document ID assigned to the article
+     */
+    public int add(Article article) {
+        lock.writeLock().lock();
+        try {
+            int docId = size;
+            if (docId == documents.length) {
+                documents = Arrays.copyOf(documents, docId * 2);
+                publishedAt = Arrays.copyOf(publishedAt, docId * 2);
+            }
+            documents[docId] = article;
+            publishedAt[docId] = (article.getPublishedDateTime() != null)
+                    ? article.getPublishedDateTime().getTime()
+                    : Long.MIN_VALUE;
+            size++;
+
+            Tokenizer.tokenize(article.getTitle(), term -> addPosting(term, docId));
+            Tokenizer.tokenize(article.getDescription(), term -> addPosting(term, docId));
+            Tokenizer.tokenize(article.getContent(), term -> addPosting(term, docId));
+            return docId;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes every article in the news response.
+     *
+     * @param newsResponse the response whose articles should be indexed
+     */
+    public void addAll(NewsResponse newsResponse) {
+        for (Article article : newsResponse.getArticles()) {
+            add(article);
+        }
+    }
+
+    /**
+     * Finds the articles containing every term of the query (AND semantics).
+     *
+     * @param query the query text, tokenized the same way as indexed articles
+     * @param limit the maximum number of articles to return
+     * @return up to {@code limit} matching articles, most recently published first
+     */
+    public List<Article> searchAll(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+
+            // Drive the intersection from the shortest list
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            PostingList.Cursor driver = lists.get(0).cursor();
+            PostingList.Cursor[] others = new PostingList.Cursor[lists.size() - 1];
+            int[] current = new int[others.length];
+            for (int i = 0; i < others.length; i++) {
+                others[i] = lists.get(i + 1).cursor();
+                current[i] = -1;
+            }
+
+            TopK topK = new TopK(limit);
+            candidates:
+            while (driver.hasNext()) {
+                int docId = driver.next();
+                for (int i = 0; i < others.length; i++) {
+                    if (current[i] < docId) {
+                        current[i] = others[i].advance(docId);
+                        if (current[i] < 0) {
+                            break candidates;
+                        }
+                    }
+                    if (current[i] != docId) {
+                        continue candidates;
+                    }
+                }
+                topK.offer(docId);
+            }
+            return topK.toArticles();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the articles containing at least one term of the query (OR semantics).
+     *
+     * @param query the query text, tokenized the same way as indexed articles
+     * @param limit the maximum number of articles to return
+     * @return up to {@code limit} matching articles, most recently published first
+     */
+    public List<Article> searchAny(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = new BitSet(size);
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                PostingList.Cursor cursor = list.cursor();
+                while (cursor.hasNext()) {
+                    matches.set(cursor.next());
+                }
+            }
+
+            TopK topK = new TopK(limit);
+            for (int docId = matches.nextSetBit(0); docId >= 0; docId = matches.nextSetBit(docId + 1)) {
+                topK.offer(docId);
+            }
+            return topK.toArticles();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of indexed articles.
+     *
+     * @return the number of articles in the index
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of distinct terms in the index.
+     *
+     * @return the vocabulary size
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addPosting(String term, int docId) {
+        postings.computeIfAbsent(term, key -> new PostingList()).add(docId);
+    }
+
+    /**
+     * Keeps the {@code limit} most recent document IDs seen, using a min-heap on publication time.
+     * Must be used while holding the read lock.
+     */
+    private class TopK {
+        private final int limit;
+        private final PriorityQueue<Integer> heap;
+
+        private TopK(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(Math.min(limit, 1024) + 1,
+                    (a, b) -> Long.compare(publishedAt[a], publishedAt[b]));
+        }
+
+        private void offer(int docId) {
+            if (heap.size() < limit) {
+                heap.add(docId);
+            } else if (publishedAt[docId] > publishedAt[heap.peek()]) {
+                heap.poll();
+                heap.add(docId);
+            }
+        }
+
+        private List<Article> toArticles() {
+            List<Article> articles = new ArrayList<>(heap.size());
+            while (!heap.isEmpty()) {
+                articles.add(documents[heap.poll()]);
+            }
+            Collections.reverse(articles);
+            return articles;
+        }
+    }
+}
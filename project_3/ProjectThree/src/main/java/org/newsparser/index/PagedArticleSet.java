@@ -0,0 +1,259 @@
+package org.newsparser.index;
+
+import org.newsparser.databind.Article;
+import org.newsparser.databind.NewsResponse;
+import org.newsparser.databind.Source;
+import org.newsparser.utils.Hashing;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * An in-memory article set served in fixed-size pages, newest first, through opaque cursors.
+ *
+ * <p>Articles are kept in a skip list ordered by publication time, newest first, then by URL
+ * hash. A cursor encodes the {@code (publishedAt, urlHash)} position of the last article on a
+ * page, and the next page is read from the skip list's tail view after that position. A request
+ * therefore touches only the articles it returns, never copies or re-sorts the whole set, and
+ * stays correct while articles are added or removed concurrently: articles inserted behind a
+ * cursor are not returned again and none ahead of it are skipped.</p>
+ *
+ * <p>Each URL is held once; adding an article with a URL already present replaces the older
+ * version. Articles without a URL are ignored. Articles without a publication time sort last.
+ * Two different URLs published at the same millisecond are assumed not to share a 64-bit hash.</p>
+ */
+public class PagedArticleSet {
+
+    /**
+     * The largest number of articles returned in a single page.
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final Base64.Encoder CURSOR_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder CURSOR_DECODER = Base64.getUrlDecoder();
+
+    private final ConcurrentSkipListMap<Position, Article> articles = new ConcurrentSkipListMap<>();
+    private final Map<String, Position> positionsByUrl = new ConcurrentHashMap<>();
+
+    /**
+     * Adds an article, replacing any article with the same URL.
+     *
+     * @param article the article to add
+     * @return true if the article was added, false if it has no URL
+     */
+    public boolean add(Article article) {
+        String url = article.getUrl();
+        if (url == null) {
+            return false;
+        }
+        Position position = new Position(article.getPublishedTimeMillis(), Hashing.hash64(url));
+        // Runs atomically per URL, so concurrent versions of one article cannot both survive
+        positionsByUrl.compute(url, (key, previous) -> {
+            if (previous != null && !previous.equals(position)) {
+                articles.remove(previous);
+            }
+            articles.put(position, article);
+            return position;
+        });
+        return true;
+    }
+
+    /**
+     * Adds every article in the news response.
+     *
+     * @param newsResponse the response whose articles should be added
+     */
+    public void addAll(NewsResponse newsResponse) {
+        for (Article article : newsResponse.getArticles()) {
+            add(article);
+        }
+    }
+
+    /**
+     * Removes the article with the given URL.
+     *
+     * @param url the URL of the article to remove
+     * @return true if an article was removed
+     */
+    public boolean remove(String url) {
+        boolean[] removed = new boolean[1];
+        positionsByUrl.computeIfPresent(url, (key, position) -> {
+            removed[0] = articles.remove(position) != null;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Removes the oldest articles until at most {@code maxArticles} remain and none was
+     * published before {@code minPublishedMillis}. Articles without a publication time count
+     * as the oldest. Only the removed articles are visited.
+     *
+     * @param maxArticles        the number of articles to keep at most
+     * @param minPublishedMillis the earliest publication time to keep, or {@link Long#MIN_VALUE} to keep any
+     * @return the removed articles, oldest first
+     */
+    public List<Article> evictOldest(int maxArticles, long minPublishedMillis) {
+        List<Article> evicted = new ArrayList<>();
+        // Counting the skip list visits every node, so the excess is counted once up front
+        int excess = articles.size() - maxArticles;
+        Map.Entry<Position, Article> oldest;
+        while ((oldest = articles.lastEntry()) != null
+                && (excess > 0 || oldest.getKey().publishedAt < minPublishedMillis)) {
+            Position position = oldest.getKey();
+            Article article = oldest.getValue();
+            boolean[] removed = new boolean[1];
+            positionsByUrl.computeIfPresent(article.getUrl(), (key, current) -> {
+                if (!current.equals(position)) {
+                    return current;
+                }
+                removed[0] = articles.remove(position, article);
+                return null;
+            });
+            if (!removed[0]) {
+                // Replaced or removed concurrently; make sure this version is gone and move on
+                articles.remove(position, article);
+                continue;
+            }
+            evicted.add(article);
+            excess--;
+        }
+        return evicted;
+    }
+
+    /**
+     * Gets the number of articles in the set.
+     *
+     * @return the article count
+     */
+    public int size() {
+        return articles.size();
+    }
+
+    /**
+     * Gets every article in the set, newest first.
+     *
+     * @return a copy of the articles
+     */
+    public List<Article> toList() {
+        return new ArrayList<>(articles.values());
+    }
+
+    /**
+     * Gets the first page of articles.
+     *
+     * @param limit the maximum number of articles, at most {@link #MAX_PAGE_SIZE}
+     * @return the newest articles
+     * @throws IllegalArgumentException if the limit is not between 1 and {@link #MAX_PAGE_SIZE}
+     */
+    public ArticlePage firstPage(int limit) {
+        return page(null, limit);
+    }
+
+    /**
+     * Gets the page of articles following a cursor.
+     *
+     * @param cursor the cursor from a previous page, or {@code null} for the first page
+     * @param limit  the maximum number of articles, at most {@link #MAX_PAGE_SIZE}
+     * @return the articles after the cursor, newest first
+     * @throws IllegalArgumentException if the cursor is malformed or the limit is not between 1 and {@link #MAX_PAGE_SIZE}
+     */
+    public ArticlePage page(String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ": " + limit);
+        }
+        ConcurrentNavigableMap<Position, Article> remaining = (cursor != null)
+                ? articles.tailMap(decodeCursor(cursor), false)
+                : articles;
+
+        List<Article> page = new ArrayList<>(Math.min(limit, 64));
+        Position last = null;
+        Iterator<Map.Entry<Position, Article>> entries = remaining.entrySet().iterator();
+        while (page.size() < limit && entries.hasNext()) {
+            Map.Entry<Position, Article> entry = entries.next();
+            page.add(entry.getValue());
+            last = entry.getKey();
+        }
+        String nextCursor = (last != null && entries.hasNext()) ? encodeCursor(last) : null;
+        return new ArticlePage(Collections.unmodifiableList(page), nextCursor);
+    }
+
+    /**
+     * Finds the newest articles published within a time window, optionally from one source.
+     * Only the part of the set inside the window is visited. Articles without a publication
+     * time are only found when the window has no lower bound.
+     *
+     * @param sourceId   the source id or name to match, ignoring case, or {@code null} for every source
+     * @param fromMillis the earliest publication time, inclusive, or {@link Long#MIN_VALUE} for no lower bound
+     * @param toMillis   the latest publication time, inclusive, or {@link Long#MAX_VALUE} for no upper bound
+     * @param limit      the maximum number of articles, at most {@link #MAX_PAGE_SIZE}
+     * @return the matching articles, newest first
+     * @throws IllegalArgumentException if the limit is not between 1 and {@link #MAX_PAGE_SIZE}
+     */
+    public List<Article> query(String sourceId, long fromMillis, long toMillis, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ": " + limit);
+        }
+        if (fromMillis > toMillis) {
+            return List.of();
+        }
+        ConcurrentNavigableMap<Position, Article> window = articles.subMap(
+                new Position(toMillis, Long.MIN_VALUE), true, new Position(fromMillis, Long.MAX_VALUE), true);
+
+        List<Article> matches = new ArrayList<>(Math.min(limit, 64));
+        for (Article article : window.values()) {
+            if (sourceId == null || isFrom(article, sourceId)) {
+                matches.add(article);
+                if (matches.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    private static boolean isFrom(Article article, String sourceId) {
+        Source source = article.getSource();
+        return source != null
+                && (sourceId.equalsIgnoreCase(source.getId()) || sourceId.equalsIgnoreCase(source.getName()));
+    }
+
+    private static String encodeCursor(Position position) {
+        ByteBuffer bytes = ByteBuffer.allocate(2 * Long.BYTES);
+        bytes.putLong(position.publishedAt).putLong(position.urlHash);
+        return CURSOR_ENCODER.encodeToString(bytes.array());
+    }
+
+    private static Position decodeCursor(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = CURSOR_DECODER.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+        }
+        if (bytes.length != 2 * Long.BYTES) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new Position(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * A stable position in the set: newer publication times first, then ascending URL hash.
+     */
+    private record Position(long publishedAt, long urlHash) implements Comparable<Position> {
+        @Override
+        public int compareTo(Position other) {
+            int byTime = Long.compare(other.publishedAt, publishedAt);
+            return (byTime != 0) ? byTime : Long.compare(urlHash, other.urlHash);
+        }
+    }
+}
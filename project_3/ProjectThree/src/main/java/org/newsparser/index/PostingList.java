@@ -0,0 +1,97 @@
+package org.newsparser.index;
+
+import java.util.Arrays;
+
+/**
+ * A posting list of the document IDs containing a term.
+ * Document IDs are appended in increasing order and stored as gaps between
+ * consecutive IDs in a primitive {@code int} array, which keeps the lists compact
+ * and avoids boxing.
+ */
+class PostingList {
+
+    private int[] deltas = new int[4];
+    private int count;
+    private int lastDocId = -1;
+
+    /**
+     * Appends a document ID. IDs must be added in increasing order;
+     * adding the most recently added ID again has no effect.
+     *
+     * @param docId the document ID to append
+     */
+    void add(int docId) {
+        if (docId == lastDocId) {
+            return;
+        }
+        if (docId < lastDocId) {
+            throw new IllegalArgumentException("Document IDs must be added in increasing order.");
+        }
+        if (count == deltas.length) {
+            deltas = Arrays.copyOf(deltas, count * 2);
+        }
+        deltas[count++] = docId - Math.max(lastDocId, 0);
+        lastDocId = docId;
+    }
+
+    /**
+     * Gets the number of documents in this list.
+     *
+     * @return the number of document IDs
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Creates a cursor over the document IDs, in increasing order.
+     *
+     * @return a new cursor positioned before the first ID
+     */
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * A forward-only cursor decoding the gaps back into document IDs.
+     */
+    class Cursor {
+        private int position;
+        private int docId;
+
+        /**
+         * Checks whether more document IDs remain.
+         *
+         * @return true if {@link #next()} can be called
+         */
+        boolean hasNext() {
+            return position < count;
+        }
+
+        /**
+         * Decodes and returns the next document ID.
+         *
+         * @return the next document ID
+         */
+        int next() {
+            docId += deltas[position++];
+            return docId;
+        }
+
+        /**
+         * Advances to the first document ID greater than or equal to the target.
+         *
+         * @param target the document ID to advance to
+         * @return the first ID at or after the target, or -1 if the list is exhausted
+         */
+        int advance(int target) {
+            while (hasNext()) {
+                int next = next();
+                if (next >= target) {
+                    return next;
+                }
+            }
+            return -1;
+        }
+    }
+}
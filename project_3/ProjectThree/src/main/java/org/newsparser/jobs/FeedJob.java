@@ -0,0 +1,98 @@
+package org.newsparser.jobs;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.newsparser.sources.SourceFormat;
+
+/**
+ * A single feed to fetch and parse: where the data comes from, what format it is in,
+ * and how long the job may run.
+ */
+public class FeedJob {
+
+    private final String id;
+    private final SourceFormat.ArticleSourceType sourceType;
+    private final SourceFormat.ArticleFormatType formatType;
+    private final String location;
+    private final long timeoutMillis;
+
+    /**
+     * Constructs a FeedJob with the specified properties.
+     *
+     * @param id            a name for the job in logs and results, or null to use the location
+     * @param sourceType    the kind of source holding the data
+     * @param formatType    the format of the data
+     * @param location      the URL or resource name of the data
+     * @param timeoutMillis the maximum running time, or null or 0 to use the scheduler's default
+     */
+    @JsonCreator
+    public FeedJob(
+            @JsonProperty("id") String id,
+            @JsonProperty(value = "source", required = true) SourceFormat.ArticleSourceType sourceType,
+            @JsonProperty(value = "format", required = true) SourceFormat.ArticleFormatType formatType,
+            @JsonProperty(value = "location", required = true) String location,
+            @JsonProperty("timeoutMillis") Long timeoutMillis) {
+        this.id = (id != null) ? id : location;
+        this.sourceType = sourceType;
+        this.formatType = formatType;
+        this.location = location;
+        this.timeoutMillis = (timeoutMillis != null) ? timeoutMillis : 0;
+    }
+
+    /**
+     * Gets the name of the job.
+     *
+     * @return the job id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the kind of source holding the data.
+     *
+     * @return the source type
+     */
+    @JsonProperty("source")
+    public SourceFormat.ArticleSourceType getSourceType() {
+        return sourceType;
+    }
+
+    /**
+     * Gets the format of the data.
+     *
+     * @return the format type
+     */
+    @JsonProperty("format")
+    public SourceFormat.ArticleFormatType getFormatType() {
+        return formatType;
+    }
+
+    /**
+     * Gets the URL or resource name of the data.
+     *
+     * @return the location
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * Gets the maximum running time of the job.
+     *
+     * @return the timeout in milliseconds, or 0 to use the scheduler's default
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Returns a string representation of the job.
+     *
+     * @return the job id, source type, format type and location
+     */
+    @Override
+    public String toString() {
+        return "FeedJob [id=" + id + ", source=" + sourceType + ", format=" + formatType + ", location=" + location + "]";
+    }
+}
@@ -0,0 +1,189 @@
+package org.newsparser.jobs;
+
+import org.newsparser.parsers.BaseJsonParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs {@link FeedJob}s in parallel on a fixed number of worker threads, resolving each job's
+ * parser through a {@link ParserRegistry}.
+ *
+ * <p>Each job's timeout starts when a worker picks the job up, not when it is submitted, so
+ * jobs waiting in the queue are not penalised. When a job runs past its timeout its result is
+ * completed as {@link JobResult.Status#TIMED_OUT} at once and its worker is interrupted; a job
+ * blocked in I/O that ignores interruption keeps its worker until the I/O returns, but no
+ * longer holds up its caller.</p>
+ */
+public class FeedJobScheduler implements AutoCloseable {
+
+    /**
+     * The timeout of jobs that do not set one when none is given, in milliseconds.
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 30_000;
+
+    private final ParserRegistry registry;
+    private final long defaultTimeoutMillis;
+    private final Logger logger;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService watchdog;
+
+    /**
+     * Constructs a {@code FeedJobScheduler} with the default timeout.
+     *
+     * @param registry the registry resolving each job's parser
+     * @param threads  the number of jobs run at once
+     * @param logger   the {@link Logger} for job failures, also given to each parser
+     */
+    public FeedJobScheduler(ParserRegistry registry, int threads, Logger logger) {
+        this(registry, threads, DEFAULT_TIMEOUT_MILLIS, logger);
+    }
+
+    /**
+     * Constructs a {@code FeedJobScheduler}.
+     *
+     * @param registry             the registry resolving each job's parser
+     * @param threads              the number of jobs run at once
+     * @param defaultTimeoutMillis the timeout of jobs that do not set one
+     * @param logger               the {@link Logger} for job failures, also given to each parser
+     */
+    public FeedJobScheduler(ParserRegistry registry, int threads, long defaultTimeoutMillis, Logger logger) {
+        if (threads <= 0 || defaultTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Thread count and default timeout must be positive.");
+        }
+        this.registry = registry;
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+        this.logger = logger;
+        this.workers = Executors.newFixedThreadPool(threads, daemonThreads("feed-job-"));
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(daemonThreads("feed-job-watchdog-"));
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Runs every job in a manifest, using the manifest's default timeout if it sets one.
+     *
+     * @param manifest the jobs to run
+     * @param action   the work to perform with each job's parser
+     * @return the result of each job, in manifest order
+     */
+    public List<JobResult> runAll(FeedManifest manifest, JobAction action) {
+        long timeout = (manifest.getDefaultTimeoutMillis() > 0) ? manifest.getDefaultTimeoutMillis() : defaultTimeoutMillis;
+        List<CompletableFuture<JobResult>> futures = new ArrayList<>(manifest.getJobs().size());
+        for (FeedJob job : manifest.getJobs()) {
+            futures.add(submit(job, action, timeout));
+        }
+        return collect(futures);
+    }
+
+    /**
+     * Runs every job and waits for all of them to finish or time out.
+     *
+     * @param jobs   the jobs to run
+     * @param action the work to perform with each job's parser
+     * @return the result of each job, in the order given
+     */
+    public List<JobResult> runAll(List<FeedJob> jobs, JobAction action) {
+        List<CompletableFuture<JobResult>> futures = new ArrayList<>(jobs.size());
+        for (FeedJob job : jobs) {
+            futures.add(submit(job, action));
+        }
+        return collect(futures);
+    }
+
+    private static List<JobResult> collect(List<CompletableFuture<JobResult>> futures) {
+        List<JobResult> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<JobResult> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * Queues a job to run.
+     *
+     * @param job    the job to run
+     * @param action the work to perform with the job's parser
+     * @return a future completed with the job's result; it never completes exceptionally
+     */
+    public CompletableFuture<JobResult> submit(FeedJob job, JobAction action) {
+        return submit(job, action, defaultTimeoutMillis);
+    }
+
+    private CompletableFuture<JobResult> submit(FeedJob job, JobAction action, long defaultTimeout) {
+        long timeoutMillis = (job.getTimeoutMillis() > 0) ? job.getTimeoutMillis() : defaultTimeout;
+        CompletableFuture<JobResult> result = new CompletableFuture<>();
+        workers.execute(() -> run(job, action, timeoutMillis, result));
+        return result;
+    }
+
+    private void run(FeedJob job, JobAction action, long timeoutMillis, CompletableFuture<JobResult> result) {
+        Thread worker = Thread.currentThread();
+        Object lock = new Object();
+        boolean[] running = {true};
+        long start = System.nanoTime();
+
+        // Both sides finish under the lock, so a late timeout never interrupts the worker once it has moved on
+        ScheduledFuture<?> timeout = watchdog.schedule(() -> {
+            synchronized (lock) {
+                if (running[0]) {
+                    running[0] = false;
+                    logger.warning("Job " + job.getId() + " timed out after " + timeoutMillis + " ms.");
+                    result.complete(new JobResult(job, JobResult.Status.TIMED_OUT, elapsedMillis(start), null));
+                    worker.interrupt();
+                }
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+
+        JobResult outcome;
+        try {
+            BaseJsonParser parser = registry.create(job, logger);
+            action.run(job, parser);
+            outcome = new JobResult(job, JobResult.Status.SUCCEEDED, elapsedMillis(start), null);
+        } catch (Exception e) {
+            outcome = new JobResult(job, JobResult.Status.FAILED, elapsedMillis(start), e);
+        }
+        timeout.cancel(false);
+        synchronized (lock) {
+            if (running[0]) {
+                running[0] = false;
+                if (outcome.getError() != null) {
+                    logger.log(Level.WARNING, "Job " + job.getId() + " failed: " + outcome.getError().getMessage(),
+                            outcome.getError());
+                }
+                result.complete(outcome);
+            }
+        }
+        Thread.interrupted();
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    /**
+     * Stops the worker threads. Running jobs are interrupted and queued jobs are dropped.
+     */
+    @Override
+    public void close() {
+        workers.shutdownNow();
+        watchdog.shutdownNow();
+    }
+}
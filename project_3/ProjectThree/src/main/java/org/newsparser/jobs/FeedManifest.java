@@ -0,0 +1,88 @@
+package org.newsparser.jobs;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A list of feed jobs read from a JSON manifest:
+ *
+ * <pre>
+ * {
+ *   "defaultTimeoutMillis": 10000,
+ *   "jobs": [
+ *     {"id": "top-us", "source": "WEB", "format": "NEWS_RESPONSE", "location": "https://newsapi.org/..."},
+ *     {"source": "FILE_JSON", "format": "SIMPLE_ARTICLE", "location": "simple.txt", "timeoutMillis": 500}
+ *   ]
+ * }
+ * </pre>
+ */
+public class FeedManifest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final long defaultTimeoutMillis;
+    private final List<FeedJob> jobs;
+
+    /**
+     * Constructs a FeedManifest with the specified jobs.
+     *
+     * @param defaultTimeoutMillis the timeout of jobs that do not set one, or null or 0 to use the scheduler's default
+     * @param jobs                 the jobs to run
+     */
+    @JsonCreator
+    public FeedManifest(
+            @JsonProperty("defaultTimeoutMillis") Long defaultTimeoutMillis,
+            @JsonProperty(value = "jobs", required = true) List<FeedJob> jobs) {
+        this.defaultTimeoutMillis = (defaultTimeoutMillis != null) ? defaultTimeoutMillis : 0;
+        this.jobs = List.copyOf(jobs);
+    }
+
+    /**
+     * Reads a manifest from a file.
+     *
+     * @param path the manifest file
+     * @return the manifest
+     * @throws IOException if the file cannot be read or is not a valid manifest
+     */
+    public static FeedManifest load(Path path) throws IOException {
+        try (InputStream json = Files.newInputStream(path)) {
+            return load(json);
+        }
+    }
+
+    /**
+     * Reads a manifest from a stream. The stream is not closed.
+     *
+     * @param json the manifest contents
+     * @return the manifest
+     * @throws IOException if the stream cannot be read or is not a valid manifest
+     */
+    public static FeedManifest load(InputStream json) throws IOException {
+        return OBJECT_MAPPER.readValue(json, FeedManifest.class);
+    }
+
+    /**
+     * Gets the timeout of jobs that do not set one.
+     *
+     * @return the timeout in milliseconds, or 0 to use the scheduler's default
+     */
+    public long getDefaultTimeoutMillis() {
+        return defaultTimeoutMillis;
+    }
+
+    /**
+     * Gets the jobs to run.
+     *
+     * @return an unmodifiable list of jobs
+     */
+    public List<FeedJob> getJobs() {
+        return jobs;
+    }
+}
@@ -0,0 +1,24 @@
+package org.newsparser.jobs;
+
+import org.newsparser.parsers.BaseJsonParser;
+
+/**
+ * The work a {@link FeedJobScheduler} performs with the parser resolved for each job.
+ */
+@FunctionalInterface
+public interface JobAction {
+
+    /**
+     * Displays the job's articles with {@link BaseJsonParser#visit()}, as {@code Main} does.
+     */
+    JobAction VISIT = (job, parser) -> parser.visit();
+
+    /**
+     * Runs the job. Implementations should respond to interruption, which signals a timeout.
+     *
+     * @param job    the job being run
+     * @param parser the parser reading the job's source
+     * @throws Exception if the job fails
+     */
+    void run(FeedJob job, BaseJsonParser parser) throws Exception;
+}
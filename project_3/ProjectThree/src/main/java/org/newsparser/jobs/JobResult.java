@@ -0,0 +1,87 @@
+package org.newsparser.jobs;
+
+/**
+ * The outcome of running one {@link FeedJob}.
+ */
+public class JobResult {
+
+    /**
+     * How a job ended.
+     */
+    public enum Status {
+        /** The job ran to completion. */
+        SUCCEEDED,
+
+        /** The job threw an exception. */
+        FAILED,
+
+        /** The job ran past its timeout and was interrupted. */
+        TIMED_OUT
+    }
+
+    private final FeedJob job;
+    private final Status status;
+    private final long elapsedMillis;
+    private final Throwable error;
+
+    /**
+     * Constructs a JobResult with the specified properties.
+     *
+     * @param job           the job that ran
+     * @param status        how the job ended
+     * @param elapsedMillis how long the job ran
+     * @param error         the exception that failed the job, or null
+     */
+    public JobResult(FeedJob job, Status status, long elapsedMillis, Throwable error) {
+        this.job = job;
+        this.status = status;
+        this.elapsedMillis = elapsedMillis;
+        this.error = error;
+    }
+
+    /**
+     * Gets the job that ran.
+     *
+     * @return the job
+     */
+    public FeedJob getJob() {
+        return job;
+    }
+
+    /**
+     * Gets how the job ended.
+     *
+     * @return the status
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets how long the job ran, up to its timeout.
+     *
+     * @return the running time in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Gets the exception that failed the job.
+     *
+     * @return the exception, or null unless the status is {@link Status#FAILED}
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Returns a string representation of the result.
+     *
+     * @return the job id, status and running time
+     */
+    @Override
+    public String toString() {
+        return "JobResult [job=" + job.getId() + ", status=" + status + ", elapsedMillis=" + elapsedMillis + "]";
+    }
+}
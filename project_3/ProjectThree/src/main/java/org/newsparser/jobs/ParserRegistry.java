@@ -0,0 +1,133 @@
+package org.newsparser.jobs;
+
+import org.newsparser.parsers.BaseJsonParser;
+import org.newsparser.parsers.NewsResponseJsonParser;
+import org.newsparser.parsers.SimpleNewsResponseJsonParser;
+import org.newsparser.sources.ArticleSource;
+import org.newsparser.sources.CircuitBreakers;
+import org.newsparser.sources.ConcurrencyLimiters;
+import org.newsparser.sources.FileJsonSource;
+import org.newsparser.sources.RequestHedging;
+import org.newsparser.sources.SourceFormat;
+import org.newsparser.sources.URLJsonSource;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Resolves a {@link FeedJob} to its {@link ArticleSource} and {@link BaseJsonParser} through
+ * tables keyed by the source and format enums, built once, instead of checking parser classes
+ * for every job as {@link SourceFormat#accept(BaseJsonParser)} does.
+ *
+ * <p>A registry is filled before it is shared and is then only read, so lookups from many
+ * scheduler threads need no locking.</p>
+ */
+public class ParserRegistry {
+
+    private final Map<SourceFormat.ArticleSourceType, Function<String, ArticleSource>> sources =
+            new EnumMap<>(SourceFormat.ArticleSourceType.class);
+    private final Map<SourceFormat.ArticleFormatType, BiFunction<ArticleSource, Logger, BaseJsonParser>> parsers =
+            new EnumMap<>(SourceFormat.ArticleFormatType.class);
+    private final Map<SourceFormat.ArticleFormatType, Set<SourceFormat.ArticleSourceType>> supportedSources =
+            new EnumMap<>(SourceFormat.ArticleFormatType.class);
+
+    /**
+     * Creates a registry for the built-in sources and parsers, with the same format and
+     * source combinations that {@link SourceFormat} accepts.
+     *
+     * @return the standard registry
+     */
+    public static ParserRegistry standard() {
+        ParserRegistry registry = new ParserRegistry();
+        registry.registerSource(SourceFormat.ArticleSourceType.WEB, URLJsonSource::new);
+        registry.registerSource(SourceFormat.ArticleSourceType.FILE_JSON, FileJsonSource::new);
+        registry.registerParser(SourceFormat.ArticleFormatType.NEWS_RESPONSE, NewsResponseJsonParser::new,
+                EnumSet.allOf(SourceFormat.ArticleSourceType.class));
+        registry.registerParser(SourceFormat.ArticleFormatType.SIMPLE_ARTICLE, SimpleNewsResponseJsonParser::new,
+                EnumSet.of(SourceFormat.ArticleSourceType.FILE_JSON));
+        return registry;
+    }
+
+    /**
+     * Registers how sources of a type are created from a job location.
+     *
+     * @param sourceType the source type
+     * @param factory    creates a source from a location
+     */
+    public void registerSource(SourceFormat.ArticleSourceType sourceType, Function<String, ArticleSource> factory) {
+        sources.put(sourceType, factory);
+    }
+
+    /**
+     * Reads every source registered so far through the circuit breaker of its location, so
+     * jobs for a location that keeps failing fail fast instead of waiting on it.
+     *
+     * @param breakers the breakers, shared by every job for the same location
+     */
+    public void useCircuitBreakers(CircuitBreakers breakers) {
+        sources.replaceAll((type, factory) -> location -> breakers.wrap(location, factory.apply(location)));
+    }
+
+    /**
+     * Reads every source registered so far within the adaptive concurrency limit of its host,
+     * so fetches from one host are throttled to what it sustains whatever the thread count.
+     *
+     * @param limiters the limiters, shared by every job for the same host
+     */
+    public void useConcurrencyLimiters(ConcurrencyLimiters limiters) {
+        sources.replaceAll((type, factory) -> location -> limiters.wrap(location, factory.apply(location)));
+    }
+
+    /**
+     * Hedges slow reads of the web sources registered so far, so a fetch stuck far beyond the
+     * usual latency of its host is raced by a second one instead of holding up its cycle. File
+     * sources are left alone, as a second read of the same disk would be no faster.
+     *
+     * @param hedging the latency history and hedge budget of each host
+     */
+    public void useHedging(RequestHedging hedging) {
+        sources.computeIfPresent(SourceFormat.ArticleSourceType.WEB,
+                (type, factory) -> location -> hedging.wrap(location, factory.apply(location)));
+    }
+
+    /**
+     * Registers how parsers of a format are created, and which source types they accept.
+     *
+     * @param formatType       the format type
+     * @param factory          creates a parser from a source and logger
+     * @param supportedSources the source types the format may be read from
+     */
+    public void registerParser(SourceFormat.ArticleFormatType formatType,
+                               BiFunction<ArticleSource, Logger, BaseJsonParser> factory,
+                               Set<SourceFormat.ArticleSourceType> supportedSources) {
+        parsers.put(formatType, factory);
+        this.supportedSources.put(formatType, EnumSet.copyOf(supportedSources));
+    }
+
+    /**
+     * Creates the parser for a job.
+     *
+     * @param job    the job
+     * @param logger the {@link Logger} given to the parser
+     * @return a parser reading the job's source
+     * @throws IllegalArgumentException if the job's format or source type is not registered,
+     *                                  or the format cannot be read from that source type
+     */
+    public BaseJsonParser create(FeedJob job, Logger logger) {
+        Function<String, ArticleSource> sourceFactory = sources.get(job.getSourceType());
+        BiFunction<ArticleSource, Logger, BaseJsonParser> parserFactory = parsers.get(job.getFormatType());
+        if (sourceFactory == null || parserFactory == null) {
+            throw new IllegalArgumentException("No parser registered for " + job.getFormatType()
+                    + " from " + job.getSourceType() + ".");
+        }
+        if (!supportedSources.get(job.getFormatType()).contains(job.getSourceType())) {
+            throw new IllegalArgumentException(job.getFormatType() + " cannot be read from " + job.getSourceType() + ".");
+        }
+        return parserFactory.apply(sourceFactory.apply(job.getLocation()), logger);
+    }
+}
@@ -0,0 +1,108 @@
+package org.newsparser.jobs;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * How a {@link PollingScheduler} adapts the interval between polls of a feed.
+ *
+ * <p>An unchanged payload multiplies the interval by the backoff factor, and a changed one
+ * divides it by the speed-up factor, always within the minimum and maximum. Each delay is then
+ * spread by up to the jitter fraction in either direction, so feeds started together drift
+ * apart instead of polling in lockstep.</p>
+ */
+public class PollingPolicy {
+
+    /**
+     * The policy used when none is given: between 30 seconds and 30 minutes, starting at one
+     * minute, doubling when unchanged, halving when changed, with 10% jitter.
+     */
+    public static final PollingPolicy DEFAULT = new PollingPolicy(30_000, 1_800_000, 60_000, 2.0, 2.0, 0.1);
+
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+    private final long initialIntervalMillis;
+    private final double backoffFactor;
+    private final double speedUpFactor;
+    private final double jitter;
+
+    /**
+     * Constructs a PollingPolicy with the specified properties.
+     *
+     * @param minIntervalMillis     the shortest interval between polls
+     * @param maxIntervalMillis     the longest interval between polls
+     * @param initialIntervalMillis the interval before the first change is seen
+     * @param backoffFactor         the factor the interval grows by after an unchanged payload, at least 1
+     * @param speedUpFactor         the factor the interval shrinks by after a changed payload, at least 1
+     * @param jitter                the largest fraction a delay is randomly shortened or lengthened by, from 0 to 1
+     */
+    public PollingPolicy(long minIntervalMillis, long maxIntervalMillis, long initialIntervalMillis,
+                         double backoffFactor, double speedUpFactor, double jitter) {
+        if (minIntervalMillis <= 0 || maxIntervalMillis < minIntervalMillis
+                || initialIntervalMillis < minIntervalMillis || initialIntervalMillis > maxIntervalMillis) {
+            throw new IllegalArgumentException("Intervals must be positive, with min <= initial <= max.");
+        }
+        if (backoffFactor < 1 || speedUpFactor < 1 || jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Factors must be at least 1 and jitter between 0 and 1.");
+        }
+        this.minIntervalMillis = minIntervalMillis;
+        this.maxIntervalMillis = maxIntervalMillis;
+        this.initialIntervalMillis = initialIntervalMillis;
+        this.backoffFactor = backoffFactor;
+        this.speedUpFactor = speedUpFactor;
+        this.jitter = jitter;
+    }
+
+    /**
+     * Computes the interval after a poll.
+     *
+     * @param currentIntervalMillis the interval before the poll
+     * @param changed               whether the poll returned a new payload
+     * @return the new interval, between the minimum and maximum
+     */
+    public long nextInterval(long currentIntervalMillis, boolean changed) {
+        double next = changed ? currentIntervalMillis / speedUpFactor : currentIntervalMillis * backoffFactor;
+        return Math.clamp((long) next, minIntervalMillis, maxIntervalMillis);
+    }
+
+    /**
+     * Spreads a delay by a random amount of up to the jitter fraction in either direction.
+     *
+     * @param intervalMillis the delay to spread
+     * @param random         the random number source
+     * @return the jittered delay, at least 1 millisecond
+     */
+    public long jittered(long intervalMillis, RandomGenerator random) {
+        if (jitter == 0) {
+            return intervalMillis;
+        }
+        double spread = intervalMillis * jitter;
+        return Math.max(1, Math.round(intervalMillis + random.nextDouble(-spread, spread)));
+    }
+
+    /**
+     * Gets the shortest interval between polls.
+     *
+     * @return the minimum interval in milliseconds
+     */
+    public long getMinIntervalMillis() {
+        return minIntervalMillis;
+    }
+
+    /**
+     * Gets the longest interval between polls.
+     *
+     * @return the maximum interval in milliseconds
+     */
+    public long getMaxIntervalMillis() {
+        return maxIntervalMillis;
+    }
+
+    /**
+     * Gets the interval before the first change is seen.
+     *
+     * @return the initial interval in milliseconds
+     */
+    public long getInitialIntervalMillis() {
+        return initialIntervalMillis;
+    }
+}
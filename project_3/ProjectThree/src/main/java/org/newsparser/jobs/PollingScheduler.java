@@ -0,0 +1,246 @@
+package org.newsparser.jobs;
+
+import org.newsparser.sources.ArticleSource;
+import org.newsparser.sources.SourceUnavailableException;
+import org.newsparser.utils.Hashing;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Polls {@link ArticleSource}s repeatedly inside one long-lived process, handing each changed
+ * payload to a listener.
+ *
+ * <p>Each feed adapts its own interval with a {@link PollingPolicy}: payloads are compared by
+ * their 64-bit hash, so a feed that keeps returning the same document is polled less and less
+ * often, while a busy feed is polled more often. A failed poll backs off like an unchanged one;
+ * that includes a poll whose listener throws, and its payload is handed over again next time.
+ * The first poll of each feed is delayed by a random part of its initial interval, and every
+ * later delay is jittered, so feeds registered together do not poll together.</p>
+ *
+ * <p>Before each poll the scheduler asks its backpressure check whether downstream can accept
+ * more work. If it cannot, the poll is skipped without fetching and retried after the feed's
+ * current interval, which is left unchanged.</p>
+ */
+public class PollingScheduler implements AutoCloseable {
+
+    private final PollingPolicy policy;
+    private final BooleanSupplier backpressure;
+    private final Logger logger;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<String, PolledFeed> feeds = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a {@code PollingScheduler} without backpressure.
+     *
+     * @param policy  how poll intervals adapt
+     * @param threads the number of polls run at once
+     * @param logger  the {@link Logger} for failed polls
+     */
+    public PollingScheduler(PollingPolicy policy, int threads, Logger logger) {
+        this(policy, threads, () -> false, logger);
+    }
+
+    /**
+     * Constructs a {@code PollingScheduler}.
+     *
+     * @param policy       how poll intervals adapt
+     * @param threads      the number of polls run at once
+     * @param backpressure returns true while downstream queues are full and polls should be skipped
+     * @param logger       the {@link Logger} for failed polls
+     */
+    public PollingScheduler(PollingPolicy policy, int threads, BooleanSupplier backpressure, Logger logger) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive.");
+        }
+        this.policy = policy;
+        this.backpressure = backpressure;
+        this.logger = logger;
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, "feed-poller-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Starts polling a source.
+     *
+     * @param id       a name for the feed, unique within this scheduler
+     * @param source   the source to poll
+     * @param listener receives each payload that differs from the previous one, including the first
+     * @return a handle for the feed's statistics and for stopping it
+     * @throws IllegalArgumentException if a feed with the same id is already polled
+     */
+    public PolledFeed schedule(String id, ArticleSource source, Consumer<String> listener) {
+        PolledFeed feed = new PolledFeed(id, source, listener);
+        if (feeds.putIfAbsent(id, feed) != null) {
+            throw new IllegalArgumentException("Feed " + id + " is already scheduled.");
+        }
+        feed.scheduleNext(ThreadLocalRandom.current().nextLong(policy.getInitialIntervalMillis()));
+        return feed;
+    }
+
+    /**
+     * Gets a polled feed by id.
+     *
+     * @param id the feed id
+     * @return the feed, or null if no feed with that id is polled
+     */
+    public PolledFeed getFeed(String id) {
+        return feeds.get(id);
+    }
+
+    /**
+     * Stops polling every feed. Polls already running are interrupted.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        feeds.clear();
+    }
+
+    /**
+     * A source being polled, with counters describing its recent behaviour.
+     */
+    public class PolledFeed {
+
+        private final String id;
+        private final ArticleSource source;
+        private final Consumer<String> listener;
+        private final AtomicLong polls = new AtomicLong();
+        private final AtomicLong changes = new AtomicLong();
+        private final AtomicLong skips = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+
+        // Only touched by the single poll of this feed running at a time
+        private volatile long intervalMillis = policy.getInitialIntervalMillis();
+        private long lastHash;
+        private boolean seen;
+        // Guarded by this feed, so a poll cannot schedule its successor after cancel() has run
+        private ScheduledFuture<?> next;
+        private boolean cancelled;
+
+        private PolledFeed(String id, ArticleSource source, Consumer<String> listener) {
+            this.id = id;
+            this.source = source;
+            this.listener = listener;
+        }
+
+        private synchronized void scheduleNext(long delayMillis) {
+            if (!cancelled && !executor.isShutdown()) {
+                next = executor.schedule(this::poll, delayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void poll() {
+            if (backpressure.getAsBoolean()) {
+                skips.incrementAndGet();
+                scheduleNext(policy.jittered(intervalMillis, ThreadLocalRandom.current()));
+                return;
+            }
+            polls.incrementAndGet();
+            boolean changed = false;
+            try {
+                String json = source.getJsonString();
+                long hash = Hashing.hash64(json);
+                if (!seen || hash != lastHash) {
+                    // Recorded only once delivered, so a payload the listener throws on is delivered again
+                    listener.accept(json);
+                    seen = true;
+                    lastHash = hash;
+                    changed = true;
+                    changes.incrementAndGet();
+                }
+            } catch (SourceUnavailableException e) {
+                // Skipped by the source's circuit breaker, which warned when it opened
+                failures.incrementAndGet();
+                logger.fine(e.getMessage());
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                logger.log(Level.WARNING, "Poll of " + id + " failed: " + e.getMessage(), e);
+            }
+            intervalMillis = policy.nextInterval(intervalMillis, changed);
+            scheduleNext(policy.jittered(intervalMillis, ThreadLocalRandom.current()));
+        }
+
+        /**
+         * Stops polling this feed. A poll already running is allowed to finish.
+         */
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                if (next != null) {
+                    next.cancel(false);
+                }
+            }
+            feeds.remove(id, this);
+        }
+
+        /**
+         * Gets the feed id.
+         *
+         * @return the id
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Gets the interval the feed is currently polled at, before jitter.
+         *
+         * @return the interval in milliseconds
+         */
+        public long getIntervalMillis() {
+            return intervalMillis;
+        }
+
+        /**
+         * Gets the number of polls that fetched the source.
+         *
+         * @return the poll count
+         */
+        public long getPollCount() {
+            return polls.get();
+        }
+
+        /**
+         * Gets the number of polls that returned a new payload and delivered it.
+         *
+         * @return the change count
+         */
+        public long getChangeCount() {
+            return changes.get();
+        }
+
+        /**
+         * Gets the number of polls skipped because downstream was full.
+         *
+         * @return the skip count
+         */
+        public long getSkippedCount() {
+            return skips.get();
+        }
+
+        /**
+         * Gets the number of polls that failed.
+         *
+         * @return the failure count
+         */
+        public long getFailureCount() {
+            return failures.get();
+        }
+    }
+}
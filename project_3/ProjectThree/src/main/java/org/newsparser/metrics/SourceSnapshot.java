@@ -0,0 +1,83 @@
+package org.newsparser.metrics;
+
+/**
+ * An immutable point-in-time view of the counters kept for one source.
+ */
+public class SourceSnapshot {
+
+    private final String sourceId;
+    private final long acceptedCount;
+    private final long rejectedCount;
+    private final long lastSeenMillis;
+
+    /**
+     * Constructs a SourceSnapshot with the specified values.
+     *
+     * @param sourceId       the source identifier the counters belong to
+     * @param acceptedCount  the number of articles that passed validation
+     * @param rejectedCount  the number of articles that failed validation
+     * @param lastSeenMillis the epoch millis of the last article seen, or 0 if none
+     */
+    public SourceSnapshot(String sourceId, long acceptedCount, long rejectedCount, long lastSeenMillis) {
+        this.sourceId = sourceId;
+        this.acceptedCount = acceptedCount;
+        this.rejectedCount = rejectedCount;
+        this.lastSeenMillis = lastSeenMillis;
+    }
+
+    /**
+     * Gets the source identifier the counters belong to.
+     *
+     * @return the source identifier
+     */
+    public String getSourceId() {
+        return sourceId;
+    }
+
+    /**
+     * Gets the number of articles that passed validation.
+     *
+     * @return the accepted article count
+     */
+    public long getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    /**
+     * Gets the number of articles that failed validation.
+     *
+     * @return the rejected article count
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Gets the total number of articles seen, accepted or rejected.
+     *
+     * @return the total article count
+     */
+    public long getArticleCount() {
+        return acceptedCount + rejectedCount;
+    }
+
+    /**
+     * Gets the time the last article from this source was seen.
+     *
+     * @return the epoch millis of the last article seen, or 0 if none
+     */
+    public long getLastSeenMillis() {
+        return lastSeenMillis;
+    }
+
+    /**
+     * Returns a string representation of the snapshot.
+     *
+     * @return a string representation including all counters
+     */
+    @Override
+    public String toString() {
+        return "SourceSnapshot [sourceId=" + sourceId + ", accepted=" + acceptedCount
+                + ", rejected=" + rejectedCount + ", lastSeenMillis=" + lastSeenMillis + "]";
+    }
+}
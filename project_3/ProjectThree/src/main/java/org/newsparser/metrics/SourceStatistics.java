@@ -0,0 +1,122 @@
+package org.newsparser.metrics;
+
+import org.newsparser.databind.Article;
+import org.newsparser.databind.Source;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live per-source counters for ingested articles, keyed by {@link Source#getId()}.
+ *
+ * <p>Counters are striped {@link LongAdder}s held in a {@link ConcurrentHashMap}, so many
+ * parser threads can record articles without contending on a shared lock. Reading the
+ * counters through {@link #snapshot()} does not block writers.</p>
+ */
+public class SourceStatistics {
+
+    /** Key used for articles without a source or source ID. */
+    public static final String UNKNOWN_SOURCE = "unknown";
+
+    /** Key of the rollup across all sources returned by {@link #totals()}. */
+    public static final String ALL_SOURCES = "*";
+
+    private final ConcurrentHashMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Records an article that passed validation.
+     *
+     * @param article the accepted article
+     */
+    public void recordAccepted(Article article) {
+        Counters sourceCounters = countersFor(article);
+        sourceCounters.accepted.increment();
+        sourceCounters.lastSeen.accumulate(System.currentTimeMillis());
+    }
+
+    /**
+     * Records an article that failed validation.
+     *
+     * @param article the rejected article
+     */
+    public void recordRejected(Article article) {
+        Counters sourceCounters = countersFor(article);
+        sourceCounters.rejected.increment();
+        sourceCounters.lastSeen.accumulate(System.currentTimeMillis());
+    }
+
+    /**
+     * Takes a snapshot of the counters of every source seen so far.
+     * Each counter is read without locking, so the snapshot of a source that is
+     * updated concurrently may mix values from just before and just after an update.
+     *
+     * @return an unmodifiable map from source ID to its snapshot, sorted by source ID
+     */
+    public Map<String, SourceSnapshot> snapshot() {
+        Map<String, SourceSnapshot> snapshots = new TreeMap<>();
+        counters.forEach((sourceId, sourceCounters) -> snapshots.put(sourceId, sourceCounters.snapshot(sourceId)));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * Takes a snapshot of the counters of a single source.
+     *
+     * @param sourceId the source ID to look up
+     * @return the snapshot of the source, or {@code null} if it has not been seen
+     */
+    public SourceSnapshot snapshot(String sourceId) {
+        Counters sourceCounters = counters.get(sourceId);
+        return (sourceCounters != null) ? sourceCounters.snapshot(sourceId) : null;
+    }
+
+    /**
+     * Rolls up the counters of every source into one snapshot.
+     * The last-seen time of the rollup is the most recent across all sources.
+     *
+     * @return the rollup snapshot, keyed by {@link #ALL_SOURCES}
+     */
+    public SourceSnapshot totals() {
+        long accepted = 0;
+        long rejected = 0;
+        long lastSeen = 0;
+        for (Counters sourceCounters : counters.values()) {
+            accepted += sourceCounters.accepted.sum();
+            rejected += sourceCounters.rejected.sum();
+            lastSeen = Math.max(lastSeen, sourceCounters.lastSeen.get());
+        }
+        return new SourceSnapshot(ALL_SOURCES, accepted, rejected, lastSeen);
+    }
+
+    /**
+     * Removes all counters.
+     */
+    public void reset() {
+        counters.clear();
+    }
+
+    private Counters countersFor(Article article) {
+        Source source = article.getSource();
+        String sourceId = (source != null && source.getId() != null) ? source.getId() : UNKNOWN_SOURCE;
+
+        // Plain get first, computeIfAbsent only the first time a source is seen
+        Counters sourceCounters = counters.get(sourceId);
+        return (sourceCounters != null) ? sourceCounters : counters.computeIfAbsent(sourceId, id -> new Counters());
+    }
+
+    /**
+     * The mutable counters of one source.
+     */
+    private static final class Counters {
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAccumulator lastSeen = new LongAccumulator(Long::max, 0);
+
+        private SourceSnapshot snapshot(String sourceId) {
+            return new SourceSnapshot(sourceId, accepted.sum(), rejected.sum(), lastSeen.get());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.newsparser.output;
+
+import org.newsparser.databind.Article;
+import org.newsparser.databind.SimpleArticle;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Abstract base class for renderers that write articles to a {@link Writer} in one output format.
+ *
+ * <p>Renderers write every field straight into the writer instead of concatenating strings,
+ * so when the writer is a large buffer, such as one from {@link #newBufferedWriter(OutputStream)}
+ * or an {@link AsyncWriter}, rendering many articles costs a handful of writes to the
+ * underlying stream. A renderer is used by one thread and for one document:
+ * render the articles, then call {@link #finish()}.</p>
+ */
+public abstract class ArticleRenderer implements Flushable {
+
+    /**
+     * The buffer size of writers returned by {@link #newBufferedWriter(OutputStream)}.
+     */
+    public static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The format of {@link Article} publication times, matching the NewsAPI input format.
+     */
+    protected static final DateTimeFormatter ARTICLE_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'").withZone(ZoneOffset.UTC);
+
+    /**
+     * The format of {@link SimpleArticle} publication times, matching its input format.
+     */
+    protected static final DateTimeFormatter SIMPLE_ARTICLE_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    /**
+     * The writer receiving the rendered output.
+     */
+    protected final Writer out;
+
+    /**
+     * Constructs an {@code ArticleRenderer} writing to the given writer.
+     *
+     * @param out the writer receiving the rendered output
+     */
+    protected ArticleRenderer(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Creates a UTF-8 writer over a stream with a {@link #BUFFER_SIZE} character buffer.
+     *
+     * @param stream the stream to write to
+     * @return the buffered writer
+     */
+    public static Writer newBufferedWriter(OutputStream stream) {
+        return new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Renders an article.
+     *
+     * @param article the article to render
+     * @throws IOException if the output cannot be written
+     */
+    public abstract void render(Article article) throws IOException;
+
+    /**
+     * Renders a simple article.
+     *
+     * @param article the article to render
+     * @throws IOException if the output cannot be written
+     */
+    public abstract void render(SimpleArticle article) throws IOException;
+
+    /**
+     * Renders each of the articles in order.
+     *
+     * @param articles the articles to render
+     * @throws IOException if the output cannot be written
+     */
+    public void renderAll(Iterable<Article> articles) throws IOException {
+        for (Article article : articles) {
+            render(article);
+        }
+    }
+
+    /**
+     * Completes the document, writing any trailer the format needs, and flushes the writer.
+     * The writer is not closed.
+     *
+     * @throws IOException if the output cannot be written
+     */
+    public void finish() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Flushes the writer without completing the document.
+     *
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Formats the publication time of an article.
+     *
+     * @param article the article
+     * @return the formatted time, or {@code null} if the article has none
+     */
+    protected static String formatPublishedAt(Article article) {
+        long millis = article.getPublishedTimeMillis();
+        return (millis != Long.MIN_VALUE) ? ARTICLE_DATE_FORMAT.format(Instant.ofEpochMilli(millis)) : null;
+    }
+
+    /**
+     * Formats the publication time of a simple article.
+     *
+     * @param article the article
+     * @return the formatted time, or {@code null} if the article has none
+     */
+    protected static String formatPublishedAt(SimpleArticle article) {
+        return (article.getPublishedAt() != null) ? SIMPLE_ARTICLE_DATE_FORMAT.format(article.getPublishedAt()) : null;
+    }
+}
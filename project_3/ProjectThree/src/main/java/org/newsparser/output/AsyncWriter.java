@@ -0,0 +1,261 @@
+package org.newsparser.output;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * A {@link Writer} that fills large character chunks on the calling thread and writes them to
+ * the target writer on a background thread, so rendering never waits on the output device
+ * unless the queue of filled chunks is full.
+ *
+ * <p>Chunks are recycled once written, so at most {@code maxPendingChunks + 2} chunks are
+ * ever allocated. {@link #flush()} waits until everything written so far has reached the
+ * target and the target has been flushed. A failure on the background thread, including an
+ * unchecked exception thrown by the target, is reported by the next write, flush or close. The writer must be closed to stop the background thread;
+ * closing it also closes the target.</p>
+ */
+public class AsyncWriter extends Writer {
+
+    /**
+     * The chunk size used when none is given, in characters.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    /**
+     * The number of filled chunks that may wait for the background thread when none is given.
+     */
+    public static final int DEFAULT_MAX_PENDING_CHUNKS = 8;
+
+    private final Writer target;
+    private final int chunkSize;
+    private final BlockingQueue<Chunk> pending;
+    private final ConcurrentLinkedQueue<char[]> free = new ConcurrentLinkedQueue<>();
+    private final Thread writerThread;
+
+    private char[] current;
+    private int position;
+    private boolean closed;
+    private volatile Throwable failure;
+
+    /**
+     * Constructs an {@code AsyncWriter} with the default chunk size and queue length.
+     *
+     * @param target the writer receiving the output on the background thread
+     */
+    public AsyncWriter(Writer target) {
+        this(target, DEFAULT_CHUNK_SIZE, DEFAULT_MAX_PENDING_CHUNKS);
+    }
+
+    /**
+     * Constructs an {@code AsyncWriter}.
+     *
+     * @param target           the writer receiving the output on the background thread
+     * @param chunkSize        the number of characters handed to the background thread at a time
+     * @param maxPendingChunks the number of filled chunks that may wait before writers block
+     */
+    public AsyncWriter(Writer target, int chunkSize, int maxPendingChunks) {
+        if (chunkSize <= 0 || maxPendingChunks <= 0) {
+            throw new IllegalArgumentException("Chunk size and pending chunk count must be positive.");
+        }
+        this.target = target;
+        this.chunkSize = chunkSize;
+        this.pending = new ArrayBlockingQueue<>(maxPendingChunks);
+        this.current = new char[chunkSize];
+        this.writerThread = new Thread(this::drain, "async-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Copies characters into the current chunk, handing each full chunk to the background thread.
+     *
+     * @param chars  the characters to write
+     * @param offset the offset of the first character
+     * @param length the number of characters
+     * @throws IOException if the writer is closed, the background thread failed or the thread is interrupted
+     */
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            while (length > 0) {
+                int count = Math.min(length, chunkSize - position);
+                System.arraycopy(chars, offset, current, position, count);
+                position += count;
+                offset += count;
+                length -= count;
+                if (position == chunkSize) {
+                    handOffFullChunk();
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies characters of a string into the current chunk, without an intermediate array.
+     *
+     * @param text   the string to write
+     * @param offset the offset of the first character
+     * @param length the number of characters
+     * @throws IOException if the writer is closed, the background thread failed or the thread is interrupted
+     */
+    @Override
+    public void write(String text, int offset, int length) throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            while (length > 0) {
+                int count = Math.min(length, chunkSize - position);
+                text.getChars(offset, offset + count, current, position);
+                position += count;
+                offset += count;
+                length -= count;
+                if (position == chunkSize) {
+                    handOffFullChunk();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a single character.
+     *
+     * @param c the character to write
+     * @throws IOException if the writer is closed, the background thread failed or the thread is interrupted
+     */
+    @Override
+    public void write(int c) throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            current[position++] = (char) c;
+            if (position == chunkSize) {
+                handOffFullChunk();
+            }
+        }
+    }
+
+    /**
+     * Hands the current chunk to the background thread and waits until it, and everything
+     * before it, has been written to the target and the target has been flushed.
+     *
+     * @throws IOException if the writer is closed, the background thread failed or the thread is interrupted
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            checkFailure();
+            CountDownLatch flushed = new CountDownLatch(1);
+            handOff(flushed, false);
+            await(flushed);
+            checkFailure();
+        }
+    }
+
+    /**
+     * Writes out everything remaining, stops the background thread and closes the target.
+     *
+     * @throws IOException if the background thread failed, the target cannot be closed or the thread is interrupted
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            CountDownLatch flushed = new CountDownLatch(1);
+            handOff(flushed, true);
+            await(flushed);
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while closing the writer.");
+            }
+            target.close();
+            checkFailure();
+        }
+    }
+
+    private void handOffFullChunk() throws IOException {
+        checkFailure();
+        handOff(null, false);
+    }
+
+    private void handOff(CountDownLatch flushed, boolean last) throws IOException {
+        try {
+            pending.put(new Chunk(current, position, flushed, last));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the background writer.");
+        }
+        if (last) {
+            current = null;
+            return;
+        }
+        char[] recycled = free.poll();
+        current = (recycled != null) ? recycled : new char[chunkSize];
+        position = 0;
+    }
+
+    private void drain() {
+        while (true) {
+            Chunk chunk;
+            try {
+                chunk = pending.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                if (failure == null && chunk.length > 0) {
+                    target.write(chunk.data, 0, chunk.length);
+                }
+                if (failure == null && chunk.flushed != null) {
+                    target.flush();
+                }
+            } catch (IOException | RuntimeException | Error e) {
+                // Keep draining so that writers, flush and close are released
+                failure = e;
+            }
+            free.offer(chunk.data);
+            if (chunk.flushed != null) {
+                chunk.flushed.countDown();
+            }
+            if (chunk.last) {
+                return;
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) throws IOException {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the background writer.");
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Writer is closed.");
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        Throwable e = failure;
+        if (e != null) {
+            throw new IOException("Background write failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * A filled chunk, optionally followed by a flush of the target or the end of the stream.
+     */
+    private record Chunk(char[] data, int length, CountDownLatch flushed, boolean last) {}
+}
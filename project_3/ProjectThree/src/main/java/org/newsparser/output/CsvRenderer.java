@@ -0,0 +1,120 @@
+package org.newsparser.output;
+
+import org.newsparser.databind.Article;
+import org.newsparser.databind.SimpleArticle;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Renders articles as RFC 4180 CSV with a header row. Both article types share the same
+ * columns; fields a simple article does not have are left empty, and absent values are
+ * written as empty fields.
+ */
+public class CsvRenderer extends ArticleRenderer {
+
+    /**
+     * The column names written in the header row.
+     */
+    public static final String HEADER = "sourceId,sourceName,author,title,description,url,urlToImage,publishedAt,content";
+
+    private boolean headerWritten;
+
+    /**
+     * Constructs a {@code CsvRenderer} writing to the given writer.
+     *
+     * @param out the writer receiving the rendered output
+     */
+    public CsvRenderer(Writer out) {
+        super(out);
+    }
+
+    /**
+     * Renders an article as one CSV record.
+     *
+     * @param article the article to render
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    public void render(Article article) throws IOException {
+        writeHeader();
+        boolean hasSource = article.getSource() != null;
+        field(hasSource ? article.getSource().getId() : null, false);
+        field(hasSource ? article.getSource().getName() : null, false);
+        field(article.getAuthor(), false);
+        field(article.getTitle(), false);
+        field(article.getDescription(), false);
+        field(article.getUrl(), false);
+        field(article.getUrlToImage(), false);
+        field(formatPublishedAt(article), false);
+        field(article.getContent(), true);
+    }
+
+    /**
+     * Renders a simple article as one CSV record.
+     *
+     * @param article the article to render
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    public void render(SimpleArticle article) throws IOException {
+        writeHeader();
+        out.write(",,,");
+        field(article.getTitle(), false);
+        field(article.getDescription(), false);
+        field(article.getUrl(), false);
+        out.write(',');
+        field(formatPublishedAt(article), false);
+        out.write("\r\n");
+    }
+
+    /**
+     * Writes the header row if no article was rendered, then flushes the writer.
+     *
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    public void finish() throws IOException {
+        writeHeader();
+        super.finish();
+    }
+
+    private void writeHeader() throws IOException {
+        if (!headerWritten) {
+            out.write(HEADER);
+            out.write("\r\n");
+            headerWritten = true;
+        }
+    }
+
+    private void field(String value, boolean last) throws IOException {
+        if (value != null) {
+            if (needsQuotes(value)) {
+                out.write('"');
+                int start = 0;
+                for (int i = 0; i < value.length(); i++) {
+                    if (value.charAt(i) == '"') {
+                        out.write(value, start, i - start + 1);
+                        out.write('"');
+                        start = i + 1;
+                    }
+                }
+                out.write(value, start, value.length() - start);
+                out.write('"');
+            } else {
+                out.write(value);
+            }
+        }
+        out.write(last ? "\r\n" : ",");
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,127 @@
+package org.newsparser.output;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.SimpleArticle;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Renders articles with a Jackson {@link JsonGenerator}, using the same field names and date
+ * formats as the input documents. The output is either one JSON array holding every article,
+ * or newline-delimited JSON with one article object per line.
+ */
+public class JsonRenderer extends ArticleRenderer {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final JsonGenerator generator;
+    private final boolean lineDelimited;
+    private boolean started;
+
+    /**
+     * Constructs a {@code JsonRenderer} writing to the given writer.
+     *
+     * @param out           the writer receiving the rendered output
+     * @param lineDelimited true to write one object per line, false to write a single array
+     * @throws IOException if the generator cannot be created
+     */
+    public JsonRenderer(Writer out, boolean lineDelimited) throws IOException {
+        super(out);
+        this.generator = JSON_FACTORY.createGenerator(out);
+        this.lineDelimited = lineDelimited;
+        // Line-delimited records are separated by the newline written after each one
+        generator.setRootValueSeparator(null);
+    }
+
+    /**
+     * Renders an article as an object with the NewsAPI article fields.
+     *
+     * @param article the article to render
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    public void render(Article article) throws IOException {
+        start();
+        generator.writeStartObject();
+        if (article.getSource() != null) {
+            generator.writeObjectFieldStart("source");
+            generator.writeStringField("id", article.getSource().getId());
+            generator.writeStringField("name", article.getSource().getName());
+            generator.writeEndObject();
+        } else {
+            generator.writeNullField("source");
+        }
+        generator.writeStringField("author", article.getAuthor());
+        generator.writeStringField("title", article.getTitle());
+        generator.writeStringField("description", article.getDescription());
+        generator.writeStringField("url", article.getUrl());
+        generator.writeStringField("urlToImage", article.getUrlToImage());
+        generator.writeStringField("publishedAt", formatPublishedAt(article));
+        generator.writeStringField("content", article.getContent());
+        generator.writeEndObject();
+        end();
+    }
+
+    /**
+     * Renders a simple article as an object with its four fields.
+     *
+     * @param article the article to render
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    public void render(SimpleArticle article) throws IOException {
+        start();
+        generator.writeStartObject();
+        generator.writeStringField("title", article.getTitle());
+        generator.writeStringField("description", article.getDescription());
+        generator.writeStringField("publishedAt", formatPublishedAt(article));
+        generator.writeStringField("url", article.getUrl());
+        generator.writeEndObject();
+        end();
+    }
+
+    /**
+     * Closes the array when writing a single document, then flushes the writer.
+     *
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    public void finish() throws IOException {
+        if (!lineDelimited) {
+            start();
+            generator.writeEndArray();
+        }
+        generator.flush();
+        super.finish();
+    }
+
+    /**
+     * Flushes the generator and the writer without completing the document.
+     *
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+        super.flush();
+    }
+
+    private void start() throws IOException {
+        if (!started && !lineDelimited) {
+            generator.writeStartArray();
+        }
+        started = true;
+    }
+
+    private void end() throws IOException {
+        if (lineDelimited) {
+            generator.writeRaw('\n');
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.newsparser.output;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * The output formats articles can be rendered in.
+ */
+public enum OutputFormat {
+
+    /**
+     * Human-readable labelled blocks, as printed by the display methods.
+     */
+    TEXT,
+
+    /**
+     * A single JSON array of article objects.
+     */
+    JSON,
+
+    /**
+     * CSV with a header row.
+     */
+    CSV,
+
+    /**
+     * Newline-delimited JSON, one article object per line.
+     */
+    NDJSON;
+
+    /**
+     * Creates a renderer writing this format to the given writer.
+     *
+     * @param out the writer receiving the rendered output
+     * @return a new renderer
+     * @throws IOException if the renderer cannot be created
+     */
+    public ArticleRenderer open(Writer out) throws IOException {
+        return switch (this) {
+            case TEXT -> new TextRenderer(out);
+            case JSON -> new JsonRenderer(out, false);
+            case CSV -> new CsvRenderer(out);
+            case NDJSON -> new JsonRenderer(out, true);
+        };
+    }
+
+    /**
+     * Finds a format by name, ignoring case.
+     *
+     * @param name the format name, such as {@code "ndjson"}
+     * @return the format
+     * @throws IllegalArgumentException if no format has the name
+     */
+    public static OutputFormat forName(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,62 @@
+package org.newsparser.output;
+
+import org.newsparser.databind.Article;
+import org.newsparser.databind.SimpleArticle;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Renders articles as the human-readable blocks printed by
+ * {@link org.newsparser.databind.NewsResponse#displayArticles()} and {@link SimpleArticle#display()}.
+ */
+public class TextRenderer extends ArticleRenderer {
+
+    private static final String NEWLINE = System.lineSeparator();
+
+    /**
+     * Constructs a {@code TextRenderer} writing to the given writer.
+     *
+     * @param out the writer receiving the rendered output
+     */
+    public TextRenderer(Writer out) {
+        super(out);
+    }
+
+    /**
+     * Renders an article as a block headed by {@code --- Article ---}.
+     *
+     * @param article the article to render
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    public void render(Article article) throws IOException {
+        out.write(NEWLINE);
+        out.write("--- Article ---");
+        out.write(NEWLINE);
+        line("Title: ", article.getTitle());
+        line("Description: ", article.getDescription());
+        line("Published Date: ", article.getPublishedDateTime());
+        line("URL: ", article.getUrl());
+    }
+
+    /**
+     * Renders a simple article as four labelled lines.
+     *
+     * @param article the article to render
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    public void render(SimpleArticle article) throws IOException {
+        line("Title: ", article.getTitle());
+        line("Description: ", article.getDescription());
+        line("Published Date: ", article.getPublishedAt());
+        line("URL: ", article.getUrl());
+    }
+
+    private void line(String label, Object value) throws IOException {
+        out.write(label);
+        out.write(String.valueOf(value));
+        out.write(NEWLINE);
+    }
+}
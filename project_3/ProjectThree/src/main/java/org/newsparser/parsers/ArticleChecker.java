@@ -0,0 +1,98 @@
+package org.newsparser.parsers;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.newsparser.databind.Article;
+import org.newsparser.metrics.SourceStatistics;
+import org.newsparser.utils.ValidationReport;
+import org.newsparser.utils.ValidationRule;
+
+import java.io.IOException;
+import java.util.logging.Logger;
+
+/**
+ * Binds the articles of a response while it is being parsed and decides which to keep, so
+ * {@link NewsResponseStreamFilter} and {@link ArticleCursor} reject and record articles the same
+ * way. Items that are not objects, or cannot be bound, are logged and skipped individually.
+ */
+class ArticleChecker {
+
+    private final ObjectMapper objectMapper;
+    private final ValidationRule<? super Article> rule;
+    private final ValidationReport validationReport;
+    private final SourceStatistics sourceStatistics;
+    private final Logger logger;
+
+    /**
+     * Constructs an {@code ArticleChecker}.
+     *
+     * @param objectMapper     the {@link ObjectMapper} used to bind articles
+     * @param rule             the rule deciding which articles are kept
+     * @param validationReport the report collecting rejected articles, or {@code null} to log them
+     * @param sourceStatistics the statistics updated with every article, or {@code null}
+     * @param logger           the {@link Logger} for invalid articles
+     */
+    ArticleChecker(ObjectMapper objectMapper, ValidationRule<? super Article> rule,
+                   ValidationReport validationReport, SourceStatistics sourceStatistics, Logger logger) {
+        this.objectMapper = objectMapper;
+        this.rule = rule;
+        this.validationReport = validationReport;
+        this.sourceStatistics = sourceStatistics;
+        this.logger = logger;
+    }
+
+    /**
+     * Binds the item at the parser's current token, leaving the parser on its last token.
+     *
+     * @param parser the parser, positioned at the start of an item of the articles array
+     * @return the article, or {@code null} if the item is not an object or cannot be bound
+     * @throws IOException if the input cannot be read or is malformed
+     */
+    Article read(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            logger.warning("Invalid item: article is not a JSON object.");
+            return null;
+        }
+
+        TokenBuffer buffer = new TokenBuffer(parser);
+        buffer.copyCurrentStructure(parser);
+        try (JsonParser articleParser = buffer.asParser(objectMapper)) {
+            return objectMapper.readValue(articleParser, Article.class);
+        } catch (DatabindException e) {
+            logger.warning(() -> "Invalid item: unreadable article: " + e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Checks an article against the rule and records it as accepted or rejected.
+     *
+     * @param article the article
+     * @return true if the article is kept
+     */
+    boolean check(Article article) {
+        String reason = rule.check(article);
+        if (reason == null) {
+            if (validationReport != null) {
+                validationReport.recordAccepted(1);
+            }
+            if (sourceStatistics != null) {
+                sourceStatistics.recordAccepted(article);
+            }
+            return true;
+        }
+        if (validationReport != null) {
+            validationReport.recordRejected(article, reason);
+        } else {
+            logger.warning(() -> "Invalid item (" + reason + "): " + article);
+        }
+        if (sourceStatistics != null) {
+            sourceStatistics.recordRejected(article);
+        }
+        return false;
+    }
+}
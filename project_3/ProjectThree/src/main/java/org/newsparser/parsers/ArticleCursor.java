@@ -0,0 +1,89 @@
+package org.newsparser.parsers;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.newsparser.databind.Article;
+import org.newsparser.metrics.SourceStatistics;
+import org.newsparser.utils.ValidationReport;
+import org.newsparser.utils.ValidationRule;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.logging.Logger;
+
+/**
+ * Reads the valid articles of a NewsAPI response one at a time, parsing the input only as far
+ * as the next article. Fields other than {@code articles} are skipped, and invalid or unreadable
+ * articles are rejected by an {@link ArticleChecker}, as in {@link NewsResponseStreamFilter}.
+ */
+class ArticleCursor implements ItemCursor<Article> {
+
+    private final ArticleChecker checker;
+    private final JsonParser parser;
+    private boolean inArticles;
+    private boolean finished;
+
+    /**
+     * Constructs an {@code ArticleCursor} over a response document.
+     *
+     * @param input            the response document, closed with the cursor
+     * @param objectMapper     the {@link ObjectMapper} used to read articles
+     * @param rule             the rule deciding which articles are kept
+     * @param validationReport the report collecting rejected articles, or {@code null} to log them
+     * @param sourceStatistics the statistics updated with every article, or {@code null}
+     * @param logger           the {@link Logger} for invalid articles
+     * @throws IOException if the input cannot be read
+     */
+    ArticleCursor(Reader input, ObjectMapper objectMapper, ValidationRule<? super Article> rule,
+                  ValidationReport validationReport, SourceStatistics sourceStatistics, Logger logger) throws IOException {
+        this.checker = new ArticleChecker(objectMapper, rule, validationReport, sourceStatistics, logger);
+        this.parser = objectMapper.getFactory().createParser(input);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            parser.close();
+            throw new IOException("Expected a JSON object at the start of the response.");
+        }
+    }
+
+    @Override
+    public Article next() throws IOException {
+        while (!finished) {
+            if (!inArticles && !seekArticles()) {
+                finished = true;
+                return null;
+            }
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                inArticles = false;
+                continue;
+            }
+            Article article = readValid();
+            if (article != null) {
+                return article;
+            }
+        }
+        return null;
+    }
+
+    private boolean seekArticles() throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (name.equals("articles") && value == JsonToken.START_ARRAY) {
+                inArticles = true;
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private Article readValid() throws IOException {
+        Article article = checker.read(parser);
+        return (article != null && checker.check(article)) ? article : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
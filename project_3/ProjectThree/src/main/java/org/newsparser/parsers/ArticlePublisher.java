@@ -0,0 +1,175 @@
+package org.newsparser.parsers;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * A {@link Flow.Publisher} of the valid items of a parsed document, read only as fast as the
+ * subscriber requests them.
+ *
+ * <p>The publisher is cold: each subscription opens the data source again and reads it from
+ * the start, and nothing is read until the first request. Items are read and delivered on the
+ * given executor, at most one task per subscription at a time, and the source is read no
+ * further ahead than the outstanding demand, so a slow subscriber throttles the read instead
+ * of causing items to pile up. Cancelling a subscription closes its source, and so does an
+ * exception thrown by the subscriber's {@code onNext}, which cancels the subscription and is
+ * passed to its {@code onError}.</p>
+ *
+ * @param <T> the type of items published
+ */
+public class ArticlePublisher<T> implements Flow.Publisher<T> {
+
+    private final ItemCursor.Opener<T> opener;
+    private final Executor executor;
+    private final Logger logger;
+
+    /**
+     * Constructs an {@code ArticlePublisher}.
+     *
+     * @param opener   opens a cursor over the document for each subscription
+     * @param executor the executor reading and delivering items
+     * @param logger   the {@link Logger} for sources that fail to close
+     */
+    ArticlePublisher(ItemCursor.Opener<T> opener, Executor executor, Logger logger) {
+        this.opener = opener;
+        this.executor = executor;
+        this.logger = logger;
+    }
+
+    /**
+     * Subscribes to the items of the document, read from the start.
+     *
+     * @param subscriber the subscriber
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber must not be null.");
+        }
+        CursorSubscription subscription = new CursorSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * A subscription reading from its own cursor. Demand is counted in {@code requested}, and
+     * {@code wip} ensures only one drain task runs at a time; requests arriving while a drain
+     * runs are picked up by that drain before it exits.
+     */
+    private final class CursorSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable badRequest;
+
+        // Only touched by the drain task
+        private ItemCursor<T> cursor;
+        private boolean done;
+
+        private CursorSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                badRequest = new IllegalArgumentException("Request for " + n + " items; requests must be positive.");
+            } else {
+                requested.getAndAccumulate(n, (current, add) -> (current + add < 0) ? Long.MAX_VALUE : current + add);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    cancelled = true;
+                    closeCursor();
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                long demand = requested.get();
+                long emitted = 0;
+                while (!done) {
+                    if (cancelled) {
+                        done = true;
+                        closeCursor();
+                        break;
+                    }
+                    if (badRequest != null) {
+                        fail(badRequest);
+                        break;
+                    }
+                    if (emitted == demand) {
+                        break;
+                    }
+                    T item;
+                    try {
+                        if (cursor == null) {
+                            cursor = opener.open();
+                        }
+                        item = cursor.next();
+                    } catch (IOException | RuntimeException e) {
+                        fail(e);
+                        break;
+                    }
+                    if (item == null) {
+                        done = true;
+                        closeCursor();
+                        subscriber.onComplete();
+                        break;
+                    }
+                    try {
+                        subscriber.onNext(item);
+                    } catch (RuntimeException e) {
+                        // A subscriber that throws is broken; stop reading for it and report why
+                        cancelled = true;
+                        fail(e);
+                        break;
+                    }
+                    emitted++;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void fail(Throwable error) {
+            done = true;
+            closeCursor();
+            subscriber.onError(error);
+        }
+
+        private void closeCursor() {
+            if (cursor != null) {
+                try {
+                    cursor.close();
+                } catch (IOException e) {
+                    logger.warning("Failed to close article source: " + e.getMessage());
+                }
+                cursor = null;
+            }
+        }
+    }
+}
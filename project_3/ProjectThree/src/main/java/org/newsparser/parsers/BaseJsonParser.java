@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.newsparser.sources.ArticleSource;
 import org.newsparser.sources.SourceFormat;
+import org.newsparser.utils.ValidationReport;
 
 import java.util.logging.Logger;
 
@@ -31,6 +32,16 @@ public abstract class BaseJsonParser {
      */
     protected final Logger logger;
 
+    /**
+     * An optional {@link ValidationReport} collecting rejected items instead of logging each one.
+     */
+    protected ValidationReport validationReport;
+
+    /**
+     * An optional {@link ParseResultCache} reusing the results of payloads parsed before.
+     */
+    protected ParseResultCache parseResultCache;
+
     /**
      * Constructs a new {@code BaseJsonParser} with the specified data source and logger.
      * Automatically registers the {@link JavaTimeModule} with the {@link ObjectMapper}
@@ -81,6 +92,44 @@ public abstract class BaseJsonParser {
         this.dataSource = dataSource;
     }
 
+    /**
+     * Gets the {@link ValidationReport} collecting rejected items.
+     *
+     * @return the report, or {@code null} if each invalid item is logged as a warning
+     */
+    public ValidationReport getValidationReport() {
+        return validationReport;
+    }
+
+    /**
+     * Sets the {@link ValidationReport} collecting rejected items. While a report is set,
+     * invalid items are counted by reason and sampled rather than logged one by one.
+     *
+     * @param validationReport the report to use, or {@code null} to log each invalid item
+     */
+    public void setValidationReport(ValidationReport validationReport) {
+        this.validationReport = validationReport;
+    }
+
+    /**
+     * Gets the {@link ParseResultCache} consulted before parsing.
+     *
+     * @return the cache, or {@code null} if every payload is parsed
+     */
+    public ParseResultCache getParseResultCache() {
+        return parseResultCache;
+    }
+
+    /**
+     * Sets the {@link ParseResultCache} consulted before parsing. A payload found in the cache is
+     * not parsed again, but its items are still validated, counted and logged on every call.
+     *
+     * @param parseResultCache the cache to use, or {@code null} to parse every payload
+     */
+    public void setParseResultCache(ParseResultCache parseResultCache) {
+        this.parseResultCache = parseResultCache;
+    }
+
     /**
      * Abstract method to process the JSON data.
      * Implementations should define how the JSON content is processed.
@@ -0,0 +1,76 @@
+package org.newsparser.parsers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A {@link Reader} that keeps the characters it has passed on since a movable start offset,
+ * so that a span of the input identified by parser token offsets can be copied to the output
+ * verbatim. The caller discards characters it no longer needs to keep memory bounded.
+ */
+class CapturingReader extends Reader {
+
+    private final Reader in;
+    private final StringBuilder window = new StringBuilder();
+    private long windowStart;
+    private char[] scratch = new char[1024];
+
+    /**
+     * Constructs a {@code CapturingReader} over the given reader.
+     *
+     * @param in the reader to capture
+     */
+    CapturingReader(Reader in) {
+        this.in = in;
+    }
+
+    @Override
+    public int read(char[] chars, int offset, int length) throws IOException {
+        int count = in.read(chars, offset, length);
+        if (count > 0) {
+            window.append(chars, offset, count);
+        }
+        return count;
+    }
+
+    /**
+     * Discards captured characters before the given absolute offset.
+     *
+     * @param offset the offset of the first character to keep
+     */
+    void discardBefore(long offset) {
+        int count = (int) Math.min(offset - windowStart, window.length());
+        if (count > 0) {
+            window.delete(0, count);
+            windowStart += count;
+        }
+    }
+
+    /**
+     * Writes a captured span to the generator as a raw value, without decoding it.
+     *
+     * @param generator the generator to write to
+     * @param start     the absolute offset of the first character of the value
+     * @param end       the absolute offset just past the last character of the value
+     * @throws IOException if the span is no longer captured or cannot be written
+     */
+    void writeRawValue(JsonGenerator generator, long start, long end) throws IOException {
+        if (start < windowStart || end - windowStart > window.length()) {
+            throw new IOException("Value at offset " + start + " is no longer captured.");
+        }
+        int length = (int) (end - start);
+        if (scratch.length < length) {
+            scratch = new char[Math.max(length, scratch.length * 2)];
+        }
+        int from = (int) (start - windowStart);
+        window.getChars(from, from + length, scratch, 0);
+        generator.writeRawValue(scratch, 0, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,37 @@
+package org.newsparser.parsers;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads the items of a document one at a time, only as far as each call requires.
+ *
+ * @param <T> the type of items read
+ */
+interface ItemCursor<T> extends Closeable {
+
+    /**
+     * Reads the next valid item, skipping invalid ones.
+     *
+     * @return the item, or {@code null} at the end of the document
+     * @throws IOException if the document cannot be read or is malformed
+     */
+    T next() throws IOException;
+
+    /**
+     * Opens a cursor.
+     *
+     * @param <T> the type of items read
+     */
+    @FunctionalInterface
+    interface Opener<T> {
+
+        /**
+         * Opens the document and positions a cursor before its first item.
+         *
+         * @return the cursor, which the caller must close
+         * @throws IOException if the document cannot be opened
+         */
+        ItemCursor<T> open() throws IOException;
+    }
+}
@@ -2,11 +2,21 @@ package org.newsparser.parsers;
 
 import org.newsparser.databind.Article;
 import org.newsparser.databind.NewsResponse;
+import org.newsparser.metrics.SourceStatistics;
 import org.newsparser.sources.ArticleSource;
+import org.newsparser.sources.SourceUnavailableException;
+import org.newsparser.utils.Validatable;
+import org.newsparser.utils.ValidationReport;
+import org.newsparser.utils.ValidationRule;
 import org.newsparser.utils.Validator;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 /**
@@ -16,6 +26,21 @@ import java.util.logging.Logger;
  */
 public class NewsResponseJsonParser extends BaseJsonParser {
 
+    /**
+     * Optional per-source counters updated with every accepted and rejected article.
+     */
+    private SourceStatistics sourceStatistics;
+
+    /**
+     * Optional rule replacing {@link Article#isValid()} when filtering articles.
+     */
+    private ValidationRule<? super Article> articleRule;
+
+    /**
+     * Optional rule replacing {@link NewsResponse#isValid()} when checking the response.
+     */
+    private ValidationRule<? super NewsResponse> responseRule;
+
     /**
      * Constructs a {@code NewsResponseJsonParser} with the specified data source and logger.
      *
@@ -26,6 +51,64 @@ public class NewsResponseJsonParser extends BaseJsonParser {
         super(dataSource, logger);
     }
 
+    /**
+     * Gets the {@link SourceStatistics} updated by this parser.
+     *
+     * @return the statistics, or {@code null} if none are recorded
+     */
+    public SourceStatistics getSourceStatistics() {
+        return sourceStatistics;
+    }
+
+    /**
+     * Sets the {@link SourceStatistics} to update with every accepted and rejected article.
+     * The same instance can be shared by parsers running on many threads.
+     *
+     * @param sourceStatistics the statistics to update, or {@code null} to disable recording
+     */
+    public void setSourceStatistics(SourceStatistics sourceStatistics) {
+        this.sourceStatistics = sourceStatistics;
+    }
+
+    /**
+     * Gets the rule used to filter articles.
+     *
+     * @return the rule, or {@code null} if articles are checked with {@link Article#isValid()}
+     */
+    public ValidationRule<? super Article> getArticleRule() {
+        return articleRule;
+    }
+
+    /**
+     * Sets the rule used to filter articles instead of {@link Article#isValid()}, such as
+     * a tenant's rules from a {@link org.newsparser.rules.RuleEngine}.
+     *
+     * @param articleRule the rule to apply, or {@code null} to use {@link Article#isValid()}
+     */
+    public void setArticleRule(ValidationRule<? super Article> articleRule) {
+        this.articleRule = articleRule;
+    }
+
+    /**
+     * Gets the rule used to check the response as a whole.
+     *
+     * @return the rule, or {@code null} if the response is checked with {@link NewsResponse#isValid()}
+     */
+    public ValidationRule<? super NewsResponse> getResponseRule() {
+        return responseRule;
+    }
+
+    /**
+     * Sets the rule used to check the response as a whole instead of {@link NewsResponse#isValid()},
+     * such as a tenant's rules from a {@link org.newsparser.rules.RuleEngine}. It applies to
+     * {@link #getNewsResponse()}; the streaming methods never hold the whole response.
+     *
+     * @param responseRule the rule to apply, or {@code null} to use {@link NewsResponse#isValid()}
+     */
+    public void setResponseRule(ValidationRule<? super NewsResponse> responseRule) {
+        this.responseRule = responseRule;
+    }
+
     /**
      * Parses the JSON string from the data source into a {@link NewsResponse} object.
      * This method validates the entire response and each individual article.
@@ -34,26 +117,50 @@ public class NewsResponseJsonParser extends BaseJsonParser {
      * <p>If the JSON parsing fails or the response is invalid, an empty error response
      * is returned, and a warning is logged.</p>
      *
+     * <p>With a {@link ParseResultCache} set, a payload seen before is not parsed again, but the
+     * response and its articles are always validated afresh, since rules such as a maximum
+     * article age depend on the time they are checked. The articles returned for a repeated
+     * payload are the instances parsed the first time.</p>
+     *
      * @return a {@link NewsResponse} containing only valid articles,
      *         or an empty error response if parsing fails or the data is invalid
      */
     public NewsResponse getNewsResponse() {
         try {
-            // Parse the JSON string into a NewsResponse object
-            NewsResponse newsResponse = objectMapper.readValue(dataSource.getJsonString(), NewsResponse.class);
+            String json = dataSource.getJsonString();
+            ValidationRule<? super Article> rule = articleRule;
+            ValidationRule<? super NewsResponse> checkResponse = (responseRule != null)
+                    ? responseRule
+                    : Validatable::invalidReason;
+            ParseResultCache cache = parseResultCache;
+            ParseResultCache.Key key = (cache != null) ? ParseResultCache.key(json, NewsResponse.class) : null;
+            NewsResponse newsResponse = (cache != null && cache.get(key) instanceof NewsResponse cached)
+                    ? cached
+                    : null;
+            if (newsResponse == null) {
+                // Parse the JSON string into a NewsResponse object
+                newsResponse = objectMapper.readValue(json, NewsResponse.class);
+                if (cache != null) {
+                    cache.put(key, newsResponse);
+                }
+            }
 
             // Validate the NewsResponse object
-            if (!newsResponse.isValid()) {
+            if (checkResponse.check(newsResponse) != null) {
                 logger.warning("Invalid JSON response from data source.");
                 return null;
             }
 
             // Filter valid articles from the response
-            List<Article> validArticles = Validator.filterValidItems(newsResponse.getArticles(), logger);
+            List<Article> validArticles = filterArticles(newsResponse.getArticles(), rule);
 
             // Return a new NewsResponse with only valid articles
             return new NewsResponse(newsResponse.getStatus(), validArticles.size(), validArticles);
 
+        } catch (SourceUnavailableException e) {
+            // The source's circuit breaker already warned when it opened
+            logger.fine(e.getMessage());
+            return new NewsResponse("error", 0, List.of());
         } catch (IOException e) {
             // Handle JSON parsing errors
             logger.warning("Failed to parse JSON data: " + e.getMessage());
@@ -61,6 +168,71 @@ public class NewsResponseJsonParser extends BaseJsonParser {
         }
     }
 
+    private List<Article> filterArticles(List<Article> articles, ValidationRule<? super Article> rule) {
+        SourceStatistics statistics = sourceStatistics;
+        ValidationReport report = validationReport;
+        Consumer<Article> onReject = (statistics != null) ? statistics::recordRejected : article -> {};
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        ValidationRule<? super Article> check = (rule != null) ? rule : Validatable::invalidReason;
+        List<Article> validArticles = (report != null)
+                ? Validator.filterValidItems(articles, check, report, onReject, pool)
+                : Validator.filterValidItems(articles, check, logger, onReject, pool);
+        if (statistics != null) {
+            validArticles.forEach(statistics::recordAccepted);
+        }
+        return validArticles;
+    }
+
+    /**
+     * Streams the response from the data source to the writer, keeping only valid articles.
+     * Unlike {@link #getNewsResponse()}, the response is never held in memory as a whole;
+     * see {@link NewsResponseStreamFilter} for the output format. The article rule, validation
+     * report and source statistics of this parser apply.
+     *
+     * @param out the writer receiving the filtered response, which is flushed but not closed
+     * @return the status and counts of the filtered response
+     * @throws IOException if the data source cannot be read, is not a JSON object, or the output cannot be written
+     */
+    public NewsResponseStreamFilter.Result writeValidResponse(Writer out) throws IOException {
+        NewsResponseStreamFilter filter = (articleRule != null)
+                ? new NewsResponseStreamFilter(objectMapper, articleRule, logger)
+                : new NewsResponseStreamFilter(objectMapper, logger);
+        filter.setValidationReport(validationReport);
+        filter.setSourceStatistics(sourceStatistics);
+        return filter.filter(dataSource.openReader(), out);
+    }
+
+    /**
+     * Publishes the valid articles of the response on the common fork-join pool.
+     *
+     * @return a publisher of valid articles
+     * @see #publisher(Executor)
+     */
+    public Flow.Publisher<Article> publisher() {
+        return publisher(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Publishes the valid articles of the response, parsing the data source only as fast as
+     * subscribers request articles. Each subscription reads the data source from the start.
+     * Fields other than {@code articles} are skipped, so the response itself is not validated;
+     * a source that cannot be read or is not a JSON object is reported through
+     * {@link Flow.Subscriber#onError(Throwable)}. The article rule, validation report and source
+     * statistics of this parser apply.
+     *
+     * @param executor the executor parsing and delivering articles
+     * @return a publisher of valid articles
+     */
+    public Flow.Publisher<Article> publisher(Executor executor) {
+        ArticleSource source = dataSource;
+        ValidationRule<? super Article> rule = (articleRule != null) ? articleRule : Validatable::invalidReason;
+        ValidationReport report = validationReport;
+        SourceStatistics statistics = sourceStatistics;
+        return new ArticlePublisher<>(
+                () -> new ArticleCursor(source.openReader(), objectMapper, rule, report, statistics, logger),
+                executor, logger);
+    }
+
     /**
      * Processes the JSON data and displays the valid articles.
      * This method retrieves the {@link NewsResponse} from the JSON source
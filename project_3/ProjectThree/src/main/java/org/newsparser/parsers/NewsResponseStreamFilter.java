@@ -0,0 +1,189 @@
+package org.newsparser.parsers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.newsparser.databind.Article;
+import org.newsparser.metrics.SourceStatistics;
+import org.newsparser.utils.Validatable;
+import org.newsparser.utils.ValidationReport;
+import org.newsparser.utils.ValidationRule;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.logging.Logger;
+
+/**
+ * Copies a NewsAPI response document from a reader to a writer, dropping invalid articles
+ * while the input is still being parsed.
+ *
+ * <p>Each article is bound only to validate it. A valid article is then written out as the
+ * exact characters it had in the input, so its field values are never re-encoded. Other
+ * top-level fields are copied token by token. {@code totalResults} is replaced by the number of
+ * articles written, and it is placed after the {@code articles} array because that count is
+ * only known once the array ends. Memory use is bounded by the largest single article rather
+ * than by the document.</p>
+ *
+ * <p>Articles that cannot be bound, such as ones with a malformed date, are rejected
+ * individually instead of failing the whole document. If the document itself is malformed,
+ * the partial output is left in the writer and an {@link IOException} is thrown.</p>
+ */
+public class NewsResponseStreamFilter {
+
+    private final ObjectMapper objectMapper;
+    private final ValidationRule<? super Article> rule;
+    private final Logger logger;
+    private ValidationReport validationReport;
+    private SourceStatistics sourceStatistics;
+
+    /**
+     * Constructs a {@code NewsResponseStreamFilter} checking articles with {@link Article#isValid()}.
+     *
+     * @param objectMapper the {@link ObjectMapper} used to read articles and create the parser and generator
+     * @param logger       the {@link Logger} for invalid articles
+     */
+    public NewsResponseStreamFilter(ObjectMapper objectMapper, Logger logger) {
+        this(objectMapper, Validatable::invalidReason, logger);
+    }
+
+    /**
+     * Constructs a {@code NewsResponseStreamFilter} checking articles with the given rule.
+     *
+     * @param objectMapper the {@link ObjectMapper} used to read articles and create the parser and generator
+     * @param rule         the rule deciding which articles are kept
+     * @param logger       the {@link Logger} for invalid articles
+     */
+    public NewsResponseStreamFilter(ObjectMapper objectMapper, ValidationRule<? super Article> rule, Logger logger) {
+        this.objectMapper = objectMapper;
+        this.rule = rule;
+        this.logger = logger;
+    }
+
+    /**
+     * Sets the report collecting rejected articles instead of logging each one.
+     *
+     * @param validationReport the report, or {@code null} to log each invalid article
+     */
+    public void setValidationReport(ValidationReport validationReport) {
+        this.validationReport = validationReport;
+    }
+
+    /**
+     * Sets the statistics updated with every accepted and rejected article.
+     *
+     * @param sourceStatistics the statistics, or {@code null} to disable recording
+     */
+    public void setSourceStatistics(SourceStatistics sourceStatistics) {
+        this.sourceStatistics = sourceStatistics;
+    }
+
+    /**
+     * Filters a response document. The input is closed; the output is flushed but not closed.
+     *
+     * @param input  the response document
+     * @param output the writer receiving the filtered document
+     * @return the status and counts of the filtered document
+     * @throws IOException if the input is not a JSON object or cannot be read, or the output cannot be written
+     */
+    public Result filter(Reader input, Writer output) throws IOException {
+        Result result = new Result();
+        try (CapturingReader reader = new CapturingReader(input);
+             JsonParser parser = objectMapper.getFactory().createParser(reader);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object at the start of the response.");
+            }
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                reader.discardBefore(parser.currentTokenLocation().getCharOffset());
+
+                if (name.equals("totalResults")) {
+                    parser.skipChildren();
+                } else if (name.equals("articles") && value == JsonToken.START_ARRAY) {
+                    generator.writeArrayFieldStart("articles");
+                    filterArticles(parser, reader, generator, result);
+                    generator.writeEndArray();
+                } else {
+                    if (name.equals("status")) {
+                        result.status = parser.getValueAsString();
+                    }
+                    generator.writeFieldName(name);
+                    generator.copyCurrentStructure(parser);
+                }
+            }
+            generator.writeNumberField("totalResults", result.acceptedCount);
+            generator.writeEndObject();
+        }
+        return result;
+    }
+
+    private void filterArticles(JsonParser parser, CapturingReader reader, JsonGenerator generator,
+                                Result result) throws IOException {
+        ArticleChecker checker = new ArticleChecker(objectMapper, rule, validationReport, sourceStatistics, logger);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            long start = parser.currentTokenLocation().getCharOffset();
+            reader.discardBefore(start);
+            Article article = checker.read(parser);
+            if (article != null && checker.check(article)) {
+                reader.writeRawValue(generator, start, parser.currentTokenLocation().getCharOffset() + 1);
+                result.acceptedCount++;
+            } else {
+                result.rejectedCount++;
+            }
+        }
+    }
+
+    /**
+     * The outcome of filtering one response document.
+     */
+    public static class Result {
+        private String status;
+        private int acceptedCount;
+        private int rejectedCount;
+
+        private Result() {}
+
+        /**
+         * Gets the status field of the response.
+         *
+         * @return the status, or {@code null} if the response had none
+         */
+        public String getStatus() {
+            return status;
+        }
+
+        /**
+         * Gets the number of articles written to the output.
+         *
+         * @return the accepted count
+         */
+        public int getAcceptedCount() {
+            return acceptedCount;
+        }
+
+        /**
+         * Gets the number of articles dropped from the output.
+         *
+         * @return the rejected count
+         */
+        public int getRejectedCount() {
+            return rejectedCount;
+        }
+
+        /**
+         * Checks whether the input met the same conditions as {@link org.newsparser.databind.NewsResponse#isValid()}:
+         * a non-empty status and at least one article.
+         *
+         * @return true if the input response was valid
+         */
+        public boolean isValid() {
+            return status != null && !status.isEmpty() && acceptedCount + rejectedCount > 0;
+        }
+    }
+}
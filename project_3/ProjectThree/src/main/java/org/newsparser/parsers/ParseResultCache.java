@@ -0,0 +1,218 @@
+package org.newsparser.parsers;
+
+import org.newsparser.utils.Hashing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the parsed result of recent payloads, keyed by a {@link Hashing#hash64} of the raw
+ * JSON text, so a payload seen before costs one pass of hashing instead of parsing. One cache can be shared by many parsers, of either kind, on many threads.
+ *
+ * <p>Eviction follows W-TinyLFU. New results enter a small LRU window; the window's oldest
+ * entry then has to beat the oldest entry of the main LRU segment on estimated access
+ * frequency to take its place, or it is dropped. Frequencies are estimated by a count-min
+ * sketch of every lookup, halved periodically so that old popularity fades. A burst of
+ * one-off payloads therefore passes through the window without flushing the payloads that
+ * repeat.</p>
+ *
+ * <p>Results are keyed together with a variant, such as the type they were parsed as, and
+ * must not be modified once cached.</p>
+ */
+public class ParseResultCache {
+
+    /**
+     * The number of results kept when none is given.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    private final int windowCapacity;
+    private final int mainCapacity;
+    private final LinkedHashMap<Key, Object> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Key, Object> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructs a {@code ParseResultCache} holding {@value #DEFAULT_MAX_ENTRIES} results.
+     */
+    public ParseResultCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Constructs a {@code ParseResultCache}.
+     *
+     * @param maxEntries the number of results kept
+     */
+    public ParseResultCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive.");
+        }
+        this.windowCapacity = Math.max(1, maxEntries / 100);
+        this.mainCapacity = maxEntries - windowCapacity;
+        this.sketch = new FrequencySketch(maxEntries);
+    }
+
+    /**
+     * Computes the key of a payload's result. Hashing is O(payload), so it runs without holding
+     * the cache's lock, and one key serves both the lookup and the insertion of a miss.
+     *
+     * @param payload the raw JSON text
+     * @param variant what else the result depends on, compared with {@code equals}
+     * @return the key
+     */
+    static Key key(CharSequence payload, Object variant) {
+        return new Key(Hashing.hash64(payload), payload.length(), variant);
+    }
+
+    /**
+     * Gets the cached result of a payload.
+     *
+     * @param key the key of the payload, from {@link #key(CharSequence, Object)}
+     * @return the result, or {@code null} if none is cached
+     */
+    synchronized Object get(Key key) {
+        sketch.increment(key.hashCode());
+        Object value = window.get(key);
+        if (value == null) {
+            value = main.get(key);
+        }
+        if (value != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return value;
+    }
+
+    /**
+     * Caches the result of a payload.
+     *
+     * @param key   the key of the payload, from {@link #key(CharSequence, Object)}
+     * @param value the result, which must not be modified afterwards
+     */
+    synchronized void put(Key key, Object value) {
+        if (main.containsKey(key)) {
+            main.put(key, value);
+            return;
+        }
+        window.put(key, value);
+        if (window.size() <= windowCapacity) {
+            return;
+        }
+
+        // The window's oldest entry is a candidate for the main segment
+        Map.Entry<Key, Object> eldest = window.entrySet().iterator().next();
+        Key candidate = eldest.getKey();
+        Object candidateValue = eldest.getValue();
+        window.remove(candidate);
+        if (main.size() < mainCapacity) {
+            main.put(candidate, candidateValue);
+            return;
+        }
+        if (mainCapacity == 0) {
+            return;
+        }
+        Key victim = main.keySet().iterator().next();
+        if (sketch.frequency(candidate.hashCode()) > sketch.frequency(victim.hashCode())) {
+            main.remove(victim);
+            main.put(candidate, candidateValue);
+        }
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that found nothing cached.
+     *
+     * @return the miss count
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of cached results.
+     *
+     * @return the entry count
+     */
+    public synchronized int size() {
+        return window.size() + main.size();
+    }
+
+    /**
+     * Removes every cached result. Frequency estimates are kept.
+     */
+    public synchronized void clear() {
+        window.clear();
+        main.clear();
+    }
+
+    /**
+     * A payload identified by its hash and length, and the variant of its result.
+     */
+    record Key(long hash, int length, Object variant) {}
+
+    /**
+     * A count-min sketch of four rows of saturating counters, up to 15 each. After ten
+     * increments per cached entry every counter is halved.
+     */
+    private static final class FrequencySketch {
+
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x97CB3127, 0xB3E1E1C1, 0x9E3779B9, 0x7FEB352D};
+
+        private final byte[][] rows = new byte[SEEDS.length][];
+        private final int mask;
+        private final int resetAfter;
+        private int additions;
+
+        private FrequencySketch(int maxEntries) {
+            int width = Integer.highestOneBit(Math.max(16, maxEntries * 2 - 1)) << 1;
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = new byte[width];
+            }
+            this.mask = width - 1;
+            this.resetAfter = 10 * maxEntries;
+        }
+
+        private int index(int hash, int row) {
+            int h = (hash ^ SEEDS[row]) * SEEDS[row];
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private void increment(int hash) {
+            for (int row = 0; row < rows.length; row++) {
+                int i = index(hash, row);
+                if (rows[row][i] < MAX_COUNT) {
+                    rows[row][i]++;
+                }
+            }
+            if (++additions >= resetAfter) {
+                for (byte[] counters : rows) {
+                    for (int i = 0; i < counters.length; i++) {
+                        counters[i] >>= 1;
+                    }
+                }
+                additions /= 2;
+            }
+        }
+
+        private int frequency(int hash) {
+            int min = MAX_COUNT;
+            for (int row = 0; row < rows.length; row++) {
+                min = Math.min(min, rows[row][index(hash, row)]);
+            }
+            return min;
+        }
+    }
+}
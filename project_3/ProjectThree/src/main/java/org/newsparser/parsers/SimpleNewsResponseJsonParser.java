@@ -4,9 +4,15 @@ import org.newsparser.databind.Article;
 import org.newsparser.databind.NewsResponse;
 import org.newsparser.databind.SimpleArticle;
 import org.newsparser.sources.ArticleSource;
+import org.newsparser.sources.SourceUnavailableException;
+import org.newsparser.utils.ValidationReport;
+import org.newsparser.utils.ValidationRule;
 import org.newsparser.utils.Validator;
 
 import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
 /**
@@ -16,6 +22,11 @@ import java.util.logging.Logger;
  */
 public class SimpleNewsResponseJsonParser extends BaseJsonParser {
 
+    /**
+     * Optional rule replacing {@link SimpleArticle#isValid()} when checking the article.
+     */
+    private ValidationRule<? super SimpleArticle> articleRule;
+
     /**
      * Constructs a {@code SimpleNewsResponseJsonParser} with the specified data source and logger.
      *
@@ -26,6 +37,25 @@ public class SimpleNewsResponseJsonParser extends BaseJsonParser {
         super(dataSource, logger);
     }
 
+    /**
+     * Gets the rule used to check the article.
+     *
+     * @return the rule, or {@code null} if the article is checked with {@link SimpleArticle#isValid()}
+     */
+    public ValidationRule<? super SimpleArticle> getArticleRule() {
+        return articleRule;
+    }
+
+    /**
+     * Sets the rule used to check the article instead of {@link SimpleArticle#isValid()}, such as
+     * a tenant's rules from a {@link org.newsparser.rules.RuleEngine}.
+     *
+     * @param articleRule the rule to apply, or {@code null} to use {@link SimpleArticle#isValid()}
+     */
+    public void setArticleRule(ValidationRule<? super SimpleArticle> articleRule) {
+        this.articleRule = articleRule;
+    }
+
     /**
      * Processes the JSON data and displays the parsed {@link SimpleArticle}.
      * This method retrieves the {@link SimpleArticle} from the JSON source
@@ -43,29 +73,106 @@ public class SimpleNewsResponseJsonParser extends BaseJsonParser {
 
     /**
      * Parses the JSON string from the data source into a {@link SimpleArticle} object.
-     * This method validates the article after parsing. If the parsed article is invalid
-     * or if JSON parsing fails, it logs an error and returns {@code null}.
+     * This method validates the article after parsing, with the article rule if one is set.
+     * If the parsed article is invalid or if JSON parsing fails, it logs an error and returns
+     * {@code null}.
+     *
+     * <p>With a {@link ParseResultCache} set, a payload seen before is not parsed again and the
+     * same {@link SimpleArticle} instance is returned; its single validity check still runs so
+     * that it is counted or logged as before.</p>
      *
      * @return a valid {@link SimpleArticle} if parsing and validation succeed;
      *         otherwise, returns {@code null}
      */
     public SimpleArticle getArticle() {
         try {
-            // Parse the JSON string into a SimpleArticle object
-            SimpleArticle article = objectMapper.readValue(dataSource.getJsonString(), SimpleArticle.class);
+            String json = dataSource.getJsonString();
+            ParseResultCache cache = parseResultCache;
+            ParseResultCache.Key key = (cache != null) ? ParseResultCache.key(json, SimpleArticle.class) : null;
+            SimpleArticle article = (cache != null && cache.get(key) instanceof SimpleArticle cached)
+                    ? cached
+                    : null;
+            if (article == null) {
+                // Parse the JSON string into a SimpleArticle object
+                article = objectMapper.readValue(json, SimpleArticle.class);
+                if (cache != null) {
+                    cache.put(key, article);
+                }
+            }
 
             // Validate the parsed article
-            if (Validator.isItemValid(article, logger)) {
+            if (isValid(article)) {
                 return article;
             }
 
             logger.warning("Parsed article is invalid.");
             return null;
 
+        } catch (SourceUnavailableException e) {
+            // The source's circuit breaker already warned when it opened
+            logger.fine(e.getMessage());
+            return null;
         } catch (IOException e) {
             // Handle JSON parsing errors
             logger.warning("Failed to parse JSON data into SimpleArticle: " + e.getMessage());
             return null;
         }
     }
+
+    private boolean isValid(SimpleArticle article) {
+        ValidationReport report = validationReport;
+        ValidationRule<? super SimpleArticle> rule = articleRule;
+        if (rule == null) {
+            return (report != null) ? Validator.isItemValid(article, report) : Validator.isItemValid(article, logger);
+        }
+        String reason = rule.check(article);
+        if (reason == null) {
+            if (report != null) {
+                report.recordAccepted(1);
+            }
+            return true;
+        }
+        if (report != null) {
+            report.recordRejected(article, reason);
+        } else {
+            logger.warning(() -> "Invalid item (" + reason + "): " + article);
+        }
+        return false;
+    }
+
+    /**
+     * Publishes the article on the common fork-join pool.
+     *
+     * @return a publisher of at most one valid article
+     * @see #publisher(Executor)
+     */
+    public Flow.Publisher<SimpleArticle> publisher() {
+        return publisher(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Publishes the article once a subscriber requests it, reading the data source for each
+     * subscription. An invalid or unreadable article is logged as in {@link #getArticle()} and
+     * completes the subscription without publishing anything.
+     *
+     * @param executor the executor parsing and delivering the article
+     * @return a publisher of at most one valid article
+     */
+    public Flow.Publisher<SimpleArticle> publisher(Executor executor) {
+        return new ArticlePublisher<>(() -> new ItemCursor<>() {
+            private boolean read;
+
+            @Override
+            public SimpleArticle next() {
+                if (read) {
+                    return null;
+                }
+                read = true;
+                return getArticle();
+            }
+
+            @Override
+            public void close() {}
+        }, executor, logger);
+    }
 }
@@ -0,0 +1,211 @@
+package org.newsparser.pipeline;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.NewsResponse;
+import org.newsparser.sources.ArticleSource;
+import org.newsparser.utils.Validatable;
+import org.newsparser.utils.Validator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Fetches, parses, validates and writes NewsAPI responses in four stages, each with its own
+ * threads and bounded input queue, so network waits in one stage overlap CPU work in another
+ * and throughput is limited by the slowest stage rather than by their sum.
+ *
+ * <ol>
+ *     <li>{@code fetch} reads each {@link ArticleSource} into a string, skipping sources that fail.</li>
+ *     <li>{@code parse} binds each string to a {@link NewsResponse}, dropping invalid responses.</li>
+ *     <li>{@code validate} filters the articles of a batch of responses together with
+ *     {@link Validator} on the common fork-join pool, so large batches are validated in parallel.</li>
+ *     <li>{@code sink} hands batches of valid articles to the {@link ArticleSink}.</li>
+ * </ol>
+ *
+ * <p>Submitting blocks while the fetch queue is full. {@link #getQueueDepths()} shows where
+ * work is waiting: a full queue sits in front of the stage that needs more threads.</p>
+ */
+public class ArticlePipeline implements AutoCloseable {
+
+    /**
+     * The fetch stage sizing used when none is given: many threads, since fetching mostly waits on the network.
+     */
+    public static final StageConfig DEFAULT_FETCH = new StageConfig(16, 1, 64);
+
+    /**
+     * The parse stage sizing used when none is given: one thread per processor.
+     */
+    public static final StageConfig DEFAULT_PARSE = new StageConfig(Runtime.getRuntime().availableProcessors(), 4, 64);
+
+    /**
+     * The validate stage sizing used when none is given.
+     */
+    public static final StageConfig DEFAULT_VALIDATE = new StageConfig(2, 16, 64);
+
+    /**
+     * The sink stage sizing used when none is given: one thread writing large batches.
+     */
+    public static final StageConfig DEFAULT_SINK = new StageConfig(1, 256, 4096);
+
+    private final PipelineStage<ArticleSource, String> fetch;
+    private final PipelineStage<String, NewsResponse> parse;
+    private final PipelineStage<NewsResponse, Article> validate;
+    private final PipelineStage<Article, Void> sink;
+    private volatile boolean finishing;
+
+    /**
+     * Constructs an {@code ArticlePipeline} with the default stage sizes.
+     *
+     * @param sink   the sink receiving valid articles
+     * @param logger the {@link Logger} for invalid items and failed batches
+     */
+    public ArticlePipeline(ArticleSink sink, Logger logger) {
+        this(DEFAULT_FETCH, DEFAULT_PARSE, DEFAULT_VALIDATE, DEFAULT_SINK, sink, logger);
+    }
+
+    /**
+     * Constructs an {@code ArticlePipeline} and starts its stages.
+     *
+     * @param fetchConfig    the sizing of the fetch stage
+     * @param parseConfig    the sizing of the parse stage
+     * @param validateConfig the sizing of the validate stage
+     * @param sinkConfig     the sizing of the sink stage
+     * @param articleSink    the sink receiving valid articles
+     * @param logger         the {@link Logger} for invalid items and failed batches
+     */
+    public ArticlePipeline(StageConfig fetchConfig, StageConfig parseConfig, StageConfig validateConfig,
+                           StageConfig sinkConfig, ArticleSink articleSink, Logger logger) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        this.sink = new PipelineStage<>("sink", sinkConfig, (batch, emit) -> {
+            articleSink.write(batch);
+            return 0;
+        }, null, logger);
+
+        this.validate = new PipelineStage<>("validate", validateConfig, (batch, emit) -> {
+            List<Article> articles = new ArrayList<>();
+            for (NewsResponse response : batch) {
+                articles.addAll(response.getArticles());
+            }
+            Validator.filterValidItems(articles, Validatable::invalidReason, logger, article -> {},
+                    ForkJoinPool.commonPool()).forEach(emit);
+            return 0;
+        }, this.sink, logger);
+
+        // A malformed payload is skipped on its own, so the other responses of its batch still go through
+        this.parse = new PipelineStage<>("parse", parseConfig, (batch, emit) -> {
+            int malformed = 0;
+            for (String json : batch) {
+                NewsResponse response;
+                try {
+                    response = objectMapper.readValue(json, NewsResponse.class);
+                } catch (JsonProcessingException e) {
+                    logger.warning("Failed to parse JSON data: " + e.getMessage());
+                    malformed++;
+                    continue;
+                }
+                if (response.isValid()) {
+                    emit.accept(response);
+                } else {
+                    logger.warning("Invalid JSON response from data source.");
+                }
+            }
+            return malformed;
+        }, this.validate, logger);
+
+        // Likewise, a source that cannot be read does not hold back the sources fetched after it
+        this.fetch = new PipelineStage<>("fetch", fetchConfig, (batch, emit) -> {
+            int unreadable = 0;
+            for (ArticleSource source : batch) {
+                String json;
+                try {
+                    json = source.getJsonString();
+                } catch (IOException | RuntimeException e) {
+                    logger.warning("Failed to fetch data source: " + e.getMessage());
+                    unreadable++;
+                    continue;
+                }
+                emit.accept(json);
+            }
+            return unreadable;
+        }, this.parse, logger);
+    }
+
+    /**
+     * Queues a source to be fetched, waiting while the fetch queue is full. Sources must not
+     * be submitted concurrently with {@link #finish(long, TimeUnit)}.
+     *
+     * @param source the source
+     * @throws InterruptedException  if interrupted while waiting
+     * @throws IllegalStateException if the pipeline is finishing
+     */
+    public void submit(ArticleSource source) throws InterruptedException {
+        if (finishing) {
+            throw new IllegalStateException("Pipeline is finishing; no more sources can be submitted.");
+        }
+        fetch.put(source);
+    }
+
+    /**
+     * Stops accepting sources and waits for everything submitted to pass through every stage.
+     *
+     * @param timeout the longest time to wait
+     * @param unit    the unit of the timeout
+     * @return true if every stage finished, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean finish(long timeout, TimeUnit unit) throws InterruptedException {
+        finishing = true;
+        fetch.closeInput();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (PipelineStage<?, ?> stage : getStages()) {
+            if (!stage.awaitFinished(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the stages in order.
+     *
+     * @return the fetch, parse, validate and sink stages
+     */
+    public List<PipelineStage<?, ?>> getStages() {
+        return List.of(fetch, parse, validate, sink);
+    }
+
+    /**
+     * Gets the number of items waiting in front of each stage.
+     *
+     * @return the queue depth of each stage, by stage name, in order
+     */
+    public Map<String, Integer> getQueueDepths() {
+        Map<String, Integer> depths = new LinkedHashMap<>();
+        for (PipelineStage<?, ?> stage : getStages()) {
+            depths.put(stage.getName(), stage.getQueueDepth());
+        }
+        return depths;
+    }
+
+    /**
+     * Stops every stage at once, dropping queued items. Call {@link #finish(long, TimeUnit)}
+     * first to let submitted work complete.
+     */
+    @Override
+    public void close() {
+        finishing = true;
+        for (PipelineStage<?, ?> stage : getStages()) {
+            stage.stop();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.newsparser.pipeline;
+
+import org.newsparser.databind.Article;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The last stage of an {@link ArticlePipeline}, receiving valid articles in batches. A sink
+ * run on more than one thread must be safe to call concurrently.
+ */
+@FunctionalInterface
+public interface ArticleSink {
+
+    /**
+     * Writes a batch of valid articles.
+     *
+     * @param batch the articles
+     * @throws IOException if the articles cannot be written
+     */
+    void write(List<Article> batch) throws IOException;
+}
@@ -0,0 +1,250 @@
+package org.newsparser.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * One stage of an {@link ArticlePipeline}: a bounded input queue drained in batches by the
+ * stage's own threads, which hand their output to the next stage's queue.
+ *
+ * <p>Handing output on blocks while the next queue is full, so a slow stage holds back the
+ * stages before it instead of letting work pile up. A batch function may skip items that fail
+ * on their own and report how many it skipped, so their siblings still go through; a batch that
+ * throws is counted as failed as a whole and logged. Either way the stage carries on with the
+ * next batch. A stage's input is closed once every
+ * thread of the stage before it has finished, and a stage finishes once its input is closed
+ * and its queue is empty.</p>
+ *
+ * @param <I> the type of items the stage takes
+ * @param <O> the type of items the stage produces
+ */
+public class PipelineStage<I, O> {
+
+    /**
+     * Processes a batch of items, emitting any number of results and counting the items that failed.
+     *
+     * @param <I> the type of items taken
+     * @param <O> the type of items produced
+     */
+    @FunctionalInterface
+    interface BatchFunction<I, O> {
+
+        /**
+         * Processes a batch.
+         *
+         * @param batch the items, in queue order
+         * @param emit  receives each result
+         * @return the number of items that failed and were skipped
+         * @throws Exception if the batch fails as a whole
+         */
+        int process(List<I> batch, Consumer<O> emit) throws Exception;
+    }
+
+    private static final long POLL_MILLIS = 20;
+
+    private final String name;
+    private final StageConfig config;
+    private final BatchFunction<I, O> function;
+    private final PipelineStage<O, ?> next;
+    private final Logger logger;
+    private final BlockingQueue<I> queue;
+    private final ExecutorService executor;
+    private final AtomicInteger activeThreads;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong busyNanos = new AtomicLong();
+    private volatile boolean inputClosed;
+
+    PipelineStage(String name, StageConfig config, BatchFunction<I, O> function, PipelineStage<O, ?> next, Logger logger) {
+        this.name = name;
+        this.config = config;
+        this.function = function;
+        this.next = next;
+        this.logger = logger;
+        this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        this.activeThreads = new AtomicInteger(config.getThreads());
+        AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(config.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "pipeline-" + name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < config.getThreads(); i++) {
+            executor.execute(this::work);
+        }
+    }
+
+    /**
+     * Adds an item to the stage's queue, waiting while the queue is full.
+     *
+     * @param item the item
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void put(I item) throws InterruptedException {
+        queue.put(item);
+    }
+
+    /**
+     * Marks that no more items will be added.
+     */
+    void closeInput() {
+        inputClosed = true;
+    }
+
+    private void work() {
+        List<I> batch = new ArrayList<>(config.getBatchSize());
+        Consumer<O> emit = (next != null) ? this::emit : item -> {};
+        try {
+            while (true) {
+                I first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (inputClosed && queue.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, config.getBatchSize() - 1);
+                long start = System.nanoTime();
+                try {
+                    int skipped = function.process(batch, emit);
+                    processed.addAndGet(batch.size() - skipped);
+                    failed.addAndGet(skipped);
+                } catch (Exception e) {
+                    if (e instanceof InterruptedException) {
+                        throw (InterruptedException) e;
+                    }
+                    failed.addAndGet(batch.size());
+                    logger.log(Level.WARNING, "Stage " + name + " failed a batch of " + batch.size()
+                            + ": " + e.getMessage(), e);
+                }
+                busyNanos.addAndGet(System.nanoTime() - start);
+                batches.incrementAndGet();
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (activeThreads.decrementAndGet() == 0 && next != null) {
+                next.closeInput();
+            }
+        }
+    }
+
+    private void emit(O item) {
+        try {
+            next.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while handing output to stage " + next.name + ".", e);
+        }
+    }
+
+    /**
+     * Waits for every thread of the stage to finish.
+     *
+     * @param timeout the longest time to wait
+     * @param unit    the unit of the timeout
+     * @return true if the stage finished, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean awaitFinished(long timeout, TimeUnit unit) throws InterruptedException {
+        executor.shutdown();
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Stops the stage's threads without waiting for queued items.
+     */
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Gets the name of the stage.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the sizing of the stage.
+     *
+     * @return the configuration
+     */
+    public StageConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Gets the number of items waiting in the stage's queue. A queue that stays full marks
+     * the slowest stage, or one that needs more threads.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the number of items processed without failure.
+     *
+     * @return the processed count
+     */
+    public long getProcessedCount() {
+        return processed.get();
+    }
+
+    /**
+     * Gets the number of items that failed on their own or in batches that failed.
+     *
+     * @return the failed count
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Gets the number of batches processed, whether or not they failed. Compared with
+     * {@link #getProcessedCount()}, it shows how full the batches were.
+     *
+     * @return the batch count
+     */
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    /**
+     * Gets the total time the stage's threads spent processing batches, including time blocked
+     * handing output to a full queue.
+     *
+     * @return the busy time in milliseconds
+     */
+    public long getBusyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(busyNanos.get());
+    }
+
+    /**
+     * Returns a string representation of the stage's state.
+     *
+     * @return the name, queue depth and counters
+     */
+    @Override
+    public String toString() {
+        return name + " [queue=" + getQueueDepth() + "/" + config.getQueueCapacity() + ", processed=" + processed.get()
+                + ", failed=" + failed.get() + ", batches=" + batches.get() + ", busyMillis=" + getBusyMillis() + "]";
+    }
+}
@@ -0,0 +1,65 @@
+package org.newsparser.pipeline;
+
+/**
+ * The sizing of one pipeline stage: how many threads run it, how many items each thread takes
+ * from its input queue at a time, and how many items that queue holds before upstream blocks.
+ */
+public class StageConfig {
+
+    private final int threads;
+    private final int batchSize;
+    private final int queueCapacity;
+
+    /**
+     * Constructs a StageConfig with the specified sizes.
+     *
+     * @param threads       the number of threads running the stage
+     * @param batchSize     the largest number of items processed together
+     * @param queueCapacity the number of items the stage's input queue holds
+     */
+    public StageConfig(int threads, int batchSize, int queueCapacity) {
+        if (threads <= 0 || batchSize <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Threads, batch size and queue capacity must be positive.");
+        }
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Gets the number of threads running the stage.
+     *
+     * @return the thread count
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Gets the largest number of items processed together.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Gets the number of items the stage's input queue holds.
+     *
+     * @return the queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Returns a string representation of the configuration.
+     *
+     * @return the thread count, batch size and queue capacity
+     */
+    @Override
+    public String toString() {
+        return "StageConfig [threads=" + threads + ", batchSize=" + batchSize + ", queueCapacity=" + queueCapacity + "]";
+    }
+}
@@ -0,0 +1,146 @@
+package org.newsparser.rules;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declarative validation rules for one {@link org.newsparser.utils.Validatable} type,
+ * as read from a JSON rule file. Every setting is optional:
+ *
+ * <pre>
+ * {
+ *   "required":        ["title", "description", "url", "publishedAt"],
+ *   "maxLength":       {"title": 300},
+ *   "urlFields":       ["url", "urlToImage"],
+ *   "notBefore":       "2020-01-01T00:00:00Z",
+ *   "notAfter":        "2030-01-01T00:00:00Z",
+ *   "maxAgeMillis":    604800000,
+ *   "maxFutureMillis": 3600000,
+ *   "allowedSources":  ["bbc-news", "reuters"]
+ * }
+ * </pre>
+ *
+ * <p>Field names are those listed by the matching {@link RuleTarget}. URL, length and date
+ * checks skip absent values; use {@code required} to reject them.</p>
+ */
+public class FieldRules {
+
+    private final List<String> required;
+    private final Map<String, Integer> maxLength;
+    private final List<String> urlFields;
+    private final Instant notBefore;
+    private final Instant notAfter;
+    private final Long maxAgeMillis;
+    private final Long maxFutureMillis;
+    private final List<String> allowedSources;
+
+    /**
+     * Constructs a FieldRules instance with the specified settings.
+     *
+     * @param required        the fields that must be present and not blank
+     * @param maxLength       the maximum length of each listed text field, checked in the given order
+     * @param urlFields       the text fields that must be absolute HTTP URLs when present
+     * @param notBefore       the earliest accepted publication time, or null for no bound
+     * @param notAfter        the latest accepted publication time, or null for no bound
+     * @param maxAgeMillis    the maximum age of the publication time at check time, or null for no bound
+     * @param maxFutureMillis how far past the check time the publication time may be, or null for no bound
+     * @param allowedSources  the accepted source ids, or null to accept every source
+     */
+    @JsonCreator
+    public FieldRules(
+            @JsonProperty("required") List<String> required,
+            @JsonProperty("maxLength") Map<String, Integer> maxLength,
+            @JsonProperty("urlFields") List<String> urlFields,
+            @JsonProperty("notBefore") Instant notBefore,
+            @JsonProperty("notAfter") Instant notAfter,
+            @JsonProperty("maxAgeMillis") Long maxAgeMillis,
+            @JsonProperty("maxFutureMillis") Long maxFutureMillis,
+            @JsonProperty("allowedSources") List<String> allowedSources) {
+        this.required = (required != null) ? List.copyOf(required) : List.of();
+        this.maxLength = (maxLength != null) ? Collections.unmodifiableMap(new LinkedHashMap<>(maxLength)) : Map.of();
+        this.urlFields = (urlFields != null) ? List.copyOf(urlFields) : List.of();
+        this.notBefore = notBefore;
+        this.notAfter = notAfter;
+        this.maxAgeMillis = maxAgeMillis;
+        this.maxFutureMillis = maxFutureMillis;
+        this.allowedSources = (allowedSources != null) ? List.copyOf(allowedSources) : null;
+    }
+
+    /**
+     * Gets the fields that must be present and not blank.
+     *
+     * @return the required field names, in check order
+     */
+    public List<String> getRequired() {
+        return required;
+    }
+
+    /**
+     * Gets the maximum length of each listed text field.
+     *
+     * @return the maximum lengths by field name, in the order they were given
+     */
+    public Map<String, Integer> getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Gets the text fields that must be absolute HTTP URLs when present.
+     *
+     * @return the URL field names
+     */
+    public List<String> getUrlFields() {
+        return urlFields;
+    }
+
+    /**
+     * Gets the earliest accepted publication time.
+     *
+     * @return the lower bound, or null if there is none
+     */
+    public Instant getNotBefore() {
+        return notBefore;
+    }
+
+    /**
+     * Gets the latest accepted publication time.
+     *
+     * @return the upper bound, or null if there is none
+     */
+    public Instant getNotAfter() {
+        return notAfter;
+    }
+
+    /**
+     * Gets the maximum age of the publication time, measured when an item is checked.
+     *
+     * @return the maximum age in milliseconds, or null if there is none
+     */
+    public Long getMaxAgeMillis() {
+        return maxAgeMillis;
+    }
+
+    /**
+     * Gets how far in the future the publication time may be, measured when an item is checked.
+     *
+     * @return the allowance in milliseconds, or null if there is none
+     */
+    public Long getMaxFutureMillis() {
+        return maxFutureMillis;
+    }
+
+    /**
+     * Gets the accepted source ids.
+     *
+     * @return the source ids, or null if every source is accepted
+     */
+    public List<String> getAllowedSources() {
+        return allowedSources;
+    }
+}
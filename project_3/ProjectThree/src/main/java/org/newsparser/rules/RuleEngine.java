@@ -0,0 +1,153 @@
+package org.newsparser.rules;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.newsparser.utils.Validatable;
+import org.newsparser.utils.ValidationRule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds compiled validation rules per tenant, loaded from JSON so that rules can change
+ * without a code change.
+ *
+ * <p>A rule file maps target names from {@link RuleTarget} to {@link FieldRules}:</p>
+ * <pre>
+ * {
+ *   "Article":      {"required": ["title", "url", "source.id"], "urlFields": ["url"], "allowedSources": ["reuters"]},
+ *   "NewsResponse": {"required": ["status"]}
+ * }
+ * </pre>
+ *
+ * <p>The parsers apply the rules they are given: {@code Article} and {@code NewsResponse}
+ * rules through {@link org.newsparser.parsers.NewsResponseJsonParser#setArticleRule} and
+ * {@link org.newsparser.parsers.NewsResponseJsonParser#setResponseRule}, and
+ * {@code SimpleArticle} rules through
+ * {@link org.newsparser.parsers.SimpleNewsResponseJsonParser#setArticleRule}. An article's
+ * source is checked through the {@code source.*} fields of the {@code Article} rules.</p>
+ *
+ * <p>Rules are compiled once when loaded, and a tenant's rules are replaced as a whole, so
+ * concurrent lookups see either the old or the new rules. A type without rules for a tenant
+ * falls back to the {@link #DEFAULT_TENANT} rules, then to the type's own
+ * {@link Validatable#invalidReason()} check. Callers should look up a rule once per batch
+ * rather than once per item.</p>
+ */
+public class RuleEngine {
+
+    /**
+     * The tenant whose rules apply when a tenant has no rules for a type.
+     */
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final TypeReference<Map<String, FieldRules>> RULE_FILE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final Clock clock;
+    private final Map<String, Map<RuleTarget<?>, CompiledRules<?>>> tenants = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a {@code RuleEngine} measuring relative date windows with the system clock.
+     */
+    public RuleEngine() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a {@code RuleEngine} measuring relative date windows with the given clock.
+     *
+     * @param clock the clock used when checking items
+     */
+    public RuleEngine(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Compiles and installs a tenant's rules, replacing any rules the tenant had.
+     *
+     * @param tenant the tenant name
+     * @param rules  the rules by target name
+     * @throws IllegalArgumentException if a target or field name is unknown
+     */
+    public void register(String tenant, Map<String, FieldRules> rules) {
+        Map<RuleTarget<?>, CompiledRules<?>> compiled = new HashMap<>();
+        rules.forEach((name, fieldRules) -> {
+            RuleTarget<?> target = RuleTarget.forName(name);
+            compiled.put(target, CompiledRules.compile(target, fieldRules, clock));
+        });
+        tenants.put(tenant, Map.copyOf(compiled));
+    }
+
+    /**
+     * Reads, compiles and installs a tenant's rules from JSON.
+     *
+     * @param tenant the tenant name
+     * @param json   the rule file contents
+     * @throws IOException              if the JSON cannot be read or does not match the rule format
+     * @throws IllegalArgumentException if a target or field name is unknown
+     */
+    public void load(String tenant, InputStream json) throws IOException {
+        register(tenant, objectMapper.readValue(json, RULE_FILE));
+    }
+
+    /**
+     * Loads every {@code <tenant>.json} file in a directory.
+     *
+     * @param directory the directory holding rule files
+     * @return the number of tenants loaded
+     * @throws IOException              if a file cannot be read or parsed
+     * @throws IllegalArgumentException if a target or field name is unknown
+     */
+    public int loadDirectory(Path directory) throws IOException {
+        int loaded = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.json")) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                try (InputStream json = Files.newInputStream(file)) {
+                    load(fileName.substring(0, fileName.length() - ".json".length()), json);
+                }
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Removes a tenant's rules, so that it falls back to the default rules.
+     *
+     * @param tenant the tenant name
+     */
+    public void remove(String tenant) {
+        tenants.remove(tenant);
+    }
+
+    /**
+     * Gets the rule checking a type for a tenant.
+     *
+     * @param tenant the tenant name
+     * @param target the type to check
+     * @param <T>    the type of items checked
+     * @return the tenant's compiled rules, the default tenant's, or the type's own check
+     */
+    public <T extends Validatable> ValidationRule<T> rulesFor(String tenant, RuleTarget<T> target) {
+        CompiledRules<T> rules = lookup(tenant, target);
+        if (rules == null) {
+            rules = lookup(DEFAULT_TENANT, target);
+        }
+        return (rules != null) ? rules : Validatable::invalidReason;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Validatable> CompiledRules<T> lookup(String tenant, RuleTarget<T> target) {
+        Map<RuleTarget<?>, CompiledRules<?>> rules = tenants.get(tenant);
+        return (rules != null) ? (CompiledRules<T>) rules.get(target) : null;
+    }
+}
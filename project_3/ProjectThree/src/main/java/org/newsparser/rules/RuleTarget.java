@@ -0,0 +1,182 @@
+package org.newsparser.rules;
+
+import org.newsparser.databind.Article;
+import org.newsparser.databind.NewsResponse;
+import org.newsparser.databind.SimpleArticle;
+import org.newsparser.utils.TextChecks;
+import org.newsparser.utils.Validatable;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Describes the fields of a {@link Validatable} type that rules can refer to, as accessors
+ * that read a field without copying it. Rule files name their targets by {@link #getName()}.
+ *
+ * @param <T> the described type
+ */
+public class RuleTarget<T extends Validatable> {
+
+    /**
+     * Fields of {@link Article}: text fields {@code title}, {@code description}, {@code url},
+     * {@code urlToImage}, {@code author}, {@code content}, {@code source.id}, {@code source.name},
+     * and the fields {@code publishedAt} and {@code source}.
+     */
+    public static final RuleTarget<Article> ARTICLE = new RuleTarget<>("Article",
+            Map.of("title", Article::getTitle,
+                    "description", Article::getDescription,
+                    "url", Article::getUrl,
+                    "urlToImage", Article::getUrlToImage,
+                    "author", Article::getAuthor,
+                    "content", Article::getContent,
+                    "source.id", article -> (article.getSource() != null) ? article.getSource().getId() : null,
+                    "source.name", article -> (article.getSource() != null) ? article.getSource().getName() : null),
+            Map.of("publishedAt", article -> article.getPublishedTimeMillis() != Long.MIN_VALUE,
+                    "source", article -> article.getSource() != null),
+            Article::getPublishedTimeMillis,
+            article -> (article.getSource() != null) ? article.getSource().getId() : null);
+
+    /**
+     * Fields of {@link SimpleArticle}: text fields {@code title}, {@code description}, {@code url},
+     * and the field {@code publishedAt}, read as UTC.
+     */
+    public static final RuleTarget<SimpleArticle> SIMPLE_ARTICLE = new RuleTarget<>("SimpleArticle",
+            Map.of("title", SimpleArticle::getTitle,
+                    "description", SimpleArticle::getDescription,
+                    "url", SimpleArticle::getUrl),
+            Map.of("publishedAt", article -> article.getPublishedAt() != null),
+            article -> toEpochMillis(article.getPublishedAt()),
+            null);
+
+    /**
+     * Fields of {@link NewsResponse}: text field {@code status} and the field {@code articles},
+     * which is present when it holds at least one article.
+     */
+    public static final RuleTarget<NewsResponse> NEWS_RESPONSE = new RuleTarget<>("NewsResponse",
+            Map.of("status", NewsResponse::getStatus),
+            Map.of("articles", response -> response.getArticles() != null && !response.getArticles().isEmpty()),
+            null,
+            null);
+
+    private static final List<RuleTarget<?>> ALL = List.of(ARTICLE, SIMPLE_ARTICLE, NEWS_RESPONSE);
+
+    private final String name;
+    private final Map<String, Function<T, CharSequence>> textFields;
+    private final Map<String, Predicate<T>> presentFields;
+    private final ToLongFunction<T> publishedAt;
+    private final Function<T, String> sourceId;
+
+    private RuleTarget(String name, Map<String, Function<T, CharSequence>> textFields,
+                       Map<String, Predicate<T>> presentFields, ToLongFunction<T> publishedAt,
+                       Function<T, String> sourceId) {
+        this.name = name;
+        this.textFields = textFields;
+        this.presentFields = presentFields;
+        this.publishedAt = publishedAt;
+        this.sourceId = sourceId;
+    }
+
+    /**
+     * Finds the target with the given name.
+     *
+     * @param name the target name, such as {@code "Article"}
+     * @return the target
+     * @throws IllegalArgumentException if no target has the name
+     */
+    public static RuleTarget<?> forName(String name) {
+        for (RuleTarget<?> target : ALL) {
+            if (target.name.equals(name)) {
+                return target;
+            }
+        }
+        throw new IllegalArgumentException("Unknown rule target: " + name);
+    }
+
+    /**
+     * Gets the name rule files use for this target.
+     *
+     * @return the target name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the accessor of a text field.
+     *
+     * @param field the field name
+     * @return the accessor
+     * @throws IllegalArgumentException if the target has no such text field
+     */
+    Function<T, CharSequence> textField(String field) {
+        Function<T, CharSequence> accessor = textFields.get(field);
+        if (accessor == null) {
+            throw new IllegalArgumentException(name + " has no text field " + field);
+        }
+        return accessor;
+    }
+
+    /**
+     * Gets a check that a field is present: not blank for text fields, set for other fields.
+     *
+     * @param field the field name
+     * @return the presence check
+     * @throws IllegalArgumentException if the target has no such field
+     */
+    Predicate<T> presence(String field) {
+        Predicate<T> present = presentFields.get(field);
+        if (present != null) {
+            return present;
+        }
+        Function<T, CharSequence> accessor = textField(field);
+        return item -> !TextChecks.isBlank(accessor.apply(item));
+    }
+
+    /**
+     * Gets the accessor of the publication time.
+     *
+     * @return the accessor returning {@link Long#MIN_VALUE} when unset
+     * @throws IllegalArgumentException if the target has no publication time
+     */
+    ToLongFunction<T> publishedAt() {
+        if (publishedAt == null) {
+            throw new IllegalArgumentException(name + " has no publication time");
+        }
+        return publishedAt;
+    }
+
+    /**
+     * Gets the accessor of the source id.
+     *
+     * @return the accessor
+     * @throws IllegalArgumentException if the target has no source
+     */
+    Function<T, String> sourceId() {
+        if (sourceId == null) {
+            throw new IllegalArgumentException(name + " has no source");
+        }
+        return sourceId;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return Long.MIN_VALUE;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1000 + dateTime.getNano() / 1_000_000;
+    }
+
+    /**
+     * Returns the target name.
+     *
+     * @return the target name
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+}
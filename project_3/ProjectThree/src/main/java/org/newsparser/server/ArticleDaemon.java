@@ -0,0 +1,270 @@
+package org.newsparser.server;
+
+import org.newsparser.databind.Article;
+import org.newsparser.databind.NewsResponse;
+import org.newsparser.index.PagedArticleSet;
+import org.newsparser.jobs.FeedJob;
+import org.newsparser.jobs.ParserRegistry;
+import org.newsparser.jobs.PollingPolicy;
+import org.newsparser.jobs.PollingScheduler;
+import org.newsparser.parsers.NewsResponseJsonParser;
+import org.newsparser.sources.ArticleSource;
+import org.newsparser.sources.SourceFormat;
+import org.newsparser.store.ArticleSnapshot;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps polling a set of feeds in the background and serves their valid articles from memory
+ * through an {@link ArticleServer}.
+ *
+ * <p>Each feed is polled by a {@link PollingScheduler}; whenever its payload changes, the
+ * response is parsed and validated and its articles are added to the shared
+ * {@link PagedArticleSet}, replacing earlier versions of the same URLs. Only NewsAPI response
+ * feeds are served, since the set holds {@link org.newsparser.databind.Article}s. After each
+ * ingest, and at least every {@value #EVICTION_INTERVAL_MILLIS} ms so that quiet feeds age out
+ * too, articles published before the retention window, and the oldest articles beyond the
+ * size cap, are evicted, so the set holds the current articles rather than everything ever
+ * polled. Query responses are cached in a {@link ResponseCache} until articles from their
+ * source arrive or are evicted.</p>
+ *
+ * <p>With a snapshot file set, the articles are also written to an {@link ArticleSnapshot}
+ * periodically and on close, and a daemon started over an existing snapshot serves its articles
+ * right away instead of waiting for every feed to be fetched and parsed again.</p>
+ */
+public class ArticleDaemon implements AutoCloseable {
+
+    /**
+     * The number of encoded query responses kept for reuse.
+     */
+    public static final int RESPONSE_CACHE_SIZE = 1024;
+
+    /**
+     * The default number of articles served at most.
+     */
+    public static final int DEFAULT_MAX_ARTICLES = 100_000;
+
+    /**
+     * The default age, by publication time, past which articles are no longer served.
+     */
+    public static final long DEFAULT_RETENTION_MILLIS = Duration.ofDays(7).toMillis();
+
+    /**
+     * The longest time between evictions, in milliseconds; shorter retention windows are checked as often as they last.
+     */
+    public static final long EVICTION_INTERVAL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    /**
+     * The default time between snapshot writes, in milliseconds.
+     */
+    public static final long DEFAULT_SNAPSHOT_PERIOD_MILLIS = Duration.ofMinutes(5).toMillis();
+
+    /**
+     * How long closing waits for a running eviction or snapshot write, in seconds.
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final List<FeedJob> jobs;
+    private final ParserRegistry registry;
+    private final Logger logger;
+    private final int maxArticles;
+    private final long retentionMillis;
+    private final Clock clock = Clock.systemUTC();
+    private final PagedArticleSet articles = new PagedArticleSet();
+    private final ResponseCache responseCache = new ResponseCache(RESPONSE_CACHE_SIZE, clock);
+    private final PollingScheduler poller;
+    private final ArticleServer server;
+    private final ScheduledExecutorService maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "article-daemon-maintenance");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Path snapshotPath;
+    private long snapshotPeriodMillis = DEFAULT_SNAPSHOT_PERIOD_MILLIS;
+
+    /**
+     * Constructs an {@code ArticleDaemon} with the default retention and binds its server.
+     * Nothing is polled or served until started.
+     *
+     * @param jobs        the feeds to poll
+     * @param registry    the registry resolving each feed's source
+     * @param policy      how poll intervals adapt
+     * @param pollThreads the number of feeds polled at once
+     * @param address     the address to serve on
+     * @param logger      the {@link Logger} for skipped feeds, failed polls and invalid articles
+     * @throws IOException if the address cannot be bound
+     */
+    public ArticleDaemon(List<FeedJob> jobs, ParserRegistry registry, PollingPolicy policy, int pollThreads,
+                         InetSocketAddress address, Logger logger) throws IOException {
+        this(jobs, registry, policy, pollThreads, DEFAULT_MAX_ARTICLES, DEFAULT_RETENTION_MILLIS, address, logger);
+    }
+
+    /**
+     * Constructs an {@code ArticleDaemon} and binds its server. Nothing is polled or served until started.
+     *
+     * @param jobs            the feeds to poll
+     * @param registry        the registry resolving each feed's source
+     * @param policy          how poll intervals adapt
+     * @param pollThreads     the number of feeds polled at once
+     * @param maxArticles     the number of articles served at most
+     * @param retentionMillis the age, by publication time, past which articles are no longer served
+     * @param address         the address to serve on
+     * @param logger          the {@link Logger} for skipped feeds, failed polls and invalid articles
+     * @throws IOException if the address cannot be bound
+     */
+    public ArticleDaemon(List<FeedJob> jobs, ParserRegistry registry, PollingPolicy policy, int pollThreads,
+                         int maxArticles, long retentionMillis, InetSocketAddress address, Logger logger) throws IOException {
+        if (maxArticles <= 0 || retentionMillis <= 0) {
+            throw new IllegalArgumentException("Article cap and retention must be positive.");
+        }
+        this.jobs = List.copyOf(jobs);
+        this.registry = registry;
+        this.logger = logger;
+        this.maxArticles = maxArticles;
+        this.retentionMillis = retentionMillis;
+        this.poller = new PollingScheduler(policy, pollThreads, logger);
+        this.server = new ArticleServer(address, articles, responseCache, clock, logger);
+    }
+
+    /**
+     * Keeps the served articles in a snapshot file. On {@link #start()}, the file is loaded if it
+     * exists; from then on it is rewritten every period and once more on {@link #close()}.
+     * Must be called before starting.
+     *
+     * @param snapshotPath the snapshot file, or {@code null} to keep no snapshot
+     * @param periodMillis the time between snapshot writes
+     * @throws IllegalArgumentException if the period is not positive
+     */
+    public void setSnapshot(Path snapshotPath, long periodMillis) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("Snapshot period must be positive.");
+        }
+        this.snapshotPath = snapshotPath;
+        this.snapshotPeriodMillis = periodMillis;
+    }
+
+    /**
+     * Starts polling every NewsAPI response feed, evicting expired articles and serving requests.
+     * Articles of an existing snapshot are loaded first.
+     */
+    public void start() {
+        if (snapshotPath != null) {
+            restoreSnapshot();
+            ArticleSnapshot.schedule(maintenance, snapshotPath, articles::toList, snapshotPeriodMillis, logger);
+        }
+        for (FeedJob job : jobs) {
+            if (job.getFormatType() != SourceFormat.ArticleFormatType.NEWS_RESPONSE) {
+                logger.warning("Skipping " + job.getId() + ": only " + SourceFormat.ArticleFormatType.NEWS_RESPONSE
+                        + " feeds can be served.");
+                continue;
+            }
+            ArticleSource source = registry.create(job, logger).getDataSource();
+            poller.schedule(job.getId(), source, this::ingest);
+        }
+        long evictionMillis = Math.min(EVICTION_INTERVAL_MILLIS, retentionMillis);
+        maintenance.scheduleAtFixedRate(() -> {
+            // A failed run must not cancel the schedule
+            try {
+                evictExpired();
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Eviction of expired articles failed: " + e.getMessage(), e);
+            }
+        }, evictionMillis, evictionMillis, TimeUnit.MILLISECONDS);
+        server.start();
+    }
+
+    private void ingest(String json) {
+        NewsResponse response = new NewsResponseJsonParser(() -> json, logger).getNewsResponse();
+        if (response != null) {
+            articles.addAll(response);
+            responseCache.articlesAdded(response.getArticles());
+        }
+        evictExpired();
+    }
+
+    private void restoreSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+        try (ArticleSnapshot snapshot = ArticleSnapshot.open(snapshotPath)) {
+            for (Article article : snapshot.toList()) {
+                articles.add(article);
+            }
+            logger.info("Restored " + snapshot.size() + " articles from " + snapshotPath + ".");
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to restore article snapshot: " + e.getMessage());
+        }
+        // The snapshot may predate the retention window or a smaller cap
+        evictExpired();
+    }
+
+    private void evictExpired() {
+        List<Article> evicted = articles.evictOldest(maxArticles, clock.millis() - retentionMillis);
+        if (!evicted.isEmpty()) {
+            responseCache.articlesRemoved(evicted);
+        }
+    }
+
+    /**
+     * Gets the articles being served.
+     *
+     * @return the article set
+     */
+    public PagedArticleSet getArticles() {
+        return articles;
+    }
+
+    /**
+     * Gets the cache of encoded query responses.
+     *
+     * @return the response cache
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return server.getPort();
+    }
+
+    /**
+     * Stops polling, evicting and serving, then writes a final snapshot if one is kept.
+     */
+    @Override
+    public void close() {
+        poller.close();
+        maintenance.shutdown();
+        server.close();
+        if (snapshotPath == null) {
+            return;
+        }
+        try {
+            // A periodic write still running would race the final one for the temporary file
+            if (!maintenance.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Skipping the final article snapshot: a snapshot write is still running.");
+                return;
+            }
+            ArticleSnapshot.write(snapshotPath, articles.toList());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.warning("Failed to write article snapshot: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.newsparser.server;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A normalized article query, usable as a cache key: queries that select the same articles in
+ * the same way compare equal however their parameters were spelled.
+ */
+public class ArticleQuery {
+
+    private final String source;
+    private final long sinceMillis;
+    private final long untilMillis;
+    private final long maxAgeMillis;
+    private final int limit;
+
+    /**
+     * Constructs an ArticleQuery with the specified parameters.
+     *
+     * @param source       the source id or name, in any case, or null for every source
+     * @param sinceMillis  the earliest publication time, or {@link Long#MIN_VALUE} for no lower bound
+     * @param untilMillis  the latest publication time, or {@link Long#MAX_VALUE} for no upper bound
+     * @param maxAgeMillis the largest age of articles relative to now, or -1 for no limit
+     * @param limit        the maximum number of articles
+     */
+    public ArticleQuery(String source, long sinceMillis, long untilMillis, long maxAgeMillis, int limit) {
+        this.source = (source != null) ? source.toLowerCase(Locale.ROOT) : null;
+        this.sinceMillis = sinceMillis;
+        this.untilMillis = untilMillis;
+        this.maxAgeMillis = maxAgeMillis;
+        this.limit = limit;
+    }
+
+    /**
+     * Gets the source, in lower case.
+     *
+     * @return the source id or name, or null for every source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Gets the earliest publication time.
+     *
+     * @return the lower bound in epoch milliseconds, or {@link Long#MIN_VALUE}
+     */
+    public long getSinceMillis() {
+        return sinceMillis;
+    }
+
+    /**
+     * Gets the latest publication time.
+     *
+     * @return the upper bound in epoch milliseconds, or {@link Long#MAX_VALUE}
+     */
+    public long getUntilMillis() {
+        return untilMillis;
+    }
+
+    /**
+     * Gets the largest age of articles relative to now. A query with a maximum age selects
+     * different articles as time passes.
+     *
+     * @return the maximum age in milliseconds, or -1 for no limit
+     */
+    public long getMaxAgeMillis() {
+        return maxAgeMillis;
+    }
+
+    /**
+     * Gets the maximum number of articles.
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Compares queries by all of their normalized parameters.
+     *
+     * @param o the object to compare with
+     * @return true if the queries select the same articles
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ArticleQuery other)) {
+            return false;
+        }
+        return sinceMillis == other.sinceMillis && untilMillis == other.untilMillis
+                && maxAgeMillis == other.maxAgeMillis && limit == other.limit && Objects.equals(source, other.source);
+    }
+
+    /**
+     * Computes a hash code from all of the normalized parameters.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, sinceMillis, untilMillis, maxAgeMillis, limit);
+    }
+
+    /**
+     * Returns a string representation of the query.
+     *
+     * @return the normalized parameters
+     */
+    @Override
+    public String toString() {
+        return "ArticleQuery [source=" + source + ", since=" + sinceMillis + ", until=" + untilMillis
+                + ", maxAge=" + maxAgeMillis + ", limit=" + limit + "]";
+    }
+}
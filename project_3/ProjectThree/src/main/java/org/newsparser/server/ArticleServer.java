@@ -0,0 +1,269 @@
+package org.newsparser.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.newsparser.databind.Article;
+import org.newsparser.index.PagedArticleSet;
+import org.newsparser.output.ArticleRenderer;
+import org.newsparser.output.JsonRenderer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Serves the articles of a {@link PagedArticleSet} over HTTP from memory.
+ *
+ * <p>{@code GET /articles} returns a JSON array of the newest matching articles, in the NewsAPI
+ * article schema. It accepts these query parameters:</p>
+ * <ul>
+ *     <li>{@code source}: a source id or name, ignoring case</li>
+ *     <li>{@code since} and {@code until}: publication time bounds, inclusive, as ISO-8601
+ *     instants such as {@code 2024-06-01T00:00:00Z} or as epoch milliseconds</li>
+ *     <li>{@code maxAge}: an ISO-8601 duration such as {@code PT6H}, a shorthand for {@code since}</li>
+ *     <li>{@code limit}: the maximum number of articles, from 1 to {@link PagedArticleSet#MAX_PAGE_SIZE},
+ *     {@value #DEFAULT_LIMIT} by default</li>
+ * </ul>
+ * <p>{@code GET /health} returns the number of articles held. Malformed parameters get a
+ * 400 response. Each request runs on its own virtual thread.</p>
+ *
+ * <p>With a {@link ResponseCache}, repeated queries are answered with the cached body, written
+ * to the connection as is: the only copy is the one into the socket.</p>
+ */
+public class ArticleServer implements AutoCloseable {
+
+    /**
+     * The number of articles returned when the request sets no limit.
+     */
+    public static final int DEFAULT_LIMIT = 100;
+
+    private final PagedArticleSet articles;
+    private final Clock clock;
+    private final Logger logger;
+    private final ResponseCache responseCache;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Constructs an {@code ArticleServer} bound to an address. It serves nothing until started.
+     *
+     * @param address  the address to listen on; port 0 picks a free port
+     * @param articles the articles to serve
+     * @param logger   the {@link Logger} for failed requests
+     * @throws IOException if the address cannot be bound
+     */
+    public ArticleServer(InetSocketAddress address, PagedArticleSet articles, Logger logger) throws IOException {
+        this(address, articles, Clock.systemUTC(), logger);
+    }
+
+    /**
+     * Constructs an {@code ArticleServer} with the clock used for {@code maxAge}.
+     *
+     * @param address  the address to listen on; port 0 picks a free port
+     * @param articles the articles to serve
+     * @param clock    the clock {@code maxAge} is measured from
+     * @param logger   the {@link Logger} for failed requests
+     * @throws IOException if the address cannot be bound
+     */
+    public ArticleServer(InetSocketAddress address, PagedArticleSet articles, Clock clock, Logger logger) throws IOException {
+        this(address, articles, null, clock, logger);
+    }
+
+    /**
+     * Constructs an {@code ArticleServer} answering repeated queries from a {@link ResponseCache}.
+     * Whoever adds articles to the set must report them to the cache.
+     *
+     * @param address       the address to listen on; port 0 picks a free port
+     * @param articles      the articles to serve
+     * @param responseCache the cache of encoded responses, or null to render every response
+     * @param clock         the clock {@code maxAge} is measured from
+     * @param logger        the {@link Logger} for failed requests
+     * @throws IOException if the address cannot be bound
+     */
+    public ArticleServer(InetSocketAddress address, PagedArticleSet articles, ResponseCache responseCache, Clock clock,
+                         Logger logger) throws IOException {
+        this.articles = articles;
+        this.responseCache = responseCache;
+        this.clock = clock;
+        this.logger = logger;
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext("/articles", exchange -> handle(exchange, this::articles));
+        server.createContext("/health", exchange -> handle(exchange,
+                params -> ("{\"status\":\"ok\",\"articles\":" + this.articles.size() + "}").getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server, waiting up to a second for requests in progress.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdown();
+    }
+
+    /**
+     * Produces a UTF-8 JSON response body from the query parameters of a request.
+     * The body is written as is and may be shared.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        byte[] respond(Map<String, String> params) throws IOException;
+    }
+
+    private void handle(HttpExchange exchange, Endpoint endpoint) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                send(exchange, 405, "{\"error\":\"Only GET is supported.\"}".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            byte[] body;
+            try {
+                body = endpoint.respond(queryParameters(exchange.getRequestURI().getRawQuery()));
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, ("{\"error\":" + jsonString(e.getMessage()) + "}").getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            send(exchange, 200, body);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Failed to serve " + exchange.getRequestURI() + ": " + e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    private byte[] articles(Map<String, String> params) {
+        long since = params.containsKey("since") ? parseTime("since", params.get("since")) : Long.MIN_VALUE;
+        long until = params.containsKey("until") ? parseTime("until", params.get("until")) : Long.MAX_VALUE;
+        long maxAge = params.containsKey("maxAge") ? parseDuration(params.get("maxAge")) : -1;
+        int limit = params.containsKey("limit") ? parseLimit(params.get("limit")) : DEFAULT_LIMIT;
+        ArticleQuery query = new ArticleQuery(params.get("source"), since, until, maxAge, limit);
+
+        return (responseCache != null) ? responseCache.get(query, this::render) : render(query);
+    }
+
+    private byte[] render(ArticleQuery query) {
+        long since = query.getSinceMillis();
+        if (query.getMaxAgeMillis() >= 0) {
+            since = Math.max(since, clock.millis() - query.getMaxAgeMillis());
+        }
+        List<Article> matches = articles.query(query.getSource(), since, query.getUntilMillis(), query.getLimit());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8)) {
+            ArticleRenderer renderer = new JsonRenderer(writer, false);
+            renderer.renderAll(matches);
+            renderer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] bytes) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Splits a raw query string into decoded parameters; a repeated parameter keeps its last value.
+     *
+     * @param rawQuery the query string, or null
+     * @return the parameters by name
+     */
+    static Map<String, String> queryParameters(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = (equals >= 0) ? pair.substring(0, equals) : pair;
+            String value = (equals >= 0) ? pair.substring(equals + 1) : "";
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static long parseTime(String name, String value) {
+        try {
+            if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+                return Long.parseLong(value);
+            }
+            return Instant.parse(value).toEpochMilli();
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Parameter " + name + " must be an ISO-8601 instant or epoch milliseconds.");
+        }
+    }
+
+    private static long parseDuration(String value) {
+        try {
+            return Duration.parse(value).toMillis();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Parameter maxAge must be an ISO-8601 duration such as PT6H.");
+        }
+    }
+
+    private static int parseLimit(String value) {
+        try {
+            int limit = Integer.parseInt(value);
+            if (limit >= 1 && limit <= PagedArticleSet.MAX_PAGE_SIZE) {
+                return limit;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Parameter limit must be between 1 and " + PagedArticleSet.MAX_PAGE_SIZE + ".");
+    }
+
+    private static String jsonString(String text) {
+        StringBuilder quoted = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < ' ') {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,180 @@
+package org.newsparser.server;
+
+import org.newsparser.databind.Article;
+import org.newsparser.databind.Source;
+
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Keeps the encoded UTF-8 response body of each recent {@link ArticleQuery}, so repeated queries
+ * skip both the lookup and the serialization.
+ *
+ * <p>Invalidation is by generation. Every source has a generation counter, and one more counter
+ * covers all sources; {@link #articlesAdded(Iterable)} and {@link #articlesRemoved(Iterable)}
+ * advance the counters of the sources of the changed articles, by id and by name, and the
+ * all-sources counter. An entry remembers the
+ * generation of the source its query names, or of all sources, read before it was rendered, and
+ * it is stale as soon as that generation moves on. New articles from one source therefore leave
+ * cached queries for other sources in place, and an update arriving while a body is rendered
+ * can never leave that body cached as current.</p>
+ *
+ * <p>A query with a maximum age selects different articles as time passes, so its entry also
+ * expires {@value #RELATIVE_TTL_MILLIS} ms after it was rendered. Entries are kept in access
+ * order and the least recently used one is dropped when the cache is full; stale entries are
+ * dropped when they are next looked up, or age out like any other. Bodies are rendered outside
+ * the cache's lock and are shared, not copied: callers must not modify the returned arrays.</p>
+ */
+public class ResponseCache {
+
+    /**
+     * How long the body of a query with a maximum age is reused, in milliseconds.
+     */
+    public static final long RELATIVE_TTL_MILLIS = 1000;
+
+    private final int maxEntries;
+    private final Clock clock;
+    private final LinkedHashMap<ArticleQuery, Entry> entries;
+    private final Map<String, AtomicLong> sourceGenerations = new ConcurrentHashMap<>();
+    private final AtomicLong allSourcesGeneration = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs a {@code ResponseCache}.
+     *
+     * @param maxEntries the number of bodies kept
+     * @param clock      the clock entries of relative queries expire by
+     */
+    public ResponseCache(int maxEntries, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive.");
+        }
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ArticleQuery, Entry> eldest) {
+                return size() > ResponseCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets the cached body of a query, rendering and caching it if there is no current one.
+     *
+     * @param query  the query
+     * @param render renders the body of the query
+     * @return the body, which must not be modified
+     */
+    public byte[] get(ArticleQuery query, Function<ArticleQuery, byte[]> render) {
+        long generation = generation(query.getSource());
+        long now = clock.millis();
+        synchronized (entries) {
+            Entry entry = entries.get(query);
+            if (entry != null && entry.generation == generation && now < entry.expiresAtMillis) {
+                hits.increment();
+                return entry.body;
+            }
+            if (entry != null) {
+                entries.remove(query);
+            }
+        }
+
+        misses.increment();
+        byte[] body = render.apply(query);
+        long expiresAt = (query.getMaxAgeMillis() >= 0) ? now + RELATIVE_TTL_MILLIS : Long.MAX_VALUE;
+        synchronized (entries) {
+            entries.put(query, new Entry(body, generation, expiresAt));
+        }
+        return body;
+    }
+
+    /**
+     * Marks the cached bodies of queries that may include the articles as stale.
+     *
+     * @param articles articles just added to the served set
+     */
+    public void articlesAdded(Iterable<Article> articles) {
+        invalidate(articles);
+    }
+
+    /**
+     * Marks the cached bodies of queries that may include the articles as stale.
+     *
+     * @param articles articles just removed from the served set
+     */
+    public void articlesRemoved(Iterable<Article> articles) {
+        invalidate(articles);
+    }
+
+    private void invalidate(Iterable<Article> articles) {
+        Set<String> sources = new HashSet<>();
+        for (Article article : articles) {
+            Source source = article.getSource();
+            if (source != null) {
+                if (source.getId() != null) {
+                    sources.add(source.getId().toLowerCase(Locale.ROOT));
+                }
+                if (source.getName() != null) {
+                    sources.add(source.getName().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        for (String source : sources) {
+            sourceGenerations.computeIfAbsent(source, key -> new AtomicLong()).incrementAndGet();
+        }
+        allSourcesGeneration.incrementAndGet();
+    }
+
+    // Reading without inserting keeps unknown sources in queries from growing the map
+    private long generation(String source) {
+        if (source == null) {
+            return allSourcesGeneration.get();
+        }
+        AtomicLong generation = sourceGenerations.get(source);
+        return (generation != null) ? generation.get() : 0;
+    }
+
+    /**
+     * Gets the number of queries answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of queries that had to be rendered.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of cached bodies, current or stale.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * An encoded body with the generation it was rendered at.
+     */
+    private record Entry(byte[] body, long generation, long expiresAtMillis) {}
+}
@@ -0,0 +1,140 @@
+package org.newsparser.shard;
+
+import org.newsparser.utils.Hashing;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Assigns keys to nodes by consistent hashing, so adding or removing a node only moves the keys
+ * that belong to it, about {@code 1/n} of them, instead of reshuffling every key.
+ *
+ * <p>Each node is placed on a 64-bit hash ring at several points, its virtual nodes, and a key
+ * belongs to the first node point at or after the key's hash. More virtual nodes spread keys
+ * more evenly. Both nodes and keys are hashed with {@link Hashing#hash64(CharSequence)} of their
+ * string forms. The ring is safe for use from many threads.</p>
+ *
+ * @param <N> the type of nodes
+ */
+public class ConsistentHashRing<N> {
+
+    /**
+     * The number of ring points per node used when none is given.
+     */
+    public static final int DEFAULT_VIRTUAL_NODES = 128;
+
+    private final int virtualNodes;
+    private final TreeMap<Long, N> ring = new TreeMap<>();
+    private final Set<N> nodes = new HashSet<>();
+
+    /**
+     * Constructs an empty ring with the default number of virtual nodes.
+     */
+    public ConsistentHashRing() {
+        this(DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * Constructs an empty ring.
+     *
+     * @param virtualNodes the number of ring points per node
+     */
+    public ConsistentHashRing(int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("Virtual node count must be positive.");
+        }
+        this.virtualNodes = virtualNodes;
+    }
+
+    /**
+     * Adds a node to the ring. Adding a node already on the ring has no effect.
+     *
+     * @param node the node
+     */
+    public synchronized void add(N node) {
+        if (!nodes.add(node)) {
+            return;
+        }
+        for (int i = 0; i < virtualNodes; i++) {
+            ring.putIfAbsent(pointOf(node, i), node);
+        }
+    }
+
+    /**
+     * Removes a node from the ring, handing its keys to the nodes that follow its points.
+     *
+     * @param node the node
+     * @return true if the node was on the ring
+     */
+    public synchronized boolean remove(N node) {
+        if (!nodes.remove(node)) {
+            return false;
+        }
+        for (int i = 0; i < virtualNodes; i++) {
+            ring.remove(pointOf(node, i), node);
+        }
+        return true;
+    }
+
+    private static long pointOf(Object node, int index) {
+        return Hashing.hash64(node + "#" + index);
+    }
+
+    /**
+     * Finds the node a key belongs to.
+     *
+     * @param key the key
+     * @return the node, or null if the ring is empty
+     */
+    public synchronized N nodeFor(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, N> entry = ring.ceilingEntry(Hashing.hash64(key));
+        return (entry != null) ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * Groups items by the node their key belongs to.
+     *
+     * @param items the items
+     * @param keyOf gives the key of an item
+     * @param <T>   the type of items
+     * @return the items of each node that has any, in the order given; empty if the ring is empty
+     */
+    public synchronized <T> Map<N, List<T>> assign(Collection<T> items, Function<T, String> keyOf) {
+        Map<N, List<T>> assignment = new HashMap<>();
+        for (T item : items) {
+            N node = nodeFor(keyOf.apply(item));
+            if (node != null) {
+                assignment.computeIfAbsent(node, key -> new ArrayList<>()).add(item);
+            }
+        }
+        return assignment;
+    }
+
+    /**
+     * Gets the nodes on the ring.
+     *
+     * @return a copy of the nodes
+     */
+    public synchronized Set<N> getNodes() {
+        return Set.copyOf(nodes);
+    }
+
+    /**
+     * Gets the number of nodes on the ring.
+     *
+     * @return the node count
+     */
+    public synchronized int size() {
+        return nodes.size();
+    }
+}
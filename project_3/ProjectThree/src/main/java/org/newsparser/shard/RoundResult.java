@@ -0,0 +1,114 @@
+package org.newsparser.shard;
+
+import java.util.Map;
+
+/**
+ * The totals of one sharded round, as reported by the workers.
+ */
+public class RoundResult {
+
+    private final int jobs;
+    private final long articles;
+    private final long accepted;
+    private final long rejected;
+    private final long failedJobs;
+    private final int reassignedJobs;
+    private final Map<String, Integer> jobsPerWorker;
+
+    /**
+     * Constructs a RoundResult with the specified totals.
+     *
+     * @param jobs           the number of jobs in the round
+     * @param articles       the number of articles merged
+     * @param accepted       the number of valid articles the workers reported
+     * @param rejected       the number of invalid articles the workers reported
+     * @param failedJobs     the number of jobs that failed, timed out or were lost with every worker
+     * @param reassignedJobs the number of jobs handed to another worker after theirs left
+     * @param jobsPerWorker  the number of jobs first assigned to each worker
+     */
+    public RoundResult(int jobs, long articles, long accepted, long rejected, long failedJobs, int reassignedJobs,
+                       Map<String, Integer> jobsPerWorker) {
+        this.jobs = jobs;
+        this.articles = articles;
+        this.accepted = accepted;
+        this.rejected = rejected;
+        this.failedJobs = failedJobs;
+        this.reassignedJobs = reassignedJobs;
+        this.jobsPerWorker = Map.copyOf(jobsPerWorker);
+    }
+
+    /**
+     * Gets the number of jobs in the round.
+     *
+     * @return the job count
+     */
+    public int getJobs() {
+        return jobs;
+    }
+
+    /**
+     * Gets the number of articles merged. A job rerun after its worker left may deliver its
+     * articles twice.
+     *
+     * @return the merged article count
+     */
+    public long getArticles() {
+        return articles;
+    }
+
+    /**
+     * Gets the number of valid articles reported by the workers that finished their tasks.
+     *
+     * @return the accepted count
+     */
+    public long getAccepted() {
+        return accepted;
+    }
+
+    /**
+     * Gets the number of invalid articles reported by the workers that finished their tasks.
+     *
+     * @return the rejected count
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Gets the number of jobs that failed, timed out or were lost because no worker was left.
+     *
+     * @return the failed job count
+     */
+    public long getFailedJobs() {
+        return failedJobs;
+    }
+
+    /**
+     * Gets the number of jobs handed to another worker after the worker holding them left.
+     *
+     * @return the reassigned job count
+     */
+    public int getReassignedJobs() {
+        return reassignedJobs;
+    }
+
+    /**
+     * Gets the number of jobs first assigned to each worker.
+     *
+     * @return the job counts by worker id
+     */
+    public Map<String, Integer> getJobsPerWorker() {
+        return jobsPerWorker;
+    }
+
+    /**
+     * Returns a string representation of the totals.
+     *
+     * @return the job, article and worker counts
+     */
+    @Override
+    public String toString() {
+        return "RoundResult [jobs=" + jobs + ", articles=" + articles + ", accepted=" + accepted + ", rejected=" + rejected
+                + ", failedJobs=" + failedJobs + ", reassignedJobs=" + reassignedJobs + ", jobsPerWorker=" + jobsPerWorker + "]";
+    }
+}
@@ -0,0 +1,391 @@
+package org.newsparser.shard;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.newsparser.databind.Article;
+import org.newsparser.jobs.FeedJob;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Splits feed jobs across {@link ShardWorker} processes connected over loopback sockets, and
+ * merges the valid articles they stream back.
+ *
+ * <p>Jobs are assigned to workers by consistent hashing of their ids on a
+ * {@link ConsistentHashRing}, so each job stays with the same worker from round to round, and
+ * a worker joining or leaving only moves about {@code 1/n} of the jobs. A worker that joins
+ * during a round takes part from the next round. When a worker leaves during a round, the
+ * unfinished jobs it held are handed at once to the workers that now own them on the ring;
+ * articles those jobs had already delivered may then be delivered again, so the sink should
+ * tolerate duplicates, as {@link org.newsparser.index.PagedArticleSet} does.</p>
+ *
+ * <p>Membership and round state are guarded by one lock; tasks are sent to the workers, and
+ * articles are parsed and handed to the sink, outside it.</p>
+ */
+public class ShardCoordinator implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Logger logger;
+    private final ServerSocket serverSocket;
+    private final ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor();
+    private final ConsistentHashRing<String> ring = new ConsistentHashRing<>();
+    private final Map<String, WorkerConnection> workers = new ConcurrentHashMap<>();
+    private final AtomicLong taskIds = new AtomicLong();
+    private final Object lock = new Object();
+    private Round round;
+
+    /**
+     * Starts listening for workers on the loopback interface.
+     *
+     * @param port   the port to listen on; 0 picks a free port
+     * @param logger the {@link Logger} for connection errors and lost workers
+     * @throws IOException if the port cannot be bound
+     */
+    public ShardCoordinator(int port, Logger logger) throws IOException {
+        this.logger = logger;
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        threads.execute(this::acceptWorkers);
+    }
+
+    private void acceptWorkers() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                threads.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    logger.warning("Failed to accept a worker: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        WorkerConnection worker = null;
+        try (socket; BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            String hello = in.readLine();
+            if (hello == null || !hello.startsWith(ShardMessages.HELLO + " ")) {
+                logger.warning("Closing a connection that did not start with " + ShardMessages.HELLO + ".");
+                return;
+            }
+            worker = new WorkerConnection(hello.substring(ShardMessages.HELLO.length() + 1), socket);
+            if (!join(worker)) {
+                logger.warning("Closing a second connection from worker " + worker.id + ".");
+                worker = null;
+                return;
+            }
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] parts = line.split(" ");
+                if (parts[0].equals(ShardMessages.ARTICLES) && parts.length == 3) {
+                    receiveArticles(worker, Long.parseLong(parts[1]), Integer.parseInt(parts[2]), in);
+                } else if (parts[0].equals(ShardMessages.DONE) && parts.length == 5) {
+                    finish(worker, Long.parseLong(parts[1]), Long.parseLong(parts[2]), Long.parseLong(parts[3]),
+                            Long.parseLong(parts[4]));
+                } else {
+                    logger.warning("Worker " + worker.id + " sent an unknown message: " + line);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            if (!serverSocket.isClosed()) {
+                logger.log(Level.WARNING, "Lost connection to worker " + ((worker != null) ? worker.id : "?")
+                        + ": " + e.getMessage(), e);
+            }
+        } finally {
+            if (worker != null) {
+                leave(worker);
+            }
+        }
+    }
+
+    private boolean join(WorkerConnection worker) {
+        synchronized (lock) {
+            if (workers.putIfAbsent(worker.id, worker) != null) {
+                return false;
+            }
+            ring.add(worker.id);
+            lock.notifyAll();
+            return true;
+        }
+    }
+
+    private void leave(WorkerConnection worker) {
+        List<Assignment> assignments = new ArrayList<>();
+        synchronized (lock) {
+            if (!workers.remove(worker.id, worker)) {
+                return;
+            }
+            ring.remove(worker.id);
+            for (Task task : worker.tasks.values()) {
+                task.round.pendingTasks--;
+                if (task.round == round) {
+                    assign(task.jobs, true, assignments);
+                }
+            }
+            worker.tasks.clear();
+            lock.notifyAll();
+        }
+        send(assignments);
+    }
+
+    private void receiveArticles(WorkerConnection worker, long taskId, int count, BufferedReader in) throws IOException {
+        Task task = worker.tasks.get(taskId);
+        for (int i = 0; i < count; i++) {
+            String line = in.readLine();
+            if (line == null) {
+                throw new IOException("Connection closed in the middle of task " + taskId + ".");
+            }
+            if (task != null) {
+                task.round.sink.accept(objectMapper.readValue(line, Article.class));
+                task.round.articles.incrementAndGet();
+            }
+        }
+    }
+
+    private void finish(WorkerConnection worker, long taskId, long accepted, long rejected, long failedJobs) {
+        synchronized (lock) {
+            Task task = worker.tasks.remove(taskId);
+            if (task != null) {
+                task.round.accepted += accepted;
+                task.round.rejected += rejected;
+                task.round.failedJobs += failedJobs;
+                task.round.pendingTasks--;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Assigns jobs to their workers on the ring, recording each worker's task and adding it to
+     * the assignments to send once the lock is released. Must be called holding the lock.
+     */
+    private Map<String, Integer> assign(List<FeedJob> jobs, boolean reassigned, List<Assignment> assignments) {
+        Map<String, Integer> counts = new HashMap<>();
+        if (ring.size() == 0) {
+            round.failedJobs += jobs.size();
+            logger.warning(jobs.size() + " jobs were lost: no workers are connected.");
+            return counts;
+        }
+        for (Map.Entry<String, List<FeedJob>> entry : ring.assign(jobs, FeedJob::getId).entrySet()) {
+            WorkerConnection worker = workers.get(entry.getKey());
+            Task task = new Task(entry.getValue(), round);
+            long taskId = taskIds.incrementAndGet();
+            worker.tasks.put(taskId, task);
+            round.pendingTasks++;
+            if (reassigned) {
+                round.reassignedJobs += task.jobs.size();
+            }
+            counts.put(worker.id, task.jobs.size());
+            assignments.add(new Assignment(worker, taskId, task.jobs));
+        }
+        return counts;
+    }
+
+    /**
+     * Sends each worker its task, without holding the lock so a slow socket does not stall the
+     * other workers. Jobs whose worker cannot be reached are passed on when its connection is
+     * dropped.
+     */
+    private void send(List<Assignment> assignments) {
+        for (Assignment assignment : assignments) {
+            WorkerConnection worker = assignment.worker;
+            try {
+                worker.send(ShardMessages.ASSIGN + " " + assignment.taskId + " "
+                        + objectMapper.writeValueAsString(assignment.jobs));
+            } catch (IOException e) {
+                logger.warning("Failed to send a task to worker " + worker.id + ": " + e.getMessage());
+                worker.disconnect();
+            }
+        }
+    }
+
+    /**
+     * Waits until at least the given number of workers are connected.
+     *
+     * @param count   the number of workers
+     * @param timeout the longest time to wait
+     * @param unit    the unit of the timeout
+     * @return true if enough workers are connected, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitWorkers(int count, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (lock) {
+            while (workers.size() < count) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Runs every job once across the connected workers, handing each valid article to the sink.
+     *
+     * @param jobs    the jobs to run
+     * @param sink    receives the articles, from several threads at once
+     * @param timeout the longest time to wait for the round
+     * @param unit    the unit of the timeout
+     * @return the totals of the round
+     * @throws InterruptedException  if interrupted while waiting
+     * @throws TimeoutException      if the round did not finish in time; late articles are dropped
+     * @throws IllegalStateException if no workers are connected or another round is running
+     */
+    public RoundResult runRound(List<FeedJob> jobs, Consumer<Article> sink, long timeout, TimeUnit unit)
+            throws InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        List<Assignment> assignments = new ArrayList<>();
+        Map<String, Integer> jobsPerWorker;
+        Round current;
+        synchronized (lock) {
+            if (round != null) {
+                throw new IllegalStateException("Another round is running.");
+            }
+            if (workers.isEmpty()) {
+                throw new IllegalStateException("No workers are connected.");
+            }
+            current = round = new Round(sink);
+            jobsPerWorker = assign(jobs, false, assignments);
+        }
+        try {
+            send(assignments);
+            synchronized (lock) {
+                while (current.pendingTasks > 0) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new TimeoutException(current.pendingTasks + " tasks did not finish in time.");
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                }
+                return new RoundResult(jobs.size(), current.articles.get(), current.accepted, current.rejected,
+                        current.failedJobs, current.reassignedJobs, jobsPerWorker);
+            }
+        } finally {
+            synchronized (lock) {
+                for (WorkerConnection worker : workers.values()) {
+                    worker.tasks.values().removeIf(task -> task.round == current);
+                }
+                round = null;
+            }
+        }
+    }
+
+    /**
+     * Gets the workers currently connected.
+     *
+     * @return the worker ids
+     */
+    public Set<String> getWorkers() {
+        return Set.copyOf(workers.keySet());
+    }
+
+    /**
+     * Gets the port the coordinator listens on.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops listening and disconnects every worker, which makes them stop.
+     */
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close the coordinator socket: " + e.getMessage());
+        }
+        for (WorkerConnection worker : workers.values()) {
+            worker.disconnect();
+        }
+        threads.shutdown();
+    }
+
+    /**
+     * The state of one round. Counters other than {@code articles} are guarded by the lock.
+     */
+    private static final class Round {
+        private final Consumer<Article> sink;
+        private final AtomicLong articles = new AtomicLong();
+        private int pendingTasks;
+        private long accepted;
+        private long rejected;
+        private long failedJobs;
+        private int reassignedJobs;
+
+        private Round(Consumer<Article> sink) {
+            this.sink = sink;
+        }
+    }
+
+    /**
+     * Jobs sent to a worker as one task.
+     */
+    private record Task(List<FeedJob> jobs, Round round) {}
+
+    /**
+     * A task assigned under the lock and waiting to be sent to its worker.
+     */
+    private record Assignment(WorkerConnection worker, long taskId, List<FeedJob> jobs) {}
+
+    /**
+     * A connected worker and the tasks it holds.
+     */
+    private final class WorkerConnection {
+        private final String id;
+        private final Socket socket;
+        private final Writer out;
+        private final Map<Long, Task> tasks = new ConcurrentHashMap<>();
+
+        private WorkerConnection(String id, Socket socket) throws IOException {
+            this.id = id;
+            this.socket = socket;
+            this.out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        }
+
+        private void send(String message) throws IOException {
+            synchronized (out) {
+                out.write(message);
+                out.write('\n');
+                out.flush();
+            }
+        }
+
+        private void disconnect() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close the connection to worker " + id + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.newsparser.shard;
+
+/**
+ * The line-based protocol between a {@link ShardCoordinator} and its {@link ShardWorker}s.
+ * Every message is one line of UTF-8 text starting with its type:
+ *
+ * <ul>
+ *     <li>{@code HELLO <workerId>}: sent by a worker once connected.</li>
+ *     <li>{@code ASSIGN <taskId> <jobs>}: sent by the coordinator, with the jobs of the task as
+ *     a JSON array of {@link org.newsparser.jobs.FeedJob}s.</li>
+ *     <li>{@code ARTICLES <taskId> <count>}: sent by a worker, followed by {@code count} lines
+ *     each holding one valid article in the NewsAPI article schema.</li>
+ *     <li>{@code DONE <taskId> <accepted> <rejected> <failedJobs>}: sent by a worker once every
+ *     job of the task has finished.</li>
+ * </ul>
+ */
+final class ShardMessages {
+
+    static final String HELLO = "HELLO";
+    static final String ASSIGN = "ASSIGN";
+    static final String ARTICLES = "ARTICLES";
+    static final String DONE = "DONE";
+
+    private ShardMessages() {}
+}
@@ -0,0 +1,178 @@
+package org.newsparser.shard;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.NewsResponse;
+import org.newsparser.jobs.FeedJob;
+import org.newsparser.jobs.FeedJobScheduler;
+import org.newsparser.jobs.JobAction;
+import org.newsparser.jobs.JobResult;
+import org.newsparser.jobs.ParserRegistry;
+import org.newsparser.output.ArticleRenderer;
+import org.newsparser.output.JsonRenderer;
+import org.newsparser.parsers.NewsResponseJsonParser;
+import org.newsparser.utils.ValidationReport;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A worker process of a sharded run: connects to a {@link ShardCoordinator}, runs the jobs it is
+ * assigned on its own {@link FeedJobScheduler}, and streams the valid articles back.
+ *
+ * <p>Each assigned task runs on its own thread, so a worker can hold several tasks at once, and
+ * the articles of each job are sent as soon as the job finishes. Only NewsAPI response jobs can
+ * be sharded; other jobs fail. The worker stops when the coordinator closes the connection.</p>
+ */
+public class ShardWorker implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String id;
+    private final Logger logger;
+    private final Socket socket;
+    private final Writer out;
+    private final ArticleRenderer renderer;
+    private final FeedJobScheduler scheduler;
+    private final CountDownLatch disconnected = new CountDownLatch(1);
+
+    /**
+     * Connects to a coordinator. The worker takes no tasks until {@link #start()} is called.
+     *
+     * @param id          the worker's name, unique among the coordinator's workers
+     * @param coordinator the address of the coordinator
+     * @param registry    the registry resolving each job's parser
+     * @param threads     the number of jobs run at once
+     * @param logger      the {@link Logger} for failed jobs and connection errors
+     * @throws IOException if the coordinator cannot be reached
+     */
+    public ShardWorker(String id, InetSocketAddress coordinator, ParserRegistry registry, int threads, Logger logger)
+            throws IOException {
+        this.id = id;
+        this.logger = logger;
+        this.scheduler = new FeedJobScheduler(registry, threads, logger);
+        this.socket = new Socket(coordinator.getAddress(), coordinator.getPort());
+        this.out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        this.renderer = new JsonRenderer(out, true);
+    }
+
+    /**
+     * Announces the worker to the coordinator and starts taking tasks.
+     *
+     * @throws IOException if the coordinator cannot be reached
+     */
+    public void start() throws IOException {
+        send(ShardMessages.HELLO + " " + id);
+
+        Thread reader = new Thread(this::readTasks, "shard-worker-" + id);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    private void readTasks() {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] parts = line.split(" ", 3);
+                if (parts.length == 3 && parts[0].equals(ShardMessages.ASSIGN)) {
+                    long taskId = Long.parseLong(parts[1]);
+                    List<FeedJob> jobs = OBJECT_MAPPER.readValue(parts[2], new TypeReference<>() {});
+                    Thread.ofVirtual().name("shard-task-" + taskId).start(() -> runTask(taskId, jobs));
+                } else {
+                    logger.warning("Worker " + id + " ignored an unknown message: " + line);
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            if (!socket.isClosed()) {
+                logger.log(Level.WARNING, "Worker " + id + " lost its coordinator: " + e.getMessage(), e);
+            }
+        } finally {
+            disconnected.countDown();
+            close();
+        }
+    }
+
+    private void runTask(long taskId, List<FeedJob> jobs) {
+        ValidationReport report = new ValidationReport(logger);
+        JobAction action = (job, parser) -> {
+            if (!(parser instanceof NewsResponseJsonParser newsParser)) {
+                throw new IllegalArgumentException("Only NEWS_RESPONSE jobs can be sharded.");
+            }
+            newsParser.setValidationReport(report);
+            NewsResponse response = newsParser.getNewsResponse();
+            if (response == null || "error".equals(response.getStatus())) {
+                throw new IOException("Invalid or unreadable response.");
+            }
+            sendArticles(taskId, response.getArticles());
+        };
+
+        List<JobResult> results = scheduler.runAll(jobs, action);
+        long failed = results.stream().filter(r -> r.getStatus() != JobResult.Status.SUCCEEDED).count();
+        try {
+            send(ShardMessages.DONE + " " + taskId + " " + report.getAcceptedCount() + " " + report.getRejectedCount()
+                    + " " + failed);
+        } catch (IOException e) {
+            logger.warning("Worker " + id + " could not report task " + taskId + ": " + e.getMessage());
+        }
+    }
+
+    private void sendArticles(long taskId, List<Article> articles) throws IOException {
+        synchronized (out) {
+            out.write(ShardMessages.ARTICLES + " " + taskId + " " + articles.size() + "\n");
+            renderer.renderAll(articles);
+            renderer.flush();
+        }
+    }
+
+    private void send(String message) throws IOException {
+        synchronized (out) {
+            out.write(message);
+            out.write('\n');
+            out.flush();
+        }
+    }
+
+    /**
+     * Gets the worker's name.
+     *
+     * @return the worker id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Waits until the coordinator closes the connection or the worker is closed.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitDisconnect() throws InterruptedException {
+        disconnected.await();
+    }
+
+    /**
+     * Disconnects from the coordinator and stops running jobs. The coordinator hands any
+     * unfinished tasks to the remaining workers.
+     */
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logger.warning("Worker " + id + " failed to close its connection: " + e.getMessage());
+        }
+        scheduler.close();
+    }
+}
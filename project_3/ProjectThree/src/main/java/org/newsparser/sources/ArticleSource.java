@@ -1,6 +1,8 @@
 package org.newsparser.sources;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 
 /**
  * The {@code ArticleSource} interface represents a source of articles in JSON format.
@@ -20,4 +22,16 @@ public interface ArticleSource {
      * @throws IOException if an I/O error occurs during the retrieval of the JSON data
      */
     String getJsonString() throws IOException;
+
+    /**
+     * Opens a reader over the JSON data, so that it can be parsed without holding the whole
+     * document in memory. The default implementation reads the full string first; sources
+     * that can stream their data override it.
+     *
+     * @return a reader over the JSON data, which the caller must close
+     * @throws IOException if an I/O error occurs while opening the data
+     */
+    default Reader openReader() throws IOException {
+        return new StringReader(getJsonString());
+    }
 }
@@ -0,0 +1,183 @@
+package org.newsparser.sources;
+
+import java.time.Clock;
+import java.util.logging.Logger;
+
+/**
+ * Tracks the failures of one source and stops it being read while it keeps failing.
+ *
+ * <p>The breaker starts {@link State#CLOSED}, letting every read through. After a number of
+ * failures in a row it opens: reads fail at once with a {@link SourceUnavailableException}
+ * carrying the last failure, which acts as a negative cache of the source's result, for a
+ * backoff window. When the window has passed the breaker is {@link State#HALF_OPEN} and lets a
+ * single trial read through while other reads still fail fast. A successful trial closes the
+ * breaker; a failed one opens it again for twice as long, up to a maximum.</p>
+ *
+ * <p>The breaker warns once each time it opens, rather than on every refused read.</p>
+ */
+public class CircuitBreaker {
+
+    /**
+     * The number of failures in a row that opens a breaker when none is given.
+     */
+    public static final int DEFAULT_FAILURE_THRESHOLD = 3;
+
+    /**
+     * The first backoff window when none is given, in milliseconds.
+     */
+    public static final long DEFAULT_OPEN_MILLIS = 30_000;
+
+    /**
+     * The longest backoff window when none is given, in milliseconds.
+     */
+    public static final long DEFAULT_MAX_OPEN_MILLIS = 600_000;
+
+    /**
+     * The states of a breaker.
+     */
+    public enum State {
+        /** Reads go through. */
+        CLOSED,
+        /** Reads fail fast until the backoff window has passed. */
+        OPEN,
+        /** One trial read may go through to decide whether to close again. */
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long initialOpenMillis;
+    private final long maxOpenMillis;
+    private final Clock clock;
+    private final Logger logger;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openMillis;
+    private long openUntilMillis;
+    private boolean trialInFlight;
+    private String lastFailure;
+
+    /**
+     * Constructs a {@code CircuitBreaker} with the default threshold and backoff.
+     *
+     * @param name   the source's name, used in messages
+     * @param clock  the clock backoff windows are measured by
+     * @param logger the {@link Logger} warned when the breaker opens
+     */
+    public CircuitBreaker(String name, Clock clock, Logger logger) {
+        this(name, DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_MILLIS, DEFAULT_MAX_OPEN_MILLIS, clock, logger);
+    }
+
+    /**
+     * Constructs a {@code CircuitBreaker}.
+     *
+     * @param name             the source's name, used in messages
+     * @param failureThreshold the number of failures in a row that opens the breaker
+     * @param openMillis       the first backoff window, in milliseconds
+     * @param maxOpenMillis    the longest backoff window, in milliseconds
+     * @param clock            the clock backoff windows are measured by
+     * @param logger           the {@link Logger} warned when the breaker opens
+     */
+    public CircuitBreaker(String name, int failureThreshold, long openMillis, long maxOpenMillis, Clock clock,
+                          Logger logger) {
+        if (failureThreshold <= 0 || openMillis <= 0 || maxOpenMillis < openMillis) {
+            throw new IllegalArgumentException("Threshold and backoff must be positive, and the maximum backoff "
+                    + "at least the first.");
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.initialOpenMillis = openMillis;
+        this.maxOpenMillis = maxOpenMillis;
+        this.clock = clock;
+        this.logger = logger;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * Asks to read the source. Every permitted read must be followed by
+     * {@link #recordSuccess()} or {@link #recordFailure(Exception)}.
+     *
+     * @throws SourceUnavailableException if the breaker is open, or half-open with its trial
+     *                                    read still in flight
+     */
+    public synchronized void acquire() throws SourceUnavailableException {
+        if (state == State.CLOSED) {
+            return;
+        }
+        long now = clock.millis();
+        if (state == State.OPEN && now >= openUntilMillis) {
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN && !trialInFlight) {
+            trialInFlight = true;
+            return;
+        }
+        throw new SourceUnavailableException("Source " + name + " is unavailable after " + consecutiveFailures
+                + " failures: " + lastFailure, Math.max(0, openUntilMillis - now));
+    }
+
+    /**
+     * Records a successful read, closing the breaker.
+     */
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        openMillis = initialOpenMillis;
+        trialInFlight = false;
+        lastFailure = null;
+    }
+
+    /**
+     * Records a failed read, opening the breaker once failures reach the threshold or when a
+     * trial read fails.
+     *
+     * @param failure the reason the read failed
+     */
+    public synchronized void recordFailure(Exception failure) {
+        consecutiveFailures++;
+        lastFailure = failure.getMessage();
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+            openMillis = Math.min(openMillis * 2, maxOpenMillis);
+            open();
+        } else if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openUntilMillis = clock.millis() + openMillis;
+        logger.warning("Source " + name + " failed " + consecutiveFailures + " times in a row; skipping it for "
+                + openMillis + " ms: " + lastFailure);
+    }
+
+    /**
+     * Gets the state of the breaker. An open breaker whose backoff window has passed reports
+     * {@link State#HALF_OPEN}.
+     *
+     * @return the state
+     */
+    public synchronized State getState() {
+        return (state == State.OPEN && clock.millis() >= openUntilMillis) ? State.HALF_OPEN : state;
+    }
+
+    /**
+     * Gets the number of failed reads since the last successful one.
+     *
+     * @return the failure count
+     */
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Gets the source's name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+}
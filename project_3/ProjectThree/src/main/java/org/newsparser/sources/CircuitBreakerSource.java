@@ -0,0 +1,95 @@
+package org.newsparser.sources;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * An {@link ArticleSource} that reads another source through a {@link CircuitBreaker}, so a
+ * source that keeps failing is skipped instead of tying up the caller on every read.
+ *
+ * <p>A read fails if the source throws, or if its text does not start with a JSON object or
+ * array, such as an HTML error page served with a success status. When the data is streamed
+ * through {@link #openReader()}, only opening the source is judged, since the content is not
+ * seen here.</p>
+ */
+public class CircuitBreakerSource implements ArticleSource {
+
+    private final ArticleSource delegate;
+    private final CircuitBreaker breaker;
+
+    /**
+     * Constructs a {@code CircuitBreakerSource}.
+     *
+     * @param delegate the source read while the breaker allows it
+     * @param breaker  the breaker of the source, which may be shared by other instances for the same source
+     */
+    public CircuitBreakerSource(ArticleSource delegate, CircuitBreaker breaker) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+    }
+
+    /**
+     * Reads the source unless its breaker is open.
+     *
+     * @return a JSON string containing article data
+     * @throws SourceUnavailableException if the breaker is open
+     * @throws IOException                if the source fails or returns text that is not JSON
+     */
+    @Override
+    public String getJsonString() throws IOException {
+        breaker.acquire();
+        try {
+            String json = delegate.getJsonString();
+            if (!looksLikeJson(json)) {
+                throw new IOException("Source returned a response that is not JSON.");
+            }
+            breaker.recordSuccess();
+            return json;
+        } catch (IOException | RuntimeException e) {
+            breaker.recordFailure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the source unless its breaker is open.
+     *
+     * @return a reader over the JSON data, which the caller must close
+     * @throws SourceUnavailableException if the breaker is open
+     * @throws IOException                if the source cannot be opened
+     */
+    @Override
+    public Reader openReader() throws IOException {
+        breaker.acquire();
+        try {
+            Reader reader = delegate.openReader();
+            breaker.recordSuccess();
+            return reader;
+        } catch (IOException | RuntimeException e) {
+            breaker.recordFailure(e);
+            throw e;
+        }
+    }
+
+    private static boolean looksLikeJson(String text) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '{' || c == '[';
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the breaker guarding the source.
+     *
+     * @return the breaker
+     */
+    public CircuitBreaker getBreaker() {
+        return breaker;
+    }
+}
@@ -0,0 +1,81 @@
+package org.newsparser.sources;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Keeps one {@link CircuitBreaker} per source location, so every reader of a location shares
+ * its failure history, however many parsers or jobs are created for it.
+ */
+public class CircuitBreakers {
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final long maxOpenMillis;
+    private final Clock clock;
+    private final Logger logger;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a {@code CircuitBreakers} with the default threshold and backoff.
+     *
+     * @param logger the {@link Logger} warned when a breaker opens
+     */
+    public CircuitBreakers(Logger logger) {
+        this(CircuitBreaker.DEFAULT_FAILURE_THRESHOLD, CircuitBreaker.DEFAULT_OPEN_MILLIS,
+                CircuitBreaker.DEFAULT_MAX_OPEN_MILLIS, Clock.systemUTC(), logger);
+    }
+
+    /**
+     * Constructs a {@code CircuitBreakers}.
+     *
+     * @param failureThreshold the number of failures in a row that opens a breaker
+     * @param openMillis       the first backoff window, in milliseconds
+     * @param maxOpenMillis    the longest backoff window, in milliseconds
+     * @param clock            the clock backoff windows are measured by
+     * @param logger           the {@link Logger} warned when a breaker opens
+     */
+    public CircuitBreakers(int failureThreshold, long openMillis, long maxOpenMillis, Clock clock, Logger logger) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.maxOpenMillis = maxOpenMillis;
+        this.clock = clock;
+        this.logger = logger;
+    }
+
+    /**
+     * Gets the breaker of a location, creating it on first use.
+     *
+     * @param location the source location, such as a URL
+     * @return the breaker
+     */
+    public CircuitBreaker get(String location) {
+        return breakers.computeIfAbsent(location,
+                key -> new CircuitBreaker(key, failureThreshold, openMillis, maxOpenMillis, clock, logger));
+    }
+
+    /**
+     * Wraps a source so that it is read through the breaker of its location.
+     *
+     * @param location the source location
+     * @param source   the source
+     * @return the guarded source
+     */
+    public ArticleSource wrap(String location, ArticleSource source) {
+        return new CircuitBreakerSource(source, get(location));
+    }
+
+    /**
+     * Gets the state of every breaker created so far.
+     *
+     * @return the states, by location in sorted order
+     */
+    public Map<String, CircuitBreaker.State> states() {
+        Map<String, CircuitBreaker.State> states = new TreeMap<>();
+        breakers.forEach((location, breaker) -> states.put(location, breaker.getState()));
+        return states;
+    }
+}
@@ -0,0 +1,175 @@
+package org.newsparser.sources;
+
+/**
+ * Limits the number of reads in flight to one host, adapting the limit to how the host responds
+ * instead of relying on a hand-tuned thread count.
+ *
+ * <p>The limit grows by {@code 1 / limit} with each success that completes while at least half
+ * of it is in use, about one per round trip of a fully used limit, so it only probes upwards when
+ * the extra capacity is actually wanted, and slowly enough for the latency of the added reads
+ * to be seen before it grows much further. It shrinks when
+ * the host slows down or fails. Each success is timed and compared with a baseline: the
+ * shortest round trip in the current window of {@value #BASELINE_WINDOW} samples, or in the
+ * previous one while the current window is filling up. A round trip more than
+ * {@value #LATENCY_TOLERANCE} times the baseline means requests are queueing at the host, and
+ * the limit is moved towards {@code limit * baseline * tolerance / rtt} by a smoothing step.
+ * Each failure, such as a timeout or a rate-limit response, multiplies the limit by
+ * {@value #FAILURE_BACKOFF}. The limit stays between the given minimum and maximum.</p>
+ */
+public class ConcurrencyLimiter {
+
+    /**
+     * The limit a host starts with when none is given.
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = 4;
+
+    /**
+     * The lowest limit when none is given.
+     */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    /**
+     * The highest limit when none is given.
+     */
+    public static final int DEFAULT_MAX_LIMIT = 64;
+
+    /**
+     * How many times the baseline round trip is tolerated before the limit shrinks.
+     */
+    public static final double LATENCY_TOLERANCE = 2.0;
+
+    /**
+     * The factor the limit is multiplied by on each failure.
+     */
+    public static final double FAILURE_BACKOFF = 0.75;
+
+    /**
+     * The number of samples after which the baseline round trip is measured afresh, so it can
+     * follow a host that has become permanently slower.
+     */
+    public static final int BASELINE_WINDOW = 100;
+
+    private static final double SMOOTHING = 0.2;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private double limit;
+    private int inFlight;
+    private long baselineNanos = Long.MAX_VALUE;
+    private long windowMinNanos = Long.MAX_VALUE;
+    private int windowSamples;
+
+    /**
+     * Constructs a {@code ConcurrencyLimiter} with the default limits.
+     *
+     * @param name the host's name
+     */
+    public ConcurrencyLimiter(String name) {
+        this(name, DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT);
+    }
+
+    /**
+     * Constructs a {@code ConcurrencyLimiter}.
+     *
+     * @param name         the host's name
+     * @param initialLimit the limit to start with
+     * @param minLimit     the lowest limit
+     * @param maxLimit     the highest limit
+     */
+    public ConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit <= 0 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("Limits must be positive, with minimum <= initial <= maximum.");
+        }
+        this.name = name;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Waits until a read may start, and counts it as in flight. Every acquired read must be
+     * followed by {@link #onSuccess(long)}, {@link #onFailure()} or {@link #onIgnore()}.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized void acquire() throws InterruptedException {
+        while (inFlight >= getLimit()) {
+            wait();
+        }
+        inFlight++;
+    }
+
+    /**
+     * Records a successful read and lets another one start.
+     *
+     * @param rttNanos how long the read took, in nanoseconds
+     */
+    public synchronized void onSuccess(long rttNanos) {
+        windowMinNanos = Math.min(windowMinNanos, rttNanos);
+        baselineNanos = Math.min(baselineNanos, rttNanos);
+        if (++windowSamples >= BASELINE_WINDOW) {
+            baselineNanos = windowMinNanos;
+            windowMinNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+
+        double tolerated = LATENCY_TOLERANCE * baselineNanos;
+        if (rttNanos > tolerated) {
+            double target = limit * Math.max(0.5, tolerated / rttNanos);
+            limit = Math.max(minLimit, limit + SMOOTHING * (target - limit));
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+        release();
+    }
+
+    /**
+     * Records a failed read, shrinking the limit, and lets another read start.
+     */
+    public synchronized void onFailure() {
+        limit = Math.max(minLimit, limit * FAILURE_BACKOFF);
+        release();
+    }
+
+    /**
+     * Lets another read start without judging the one that ended, for reads that ended for
+     * reasons other than the host, such as an interrupt.
+     */
+    public synchronized void onIgnore() {
+        release();
+    }
+
+    private void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    /**
+     * Gets the current limit on reads in flight.
+     *
+     * @return the limit
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Gets the number of reads in flight.
+     *
+     * @return the in-flight count
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Gets the host's name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,90 @@
+package org.newsparser.sources;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one {@link ConcurrencyLimiter} per host, so every feed served by the same host shares
+ * one adaptive limit on reads in flight.
+ */
+public class ConcurrencyLimiters {
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final Map<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a {@code ConcurrencyLimiters} with the default limits.
+     */
+    public ConcurrencyLimiters() {
+        this(ConcurrencyLimiter.DEFAULT_INITIAL_LIMIT, ConcurrencyLimiter.DEFAULT_MIN_LIMIT,
+                ConcurrencyLimiter.DEFAULT_MAX_LIMIT);
+    }
+
+    /**
+     * Constructs a {@code ConcurrencyLimiters}.
+     *
+     * @param initialLimit the limit each host starts with
+     * @param minLimit     the lowest limit of a host
+     * @param maxLimit     the highest limit of a host
+     */
+    public ConcurrencyLimiters(int initialLimit, int minLimit, int maxLimit) {
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Gets the host a location is read from: the host of a URL, or the location itself otherwise.
+     *
+     * @param location the source location
+     * @return the host, in lower case
+     */
+    public static String hostOf(String location) {
+        try {
+            URI uri = URI.create(location);
+            if (uri.getHost() != null) {
+                return (uri.getPort() >= 0 ? uri.getHost() + ":" + uri.getPort() : uri.getHost()).toLowerCase(Locale.ROOT);
+            }
+        } catch (IllegalArgumentException e) {
+            // Not a URI, so the location names its own host
+        }
+        return location.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the limiter of a host, creating it on first use.
+     *
+     * @param host the host
+     * @return the limiter
+     */
+    public ConcurrencyLimiter get(String host) {
+        return limiters.computeIfAbsent(host, key -> new ConcurrencyLimiter(key, initialLimit, minLimit, maxLimit));
+    }
+
+    /**
+     * Wraps a source so that it is read within the limit of its location's host.
+     *
+     * @param location the source location
+     * @param source   the source
+     * @return the limited source
+     */
+    public ArticleSource wrap(String location, ArticleSource source) {
+        return new LimitedSource(source, get(hostOf(location)));
+    }
+
+    /**
+     * Gets the current limit of every host seen so far.
+     *
+     * @return the limits, by host in sorted order
+     */
+    public Map<String, Integer> limits() {
+        Map<String, Integer> limits = new TreeMap<>();
+        limiters.forEach((host, limiter) -> limits.put(host, limiter.getLimit()));
+        return limits;
+    }
+}
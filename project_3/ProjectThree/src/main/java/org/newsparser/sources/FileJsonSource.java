@@ -1,7 +1,11 @@
 package org.newsparser.sources;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
 
 /**
@@ -42,4 +46,21 @@ public class FileJsonSource implements ArticleSource {
         Scanner scanner = new Scanner(inputStream).useDelimiter("\\A");
         return scanner.hasNext() ? scanner.next() : "";
     }
+
+    /**
+     * Opens a buffered UTF-8 reader over the file in the resources folder.
+     *
+     * @return a reader over the file contents
+     * @throws IOException if the file is not found
+     */
+    @Override
+    public Reader openReader() throws IOException {
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(fileName);
+
+        if (inputStream == null) {
+            throw new IOException("File not found in resources folder: " + fileName);
+        }
+
+        return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,126 @@
+package org.newsparser.sources;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link ArticleSource} that starts a second read when the first runs longer than most reads
+ * of its host, returning whichever finishes first and cancelling the other. See
+ * {@link RequestHedging} for when reads are hedged.
+ *
+ * <p>Reads run on virtual threads, so cancelling the losing read interrupts it, which also
+ * closes a socket it is blocked on. A read that fails before the hedge delay fails at once;
+ * once hedged, a read fails only if both attempts do. A successful read is timed from its start
+ * to the return of whichever attempt won, so a read rescued by a hedge still counts as at least
+ * as slow as the hedge delay, and slow primaries keep the percentile from drifting down.</p>
+ */
+public class HedgedSource implements ArticleSource {
+
+    private final ArticleSource delegate;
+    private final RequestHedging.Host host;
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a {@code HedgedSource}.
+     *
+     * @param delegate the source to read
+     * @param host     the latency history and budget of the source's host
+     * @param executor the executor running each attempt on its own thread
+     */
+    HedgedSource(ArticleSource delegate, RequestHedging.Host host, ExecutorService executor) {
+        this.delegate = delegate;
+        this.host = host;
+        this.executor = executor;
+    }
+
+    /**
+     * Reads the source, hedging the read if it runs long.
+     *
+     * @return a JSON string containing article data
+     * @throws IOException if every attempt fails, or the caller is interrupted while waiting
+     */
+    @Override
+    public String getJsonString() throws IOException {
+        long start = System.nanoTime();
+        long hedgeDelayNanos = host.startRead();
+        CompletionService<Attempt> attempts = new ExecutorCompletionService<>(executor);
+        Future<Attempt> primary = attempts.submit(() -> attempt(false));
+        Future<Attempt> hedge = null;
+        try {
+            Future<Attempt> first = (hedgeDelayNanos >= 0)
+                    ? attempts.poll(hedgeDelayNanos, TimeUnit.NANOSECONDS)
+                    : attempts.take();
+            if (first == null) {
+                if (host.tryHedge()) {
+                    hedge = attempts.submit(() -> attempt(true));
+                }
+                first = attempts.take();
+            }
+
+            Attempt winner;
+            try {
+                winner = first.get();
+            } catch (ExecutionException e) {
+                if (hedge == null) {
+                    throw rethrow(e.getCause());
+                }
+                try {
+                    winner = attempts.take().get();
+                } catch (ExecutionException other) {
+                    e.getCause().addSuppressed(other.getCause());
+                    throw rethrow(e.getCause());
+                }
+            }
+            host.record(System.nanoTime() - start, winner.hedge());
+            return winner.json();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a read.");
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private Attempt attempt(boolean hedge) throws IOException {
+        return new Attempt(delegate.getJsonString(), hedge);
+    }
+
+    private static IOException rethrow(Throwable cause) {
+        if (cause instanceof IOException io) {
+            return io;
+        }
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException(cause);
+    }
+
+    /**
+     * Opens the source without hedging, since a stream cannot be raced without reading it twice.
+     *
+     * @return a reader over the JSON data, which the caller must close
+     * @throws IOException if the source cannot be opened
+     */
+    @Override
+    public Reader openReader() throws IOException {
+        return delegate.openReader();
+    }
+
+    /**
+     * A completed read.
+     */
+    private record Attempt(String json, boolean hedge) {}
+}
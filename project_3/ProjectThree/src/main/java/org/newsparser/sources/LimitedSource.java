@@ -0,0 +1,144 @@
+package org.newsparser.sources;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+
+/**
+ * An {@link ArticleSource} that reads another source within the {@link ConcurrencyLimiter} of its
+ * host, timing each read so the limit can adapt.
+ *
+ * <p>When the data is streamed through {@link #openReader()}, the read stays in flight until the
+ * returned reader is closed, but it is timed only to its first character: the rest of the time
+ * depends on how fast the caller consumes the stream, such as its parse time, and says nothing
+ * about the host. A stream closed before anything was read is not timed at all.</p>
+ */
+public class LimitedSource implements ArticleSource {
+
+    private final ArticleSource delegate;
+    private final ConcurrencyLimiter limiter;
+
+    /**
+     * Constructs a {@code LimitedSource}.
+     *
+     * @param delegate the source to read
+     * @param limiter  the limiter of the source's host, shared with other sources on that host
+     */
+    public LimitedSource(ArticleSource delegate, ConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    private long acquire() throws IOException {
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a fetch slot on " + limiter.getName() + ".");
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Reads the source once a slot on its host is free.
+     *
+     * @return a JSON string containing article data
+     * @throws IOException if the source fails, or the wait for a slot is interrupted
+     */
+    @Override
+    public String getJsonString() throws IOException {
+        long start = acquire();
+        try {
+            String json = delegate.getJsonString();
+            limiter.onSuccess(System.nanoTime() - start);
+            return json;
+        } catch (IOException | RuntimeException e) {
+            ended();
+            throw e;
+        }
+    }
+
+    // An interrupted read says nothing about the host; a timeout does
+    private void ended() {
+        if (Thread.currentThread().isInterrupted()) {
+            limiter.onIgnore();
+        } else {
+            limiter.onFailure();
+        }
+    }
+
+    /**
+     * Opens the source once a slot on its host is free. The slot is held until the reader is closed.
+     *
+     * @return a reader over the JSON data, which the caller must close
+     * @throws IOException if the source cannot be opened, or the wait for a slot is interrupted
+     */
+    @Override
+    public Reader openReader() throws IOException {
+        long start = acquire();
+        Reader reader;
+        try {
+            reader = delegate.openReader();
+        } catch (IOException | RuntimeException e) {
+            ended();
+            throw e;
+        }
+        return new FilterReader(reader) {
+            private long firstReadNanos = -1;
+            private boolean failed;
+            private boolean closed;
+
+            @Override
+            public int read() throws IOException {
+                try {
+                    return firstRead(super.read());
+                } catch (IOException e) {
+                    failed = true;
+                    throw e;
+                }
+            }
+
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                try {
+                    return firstRead(super.read(buffer, offset, length));
+                } catch (IOException e) {
+                    failed = true;
+                    throw e;
+                }
+            }
+
+            private int firstRead(int result) {
+                if (firstReadNanos < 0) {
+                    firstReadNanos = System.nanoTime() - start;
+                }
+                return result;
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (!closed) {
+                    closed = true;
+                    if (failed) {
+                        limiter.onFailure();
+                    } else if (firstReadNanos >= 0) {
+                        limiter.onSuccess(firstReadNanos);
+                    } else {
+                        limiter.onIgnore();
+                    }
+                }
+                super.close();
+            }
+        };
+    }
+
+    /**
+     * Gets the limiter of the source's host.
+     *
+     * @return the limiter
+     */
+    public ConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+}
@@ -0,0 +1,56 @@
+package org.newsparser.sources;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The {@code PathJsonSource} class implements the {@link ArticleSource} interface and
+ * provides the functionality to retrieve article data from a UTF-8 file on the file system,
+ * as opposed to {@link FileJsonSource}, which reads from the resources folder.
+ */
+public class PathJsonSource implements ArticleSource {
+    private final Path path;
+
+    /**
+     * Constructs a {@code PathJsonSource} with the specified file.
+     *
+     * @param path the file from which to retrieve the article data
+     */
+    public PathJsonSource(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Reads the whole file as a JSON string.
+     *
+     * @return a JSON string containing article data
+     * @throws IOException if the file cannot be read
+     */
+    @Override
+    public String getJsonString() throws IOException {
+        return Files.readString(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Opens a buffered reader over the file, so it can be parsed without reading it all first.
+     *
+     * @return a reader over the file
+     * @throws IOException if the file cannot be opened
+     */
+    @Override
+    public Reader openReader() throws IOException {
+        return Files.newBufferedReader(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the file read by this source.
+     *
+     * @return the path
+     */
+    public Path getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,201 @@
+package org.newsparser.sources;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the latency history and hedge budget of each host for {@link HedgedSource}s, and the
+ * virtual threads their attempts run on.
+ *
+ * <p>A read still running after the host's running {@value #PERCENTILE_PERCENT}th percentile
+ * latency is hedged: a second read of the same source is started, the first to return wins and
+ * the other is cancelled. Percentiles are taken over the last {@value #WINDOW} reads and hedging
+ * starts once a host has {@value #MIN_SAMPLES} of them. Each read adds the hedge ratio to the
+ * host's budget, up to {@value #MAX_BURST} hedges, and each hedge spends one, so hedges add at
+ * most that fraction of extra reads over time.</p>
+ */
+public class RequestHedging implements AutoCloseable {
+
+    /**
+     * The fraction of reads that may be hedged when none is given.
+     */
+    public static final double DEFAULT_HEDGE_RATIO = 0.1;
+
+    /**
+     * The latency percentile after which a read is hedged.
+     */
+    public static final int PERCENTILE_PERCENT = 95;
+
+    /**
+     * The number of recent reads latency percentiles are taken over.
+     */
+    public static final int WINDOW = 256;
+
+    /**
+     * The number of reads of a host before its reads are hedged.
+     */
+    public static final int MIN_SAMPLES = 20;
+
+    /**
+     * The most hedges a host can save up while its reads are fast.
+     */
+    public static final double MAX_BURST = 10;
+
+    private final double hedgeRatio;
+    private final Map<String, Host> hosts = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Constructs a {@code RequestHedging} with the default hedge ratio.
+     */
+    public RequestHedging() {
+        this(DEFAULT_HEDGE_RATIO);
+    }
+
+    /**
+     * Constructs a {@code RequestHedging}.
+     *
+     * @param hedgeRatio the fraction of reads that may be hedged, between 0 and 1
+     */
+    public RequestHedging(double hedgeRatio) {
+        if (hedgeRatio < 0 || hedgeRatio > 1) {
+            throw new IllegalArgumentException("Hedge ratio must be between 0 and 1.");
+        }
+        this.hedgeRatio = hedgeRatio;
+    }
+
+    /**
+     * Wraps a source so that its slow reads are hedged, judged by the latency of its
+     * location's host. Streamed reads are passed through unhedged.
+     *
+     * @param location the source location
+     * @param source   the source
+     * @return the hedged source
+     */
+    public ArticleSource wrap(String location, ArticleSource source) {
+        return new HedgedSource(source, host(ConcurrencyLimiters.hostOf(location)), executor);
+    }
+
+    /**
+     * Gets the latency history and budget of a host, creating it on first use.
+     *
+     * @param name the host name
+     * @return the host
+     */
+    Host host(String name) {
+        return hosts.computeIfAbsent(name, key -> new Host(hedgeRatio));
+    }
+
+    /**
+     * Gets the number of hedges started.
+     *
+     * @return the hedge count
+     */
+    public long getHedgeCount() {
+        return hosts.values().stream().mapToLong(host -> host.hedges.sum()).sum();
+    }
+
+    /**
+     * Gets the number of hedges that returned before the read they hedged.
+     *
+     * @return the count of winning hedges
+     */
+    public long getHedgeWinCount() {
+        return hosts.values().stream().mapToLong(host -> host.hedgeWins.sum()).sum();
+    }
+
+    /**
+     * Gets the latency after which reads of each host seen so far are hedged.
+     *
+     * @return the delays in milliseconds, by host in sorted order; -1 for hosts with too few reads
+     */
+    public Map<String, Long> hedgeDelaysMillis() {
+        Map<String, Long> delays = new TreeMap<>();
+        hosts.forEach((name, host) -> {
+            long nanos = host.hedgeDelayNanos();
+            delays.put(name, (nanos < 0) ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos));
+        });
+        return delays;
+    }
+
+    /**
+     * Stops the threads running reads. Reads in progress are cancelled.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The recent latencies and hedge budget of one host.
+     */
+    static final class Host {
+
+        private final double hedgeRatio;
+        private final long[] samples = new long[WINDOW];
+        private int sampleCount;
+        private int next;
+        private double budget;
+        private final LongAdder hedges = new LongAdder();
+        private final LongAdder hedgeWins = new LongAdder();
+
+        private Host(double hedgeRatio) {
+            this.hedgeRatio = hedgeRatio;
+        }
+
+        /**
+         * Gets how long a read may run before it is hedged, and adds this read to the budget.
+         *
+         * @return the delay in nanoseconds, or -1 if reads of the host are not hedged yet
+         */
+        synchronized long startRead() {
+            budget = Math.min(MAX_BURST, budget + hedgeRatio);
+            return hedgeDelayNanos();
+        }
+
+        synchronized long hedgeDelayNanos() {
+            if (sampleCount < MIN_SAMPLES) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.ceil(PERCENTILE_PERCENT / 100.0 * sampleCount) - 1];
+        }
+
+        /**
+         * Spends one hedge from the budget.
+         *
+         * @return true if the budget allowed a hedge
+         */
+        synchronized boolean tryHedge() {
+            if (budget < 1) {
+                return false;
+            }
+            budget--;
+            hedges.increment();
+            return true;
+        }
+
+        /**
+         * Records the latency of a read that completed, timed from the start of the read
+         * whichever attempt won.
+         *
+         * @param nanos   how long the read took
+         * @param isHedge whether the hedge won the read
+         */
+        synchronized void record(long nanos, boolean isHedge) {
+            samples[next] = nanos;
+            next = (next + 1) % WINDOW;
+            sampleCount = Math.min(WINDOW, sampleCount + 1);
+            if (isHedge) {
+                hedgeWins.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.newsparser.sources;
+
+import java.io.IOException;
+
+/**
+ * Thrown instead of reading a source whose {@link CircuitBreaker} is open, so a source known to
+ * be failing is not contacted again until its backoff window has passed.
+ */
+public class SourceUnavailableException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterMillis;
+
+    /**
+     * Constructs a {@code SourceUnavailableException}.
+     *
+     * @param message          the detail message, naming the source and its last failure
+     * @param retryAfterMillis how long until the source is tried again, in milliseconds
+     */
+    public SourceUnavailableException(String message, long retryAfterMillis) {
+        super(message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * Gets how long until the source is tried again.
+     *
+     * @return the time in milliseconds, or 0 if a trial request is already in flight
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -1,8 +1,12 @@
 package org.newsparser.sources;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
 
 /**
@@ -11,10 +15,17 @@ import java.util.Scanner;
  */
 public class URLJsonSource implements ArticleSource {
     private static final String DEFAULT_API_URL = "http://newsapi.org/v2/top-headlines?country=us&apiKey=cff43eceb1d44ccf957632ba39fbe4d5";
+
+    /**
+     * The connect and read timeout used when none is given, in milliseconds.
+     */
+    public static final int DEFAULT_TIMEOUT_MILLIS = 10_000;
+
     private final String url;
+    private final int timeoutMillis;
 
     public URLJsonSource() {
-        this.url = DEFAULT_API_URL;
+        this(DEFAULT_API_URL);
     }
 
     /**
@@ -23,9 +34,28 @@ public class URLJsonSource implements ArticleSource {
      * @param url the URL from which to retrieve the article data
      */
     public URLJsonSource(String url) {
+        this(url, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code UrlArticleSource} with the specified URL and timeout, so a server that
+     * stops answering fails the request instead of blocking it indefinitely.
+     *
+     * @param url           the URL from which to retrieve the article data
+     * @param timeoutMillis the connect timeout, and the longest wait for each read, in milliseconds
+     */
+    public URLJsonSource(String url, int timeoutMillis) {
         this.url = url;
+        this.timeoutMillis = timeoutMillis;
     }
 
+    private HttpURLConnection connect() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestMethod("GET");
+        connection.setConnectTimeout(timeoutMillis);
+        connection.setReadTimeout(timeoutMillis);
+        return connection;
+    }
 
     /**
      * Retrieves a JSON string by making an HTTP GET request to the specified URL.
@@ -39,14 +69,31 @@ public class URLJsonSource implements ArticleSource {
     @Override
     public String getJsonString() throws IOException {
         StringBuilder jsonResponse = new StringBuilder();
-        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
-        connection.setRequestMethod("GET");
+        HttpURLConnection connection = connect();
 
         Scanner scanner = new Scanner(connection.getInputStream());
         while (scanner.hasNext()) {
             jsonResponse.append(scanner.nextLine());
         }
+        // Scanner swallows read errors such as timeouts, which would otherwise pass as a short response
+        IOException readError = scanner.ioException();
         scanner.close();
+        if (readError != null) {
+            throw readError;
+        }
         return jsonResponse.toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * Makes an HTTP GET request to the specified URL and opens a reader over the response body,
+     * so the response can be parsed while it is still arriving.
+     *
+     * @return a reader over the response body
+     * @throws IOException if an I/O error occurs during the connection
+     */
+    @Override
+    public Reader openReader() throws IOException {
+        HttpURLConnection connection = connect();
+        return new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,112 @@
+package org.newsparser.store;
+
+import org.newsparser.databind.Article;
+import org.newsparser.databind.Source;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * Utility class converting {@link Article}s to and from a compact binary form used by the
+ * on-disk stores. Strings are written as a length prefix followed by UTF-8 bytes,
+ * with a negative length for {@code null}; the publication date is written as epoch millis.
+ */
+public class ArticleCodec {
+
+    private static final int NULL_LENGTH = -1;
+    private static final long NULL_DATE = Long.MIN_VALUE;
+
+    // Private constructor to prevent instantiation
+    private ArticleCodec() {}
+
+    /**
+     * Encodes an article into a new byte array.
+     *
+     * @param article the article to encode
+     * @return the encoded bytes
+     */
+    public static byte[] encode(Article article) {
+        Source source = article.getSource();
+        byte[][] fields = {
+                utf8(source != null ? source.getId() : null),
+                utf8(source != null ? source.getName() : null),
+                utf8(article.getAuthor()),
+                utf8(article.getTitle()),
+                utf8(article.getDescription()),
+                utf8(article.getUrl()),
+                utf8(article.getUrlToImage()),
+                utf8(article.getContent())
+        };
+
+        int length = 1 + Long.BYTES;
+        for (byte[] field : fields) {
+            length += Integer.BYTES + (field != null ? field.length : 0);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.put((byte) (source != null ? 1 : 0));
+        Date publishedAt = article.getPublishedDateTime();
+        buffer.putLong(publishedAt != null ? publishedAt.getTime() : NULL_DATE);
+        for (byte[] field : fields) {
+            if (field == null) {
+                buffer.putInt(NULL_LENGTH);
+            } else {
+                buffer.putInt(field.length);
+                buffer.put(field);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decodes an article starting at the buffer's current position and advances the position
+     * past it.
+     *
+     * @param buffer the buffer holding an encoded article
+     * @return the decoded article
+     */
+    public static Article decode(ByteBuffer buffer) {
+        boolean hasSource = buffer.get() != 0;
+        long publishedAt = buffer.getLong();
+        String sourceId = readString(buffer);
+        String sourceName = readString(buffer);
+        String author = readString(buffer);
+        String title = readString(buffer);
+        String description = readString(buffer);
+        String url = readString(buffer);
+        String urlToImage = readString(buffer);
+        String content = readString(buffer);
+
+        return new Article(
+                hasSource ? new Source(sourceId, sourceName) : null,
+                author,
+                title,
+                description,
+                url,
+                urlToImage,
+                publishedAt != NULL_DATE ? new Date(publishedAt) : null,
+                content);
+    }
+
+    private static byte[] utf8(String value) {
+        return (value != null) ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(buffer.position(), bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
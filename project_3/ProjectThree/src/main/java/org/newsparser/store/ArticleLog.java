@@ -0,0 +1,542 @@
+package org.newsparser.store;
+
+import org.newsparser.databind.Article;
+import org.newsparser.databind.NewsResponse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * A durable, append-only log of validated {@link Article}s.
+ *
+ * <p>Articles are encoded with {@link ArticleCodec} and appended to the active segment file
+ * through a {@link java.nio.channels.FileChannel}. When the active segment grows past the
+ * configured size, a new segment is started. Every record gets an increasing logical offset
+ * and its append time, and each segment keeps a sparse index on both, so readers can seek
+ * to an offset or a point in time without scanning the whole log.</p>
+ *
+ * <p>Writes are not synced one by one: the log calls {@code fsync} once every
+ * {@code syncEveryRecords} records or {@code syncIntervalMillis}, whichever comes first,
+ * and on {@link #flush()} and {@link #close()}. The interval is enforced by a background
+ * flush scheduled on the first unsynced append, so the last records are synced even if
+ * appends stop. Records written since the last sync may be lost on a crash; torn records
+ * are truncated when the log is reopened.</p>
+ */
+public class ArticleLog implements Closeable {
+
+    /** Default maximum size of a segment file before a new one is started. */
+    public static final long DEFAULT_SEGMENT_BYTES = 64L << 20;
+
+    /** Default approximate number of record bytes between sparse index entries. */
+    public static final int DEFAULT_INDEX_INTERVAL_BYTES = 4096;
+
+    /** Default number of records appended between syncs. */
+    public static final int DEFAULT_SYNC_EVERY_RECORDS = 1000;
+
+    /** Default maximum time between syncs of appended records. */
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000;
+
+    // Shared by all logs, runs the flushes that enforce the sync interval when appends stop
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "article-log-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static final String SWAP_MANIFEST = "compaction.swap";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String MANIFEST_REPLACE = "replace";
+    private static final String MANIFEST_INSTALL = "install";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final int indexIntervalBytes;
+    private final int syncEveryRecords;
+    private final long syncIntervalMillis;
+
+    // Immutable snapshot of all segments in offset order; the last one is the active segment
+    private volatile List<LogSegment> segments;
+
+    // Held briefly by readers while opening segment files and by swaps while replacing them
+    private final ReadWriteLock segmentsLock = new ReentrantReadWriteLock();
+
+    private long nextOffset;
+    private long lastAppendMillis;
+    private int unsyncedRecords;
+    private long lastSyncMillis;
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed;
+
+    /**
+     * Opens or creates an article log in the given directory with default settings.
+     *
+     * @param directory the directory holding the segment files
+     * @throws IOException if the directory or its segments cannot be opened
+     */
+    public ArticleLog(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_BYTES, DEFAULT_INDEX_INTERVAL_BYTES, DEFAULT_SYNC_EVERY_RECORDS, DEFAULT_SYNC_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Opens or creates an article log in the given directory.
+     * Existing segments are recovered and new records are appended after them.
+     *
+     * @param directory          the directory holding the segment files
+     * @param segmentBytes       the size at which the active segment is rolled
+     * @param indexIntervalBytes the approximate number of record bytes between index entries
+     * @param syncEveryRecords   the number of records appended between syncs
+     * @param syncIntervalMillis the maximum time between syncs of appended records
+     * @throws IOException if the directory or its segments cannot be opened
+     */
+    public ArticleLog(Path directory, long segmentBytes, int indexIntervalBytes,
+                      int syncEveryRecords, long syncIntervalMillis) throws IOException {
+        if (segmentBytes <= 0 || indexIntervalBytes <= 0 || syncEveryRecords <= 0 || syncIntervalMillis < 0) {
+            throw new IllegalArgumentException("Invalid article log settings.");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.indexIntervalBytes = indexIntervalBytes;
+        this.syncEveryRecords = syncEveryRecords;
+        this.syncIntervalMillis = syncIntervalMillis;
+
+        Files.createDirectories(directory);
+        Path manifest = directory.resolve(SWAP_MANIFEST);
+        if (Files.exists(manifest)) {
+            // A compaction committed its swap but did not finish applying it
+            completeSwap(directory, manifest);
+        }
+        Files.deleteIfExists(directory.resolve(SWAP_MANIFEST + TEMP_SUFFIX));
+
+        List<Path> logFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            logFiles = files.sorted().toList();
+        }
+
+        List<LogSegment> opened = new ArrayList<>();
+        for (Path file : logFiles) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(LogSegment.CLEANED_SUFFIX)) {
+                // Leftover of a compaction that did not commit, the original segments are intact
+                Files.delete(file);
+            } else if (name.endsWith(LogSegment.LOG_SUFFIX)) {
+                opened.add(LogSegment.open(file, indexIntervalBytes));
+            }
+        }
+        if (opened.isEmpty()) {
+            opened.add(LogSegment.create(directory, 0, indexIntervalBytes));
+        }
+
+        LogSegment active = opened.get(opened.size() - 1);
+        this.nextOffset = active.nextOffset();
+        for (LogSegment segment : opened) {
+            this.lastAppendMillis = Math.max(lastAppendMillis, segment.lastAppendMillis());
+        }
+        this.segments = List.copyOf(opened);
+        this.lastSyncMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Appends a single article to the log.
+     *
+     * @param article the article to append
+     * @return the offset assigned to the article
+     * @throws IOException if the write fails
+     */
+    public long append(Article article) throws IOException {
+        return append(List.of(article));
+    }
+
+    /**
+     * Appends the articles of a news response to the log.
+     *
+     * @param newsResponse the response whose articles should be appended
+     * @return the offset assigned to the first article, or the next offset if there are none
+     * @throws IOException if the write fails
+     */
+    public long append(NewsResponse newsResponse) throws IOException {
+        return append(newsResponse.getArticles());
+    }
+
+    /**
+     * Appends several articles to the log with a single write.
+     *
+     * @param articles the articles to append
+     * @return the offset assigned to the first article, or the next offset if the list is empty
+     * @throws IOException              if the write fails
+     * @throws IllegalArgumentException if an encoded article is larger than a record can hold
+     */
+    public synchronized long append(List<Article> articles) throws IOException {
+        ensureOpen();
+        long firstOffset = nextOffset;
+        if (articles.isEmpty()) {
+            return firstOffset;
+        }
+
+        // Encode everything first, so a rejected article does not consume offsets
+        List<byte[]> payloads = new ArrayList<>(articles.size());
+        for (Article article : articles) {
+            byte[] payload = ArticleCodec.encode(article);
+            if (payload.length > LogSegment.MAX_PAYLOAD_BYTES) {
+                throw new IllegalArgumentException("Encoded article of " + payload.length
+                        + " bytes exceeds the maximum record size of " + LogSegment.MAX_PAYLOAD_BYTES + " bytes.");
+            }
+            payloads.add(payload);
+        }
+
+        LogSegment active = activeSegment();
+        if (active.size() >= segmentBytes) {
+            active = roll();
+        }
+
+        // Append times are kept non-decreasing so the time index stays sorted
+        long now = Math.max(System.currentTimeMillis(), lastAppendMillis);
+        List<LogSegment.Record> records = new ArrayList<>(payloads.size());
+        for (byte[] payload : payloads) {
+            records.add(new LogSegment.Record(nextOffset++, now, payload));
+        }
+        active.append(records);
+        lastAppendMillis = now;
+
+        unsyncedRecords += records.size();
+        if (unsyncedRecords >= syncEveryRecords || now - lastSyncMillis >= syncIntervalMillis) {
+            sync(active, now);
+        } else if (scheduledFlush == null) {
+            long delay = Math.max(0, syncIntervalMillis - (now - lastSyncMillis));
+            scheduledFlush = FLUSHER.schedule(this::scheduledFlush, delay, TimeUnit.MILLISECONDS);
+        }
+        return firstOffset;
+    }
+
+    /**
+     * Syncs all appended records to the storage device.
+     *
+     * @throws IOException if the sync fails
+     */
+    public synchronized void flush() throws IOException {
+        ensureOpen();
+        sync(activeSegment(), System.currentTimeMillis());
+    }
+
+    /**
+     * Opens a reader over all records, starting at the given offset.
+     *
+     * @param fromOffset the first offset to read
+     * @return a reader positioned at the first record at or after the offset
+     * @throws IOException if a segment cannot be opened
+     */
+    public LogReader read(long fromOffset) throws IOException {
+        segmentsLock.readLock().lock();
+        try {
+            List<LogSegment> snapshot = segments;
+            int first = 0;
+            for (int i = 1; i < snapshot.size(); i++) {
+                if (snapshot.get(i).baseOffset() <= fromOffset) {
+                    first = i;
+                }
+            }
+            List<LogSegment> selected = snapshot.subList(first, snapshot.size());
+            return new LogReader(selected, fromOffset, Long.MIN_VALUE, selected.get(0).floorPositionForOffset(fromOffset));
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Opens a reader over the records appended at or after the given time.
+     *
+     * @param appendMillis the earliest append time to read, as epoch millis
+     * @return a reader positioned at the first record appended at or after the time
+     * @throws IOException if a segment cannot be opened
+     */
+    public LogReader readSince(long appendMillis) throws IOException {
+        segmentsLock.readLock().lock();
+        try {
+            List<LogSegment> snapshot = segments;
+            int first = snapshot.size() - 1;
+            for (int i = 0; i < snapshot.size(); i++) {
+                if (snapshot.get(i).lastAppendMillis() >= appendMillis) {
+                    first = i;
+                    break;
+                }
+            }
+            List<LogSegment> selected = snapshot.subList(first, snapshot.size());
+            return new LogReader(selected, Long.MIN_VALUE, appendMillis, selected.get(0).floorPositionForTime(appendMillis));
+        } finally {
+            segmentsLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replays every article in the log, in offset order.
+     *
+     * @param consumer the consumer receiving each article
+     * @throws IOException if the log cannot be read
+     */
+    public void replay(Consumer<Article> consumer) throws IOException {
+        try (LogReader reader = read(0)) {
+            reader.forEachRemaining(entry -> consumer.accept(entry.getArticle()));
+        }
+    }
+
+    /**
+     * Gets the offset the next appended article will receive.
+     *
+     * @return the next offset
+     */
+    public synchronized long nextOffset() {
+        return nextOffset;
+    }
+
+    /**
+     * Gets the number of segment files in the log.
+     *
+     * @return the segment count
+     */
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Gets the total size of all segment files.
+     *
+     * @return the log size in bytes
+     */
+    public long sizeInBytes() {
+        long total = 0;
+        for (LogSegment segment : segments) {
+            total += segment.size();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the directory holding the segment files.
+     *
+     * @return the log directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Syncs outstanding records and closes every segment.
+     *
+     * @throws IOException if the sync or close fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        sync(activeSegment(), System.currentTimeMillis());
+        closed = true;
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        for (LogSegment segment : segments) {
+            segment.close();
+        }
+    }
+
+    /**
+     * Gets the current segments in offset order. The last segment is the active one.
+     *
+     * @return an immutable snapshot of the segments
+     */
+    List<LogSegment> segments() {
+        return segments;
+    }
+
+    /**
+     * Atomically replaces sealed segments of the log with compacted segments.
+     * Each compacted segment must have been written under its cleaned file names and hold only
+     * records of the replaced segments, with a base offset no lower than the first record it
+     * holds and not shared with any segment that is kept.
+     *
+     * <p>The swap is committed by writing a manifest naming the replaced and installed segments,
+     * then applied by moving the cleaned files into place and deleting the replaced ones. A log
+     * reopened after a crash finishes applying a committed manifest, and discards cleaned files
+     * that were never committed. Readers opened before the swap keep reading the replaced files;
+     * readers opened after it see the compacted segments.</p>
+     *
+     * @param replaced the sealed segments being replaced
+     * @param cleaned  the closed compacted segments, which may be empty to drop the segments entirely
+     * @throws IOException if the manifest cannot be written or the files cannot be moved or deleted
+     */
+    void replaceSegments(List<LogSegment> replaced, List<LogSegment> cleaned) throws IOException {
+        segmentsLock.writeLock().lock();
+        try {
+            List<LogSegment> current = segments;
+            if (replaced.isEmpty() || !current.subList(0, current.size() - 1).containsAll(replaced)) {
+                throw new IllegalStateException("Only sealed segments of this log can be replaced.");
+            }
+
+            Path manifest = directory.resolve(SWAP_MANIFEST);
+            writeManifest(manifest, replaced, cleaned);
+            for (LogSegment segment : replaced) {
+                segment.close();
+            }
+            completeSwap(directory, manifest);
+
+            List<LogSegment> updated = new ArrayList<>(current);
+            updated.removeAll(replaced);
+            for (LogSegment segment : cleaned) {
+                updated.add(LogSegment.open(LogSegment.logPath(directory, segment.baseOffset()), indexIntervalBytes));
+            }
+            updated.sort(Comparator.comparingLong(LogSegment::baseOffset));
+            segments = List.copyOf(updated);
+        } finally {
+            segmentsLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the size at which the active segment is rolled.
+     *
+     * @return the segment size in bytes
+     */
+    long segmentBytes() {
+        return segmentBytes;
+    }
+
+    /**
+     * Gets the approximate number of record bytes between sparse index entries.
+     *
+     * @return the index interval in bytes
+     */
+    int indexIntervalBytes() {
+        return indexIntervalBytes;
+    }
+
+    private LogSegment activeSegment() {
+        List<LogSegment> snapshot = segments;
+        return snapshot.get(snapshot.size() - 1);
+    }
+
+    private LogSegment roll() throws IOException {
+        LogSegment previous = activeSegment();
+        sync(previous, System.currentTimeMillis());
+
+        LogSegment next = LogSegment.create(directory, nextOffset, indexIntervalBytes);
+        segmentsLock.writeLock().lock();
+        try {
+            List<LogSegment> updated = new ArrayList<>(segments);
+            updated.add(next);
+            segments = List.copyOf(updated);
+        } finally {
+            segmentsLock.writeLock().unlock();
+        }
+        return next;
+    }
+
+    private synchronized void scheduledFlush() {
+        scheduledFlush = null;
+        if (closed || unsyncedRecords == 0) {
+            return;
+        }
+        try {
+            sync(activeSegment(), System.currentTimeMillis());
+        } catch (IOException e) {
+            // The records stay unsynced, so the next append, flush or close retries the sync
+        }
+    }
+
+    private void sync(LogSegment segment, long now) throws IOException {
+        if (unsyncedRecords > 0) {
+            segment.force();
+            unsyncedRecords = 0;
+        }
+        lastSyncMillis = now;
+    }
+
+    private void writeManifest(Path manifest, List<LogSegment> replaced, List<LogSegment> cleaned) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (LogSegment segment : replaced) {
+            content.append(MANIFEST_REPLACE).append(' ').append(segment.baseOffset()).append('\n');
+        }
+        for (LogSegment segment : cleaned) {
+            content.append(MANIFEST_INSTALL).append(' ').append(segment.baseOffset()).append('\n');
+        }
+
+        // The manifest is synced under a temporary name, and moving it into place is the commit point
+        Path temp = directory.resolve(SWAP_MANIFEST + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.US_ASCII));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, manifest, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Applies a committed swap manifest. Every step can be repeated, so a swap interrupted at
+     * any point is completed by applying its manifest again.
+     */
+    private static void completeSwap(Path directory, Path manifest) throws IOException {
+        Set<Long> replaced = new HashSet<>();
+        Set<Long> installed = new HashSet<>();
+        for (String line : Files.readAllLines(manifest, StandardCharsets.US_ASCII)) {
+            String[] parts = line.split(" ");
+            if (parts.length != 2) {
+                continue;
+            }
+            long baseOffset = Long.parseLong(parts[1]);
+            if (parts[0].equals(MANIFEST_REPLACE)) {
+                replaced.add(baseOffset);
+            } else if (parts[0].equals(MANIFEST_INSTALL)) {
+                installed.add(baseOffset);
+            }
+        }
+
+        // A cleaned log file that still exists has not been moved into place yet; its index moves first
+        for (long baseOffset : installed) {
+            Path cleanedLog = LogSegment.cleanedLogPath(directory, baseOffset);
+            if (Files.exists(cleanedLog)) {
+                Path cleanedIndex = LogSegment.cleanedIndexPath(directory, baseOffset);
+                if (Files.exists(cleanedIndex)) {
+                    Files.move(cleanedIndex, LogSegment.indexPath(directory, baseOffset),
+                            StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                }
+                Files.move(cleanedLog, LogSegment.logPath(directory, baseOffset),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        for (long baseOffset : replaced) {
+            if (!installed.contains(baseOffset)) {
+                Files.deleteIfExists(LogSegment.logPath(directory, baseOffset));
+                Files.deleteIfExists(LogSegment.indexPath(directory, baseOffset));
+            }
+        }
+        Files.delete(manifest);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Article log is closed.");
+        }
+    }
+}
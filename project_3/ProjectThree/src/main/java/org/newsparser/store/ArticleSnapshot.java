@@ -0,0 +1,310 @@
+package org.newsparser.store;
+
+import org.newsparser.databind.Article;
+import org.newsparser.utils.ArticleMerger;
+import org.newsparser.utils.Hashing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * A read-only snapshot of a validated article set, stored in a single file laid out for
+ * memory mapping.
+ *
+ * <p>Opening a snapshot maps the file and reads only its fixed-size header; articles are decoded
+ * one at a time when they are accessed, so a restarted process can serve queries from the
+ * snapshot immediately instead of re-fetching and re-parsing every feed. The file holds:</p>
+ * <ul>
+ *     <li>a header with a magic number, format version and article count,</li>
+ *     <li>a table of record positions, one per article plus the end position,</li>
+ *     <li>a recency index listing article numbers from newest to oldest,</li>
+ *     <li>a URL index of sorted URL hashes with their article numbers,</li>
+ *     <li>the articles encoded with {@link ArticleCodec}.</li>
+ * </ul>
+ *
+ * <p>Snapshots are limited to 2 GiB, the largest region a single mapping can cover.</p>
+ */
+public class ArticleSnapshot implements Closeable {
+
+    private static final int MAGIC = 0x4E534E50;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+    private static final int INDEX_BYTES_PER_ARTICLE = 2 * Long.BYTES + 2 * Integer.BYTES;
+    private static final int WRITE_CHUNK_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int count;
+    private final int positionsStart;
+    private final int recencyStart;
+    private final int urlHashesStart;
+    private final int urlIdsStart;
+
+    private ArticleSnapshot(FileChannel channel, MappedByteBuffer buffer) throws IOException {
+        this.channel = channel;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not an article snapshot file.");
+        }
+        this.count = buffer.getInt(8);
+        if (count < 0 || count > buffer.capacity() / INDEX_BYTES_PER_ARTICLE) {
+            throw new IOException("Article snapshot file is truncated or corrupt.");
+        }
+        this.positionsStart = HEADER_BYTES;
+        this.recencyStart = positionsStart + (count + 1) * Long.BYTES;
+        this.urlHashesStart = recencyStart + count * Integer.BYTES;
+        this.urlIdsStart = urlHashesStart + count * Long.BYTES;
+        if (urlIdsStart + (long) count * Integer.BYTES > buffer.capacity()
+                || buffer.getLong(positionsStart + count * Long.BYTES) != buffer.capacity()) {
+            throw new IOException("Article snapshot file is truncated or corrupt.");
+        }
+    }
+
+    /**
+     * Maps an existing snapshot file. Only the header is read; articles are decoded on access.
+     *
+     * @param path the snapshot file
+     * @return the opened snapshot
+     * @throws IOException if the file cannot be mapped or is not a valid snapshot
+     */
+    public static ArticleSnapshot open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Article snapshot file is too large to map: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ArticleSnapshot(channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes a snapshot of the given articles. The file is written under a temporary name,
+     * synced and then atomically renamed, so readers never observe a partial snapshot.
+     *
+     * @param path     the snapshot file to write
+     * @param articles the articles to include
+     * @throws IOException if the file cannot be written or exceeds the size limit
+     */
+    public static void write(Path path, Collection<Article> articles) throws IOException {
+        List<Article> ordered = new ArrayList<>(articles);
+        int count = ordered.size();
+
+        byte[][] records = new byte[count][];
+        long recordsStart = HEADER_BYTES + (long) (count + 1) * Long.BYTES
+                + (long) count * Integer.BYTES + (long) count * Long.BYTES + (long) count * Integer.BYTES;
+        long[] positions = new long[count + 1];
+        positions[0] = recordsStart;
+        for (int i = 0; i < count; i++) {
+            records[i] = ArticleCodec.encode(ordered.get(i));
+            positions[i + 1] = positions[i] + records[i].length;
+        }
+        if (positions[count] > Integer.MAX_VALUE) {
+            throw new IOException("Article snapshot would exceed the 2 GiB mapping limit.");
+        }
+
+        // Recency index: article numbers from newest to oldest
+        Integer[] byRecency = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            byRecency[i] = i;
+        }
+        Arrays.sort(byRecency, Comparator.comparing(ordered::get, ArticleMerger.NEWEST_FIRST));
+
+        // URL index: article numbers sorted by URL hash
+        long[] urlHashes = new long[count];
+        Integer[] byUrl = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            urlHashes[i] = Hashing.hash64(ordered.get(i).getUrl());
+            byUrl[i] = i;
+        }
+        Arrays.sort(byUrl, Comparator.comparingLong(i -> urlHashes[i]));
+
+        ByteBuffer header = ByteBuffer.allocate((int) recordsStart);
+        header.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(0);
+        for (long position : positions) {
+            header.putLong(position);
+        }
+        for (Integer id : byRecency) {
+            header.putInt(id);
+        }
+        for (Integer id : byUrl) {
+            header.putLong(urlHashes[id]);
+        }
+        for (Integer id : byUrl) {
+            header.putInt(id);
+        }
+        header.flip();
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header);
+
+            // Records are gathered into large chunks rather than written one system call each
+            ByteBuffer chunk = ByteBuffer.allocateDirect(WRITE_CHUNK_BYTES);
+            for (byte[] record : records) {
+                if (record.length > chunk.remaining()) {
+                    writeFully(channel, chunk.flip());
+                    chunk.clear();
+                }
+                if (record.length > chunk.capacity()) {
+                    writeFully(channel, ByteBuffer.wrap(record));
+                } else {
+                    chunk.put(record);
+                }
+            }
+            writeFully(channel, chunk.flip());
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Periodically writes a snapshot of the articles returned by the supplier.
+     * Failed writes are logged and retried on the next period.
+     *
+     * @param executor     the executor running the writes
+     * @param path         the snapshot file to write
+     * @param articles     supplies the current validated article set
+     * @param periodMillis the time between consecutive writes
+     * @param logger       the {@link Logger} for reporting failed writes
+     * @return the future of the scheduled task, which can be cancelled to stop writing
+     */
+    public static ScheduledFuture<?> schedule(ScheduledExecutorService executor, Path path,
+                                              Supplier<? extends Collection<Article>> articles,
+                                              long periodMillis, Logger logger) {
+        return executor.scheduleWithFixedDelay(() -> {
+            try {
+                write(path, articles.get());
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to write article snapshot: " + e.getMessage());
+            }
+        }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets the number of articles in the snapshot.
+     *
+     * @return the article count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Decodes the article with the given number.
+     *
+     * @param index the article number, from 0 to {@code size() - 1}
+     * @return the decoded article
+     * @throws IndexOutOfBoundsException if the number is out of range
+     */
+    public Article get(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Article " + index + " out of range for snapshot of size " + count);
+        }
+        int position = (int) buffer.getLong(positionsStart + index * Long.BYTES);
+        return ArticleCodec.decode(buffer.duplicate().position(position));
+    }
+
+    /**
+     * Gets the most recently published articles, using the stored recency index.
+     *
+     * @param limit the maximum number of articles to return
+     * @return up to {@code limit} articles, newest first
+     */
+    public List<Article> latest(int limit) {
+        int length = Math.min(Math.max(limit, 0), count);
+        List<Article> articles = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            articles.add(get(buffer.getInt(recencyStart + i * Integer.BYTES)));
+        }
+        return articles;
+    }
+
+    /**
+     * Finds an article by URL, using the stored URL hash index.
+     *
+     * @param url the URL to look up, may be null
+     * @return the article with the URL, or {@code null} if the snapshot has none or the URL is null
+     */
+    public Article findByUrl(String url) {
+        if (url == null) {
+            return null;
+        }
+        long hash = Hashing.hash64(url);
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midHash = buffer.getLong(urlHashesStart + mid * Long.BYTES);
+            if (midHash < hash) {
+                low = mid + 1;
+            } else if (midHash > hash) {
+                high = mid - 1;
+            } else {
+                // Walk back to the first entry with this hash, then check each for a real match
+                int first = mid;
+                while (first > 0 && buffer.getLong(urlHashesStart + (first - 1) * Long.BYTES) == hash) {
+                    first--;
+                }
+                for (int i = first; i < count && buffer.getLong(urlHashesStart + i * Long.BYTES) == hash; i++) {
+                    Article article = get(buffer.getInt(urlIdsStart + i * Integer.BYTES));
+                    if (url.equals(article.getUrl())) {
+                        return article;
+                    }
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Decodes every article in the snapshot, in the order they were written.
+     *
+     * @return all articles
+     */
+    public List<Article> toList() {
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            articles.add(get(i));
+        }
+        return articles;
+    }
+
+    /**
+     * Closes the file. The mapping itself is released when the snapshot is garbage collected.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
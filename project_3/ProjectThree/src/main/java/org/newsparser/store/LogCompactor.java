@@ -0,0 +1,324 @@
+package org.newsparser.store;
+
+import org.newsparser.databind.Article;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Background compaction and retention for an {@link ArticleLog}.
+ *
+ * <p>Each compaction pass rewrites the sealed segments appended since the previous pass (the
+ * dirty segments) so that they keep only the latest version of each {@link Article#getUrl()}
+ * across the whole log, and only records appended within the retention age. Segments compacted
+ * by earlier passes are rewritten only when they hold a version that a newer record supersedes
+ * or a record that has expired. The compactor keeps the offset of every URL in the compacted
+ * part of the log in memory to find those segments without scanning them; the first pass after
+ * the compactor is created treats every sealed segment as dirty to build it.</p>
+ *
+ * <p>Compacted output is rolled into segments of at most the log's segment size, written under
+ * temporary names and swapped in atomically, so appends to the active segment and open readers
+ * are never blocked by the rewrite itself. Afterwards, the oldest sealed segments are dropped
+ * while the log exceeds the retention size, which trims the log one segment at a time.</p>
+ */
+public class LogCompactor implements Closeable {
+
+    /** Retention value meaning records are never dropped for this reason. */
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    private static final int WRITE_BATCH_RECORDS = 512;
+
+    private final ArticleLog log;
+    private final long maxAgeMillis;
+    private final long maxBytes;
+    private final Logger logger;
+    private ScheduledExecutorService executor;
+
+    // Offset of the single version of each URL kept in the segments below cleanOffset
+    private final Map<String, Long> cleanOffsets = new HashMap<>();
+    private long cleanOffset;
+
+    /**
+     * Constructs a {@code LogCompactor} for the given log.
+     *
+     * @param log          the log to compact
+     * @param maxAgeMillis the maximum age of a record, by append time, or {@link #UNLIMITED}
+     * @param maxBytes     the maximum total size of the log, or {@link #UNLIMITED}
+     * @param logger       the {@link Logger} for reporting failed background passes
+     */
+    public LogCompactor(ArticleLog log, long maxAgeMillis, long maxBytes, Logger logger) {
+        this.log = log;
+        this.maxAgeMillis = maxAgeMillis;
+        this.maxBytes = maxBytes;
+        this.logger = logger;
+    }
+
+    /**
+     * Starts running compaction passes periodically on a background daemon thread.
+     *
+     * @param periodMillis the time between the start of consecutive passes
+     * @throws IllegalStateException if the compactor is already started
+     */
+    public synchronized void start(long periodMillis) {
+        if (executor != null) {
+            throw new IllegalStateException("Compactor is already started.");
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "article-log-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                compact();
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Article log compaction failed: " + e.getMessage());
+            }
+        }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs one compaction and retention pass.
+     *
+     * @return the number of records removed
+     * @throws IOException if the segments cannot be read or rewritten
+     */
+    public synchronized long compact() throws IOException {
+        List<LogSegment> current = log.segments();
+        LogSegment active = current.get(current.size() - 1);
+        List<LogSegment> clean = new ArrayList<>();
+        List<LogSegment> dirty = new ArrayList<>();
+        for (LogSegment segment : current.subList(0, current.size() - 1)) {
+            (segment.baseOffset() < cleanOffset ? clean : dirty).add(segment);
+        }
+
+        // Find the offset of the latest version of every URL written since the last pass
+        Map<String, Long> latestOffsets = new HashMap<>();
+        for (LogSegment segment : dirty) {
+            collectLatestOffsets(segment, latestOffsets);
+        }
+        collectLatestOffsets(active, latestOffsets);
+
+        // Pick the compacted segments holding a superseded or expired record
+        long cutoff = (maxAgeMillis == UNLIMITED) ? Long.MIN_VALUE : System.currentTimeMillis() - maxAgeMillis;
+        Set<LogSegment> stale = new HashSet<>();
+        for (LogSegment segment : clean) {
+            if (segment.firstAppendMillis() < cutoff) {
+                stale.add(segment);
+            }
+        }
+        for (String url : latestOffsets.keySet()) {
+            Long offset = cleanOffsets.get(url);
+            if (offset != null && !clean.isEmpty()) {
+                stale.add(segmentHolding(clean, offset));
+            }
+        }
+
+        // Rewrite each stale segment on its own, and the dirty segments together with the last
+        // compacted segment if it is less than half full, so passes do not leave many small segments
+        List<List<LogSegment>> runs = new ArrayList<>();
+        List<LogSegment> dirtyRun = new ArrayList<>(dirty);
+        LogSegment lastClean = clean.isEmpty() ? null : clean.get(clean.size() - 1);
+        if (!dirty.isEmpty() && lastClean != null && lastClean.size() < log.segmentBytes() / 2) {
+            dirtyRun.add(0, lastClean);
+            stale.remove(lastClean);
+        }
+        for (LogSegment segment : clean) {
+            if (stale.contains(segment)) {
+                runs.add(List.of(segment));
+            }
+        }
+        if (!dirtyRun.isEmpty()) {
+            runs.add(dirtyRun);
+        }
+
+        long removed = 0;
+        if (!runs.isEmpty()) {
+            List<LogSegment> replaced = new ArrayList<>();
+            List<LogSegment> cleaned = new ArrayList<>();
+            try {
+                for (List<LogSegment> run : runs) {
+                    removed += rewrite(run, latestOffsets, cutoff, cleaned);
+                    replaced.addAll(run);
+                }
+                log.replaceSegments(replaced, cleaned);
+            } catch (IOException | RuntimeException e) {
+                for (LogSegment segment : cleaned) {
+                    segment.delete();
+                }
+                // The tracked offsets may no longer match the log, so the next pass starts over
+                cleanOffsets.clear();
+                cleanOffset = 0;
+                throw e;
+            }
+        }
+        cleanOffset = active.baseOffset();
+        return removed + applySizeRetention();
+    }
+
+    /**
+     * Stops the background passes, waiting for a running pass to finish.
+     */
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    /**
+     * Rewrites a run of consecutive segments into compacted segments of at most the log's
+     * segment size, keeping the latest unexpired version of each URL.
+     *
+     * @return the number of records dropped
+     */
+    private long rewrite(List<LogSegment> run, Map<String, Long> latestOffsets, long cutoff,
+                         List<LogSegment> cleaned) throws IOException {
+        long dropped = 0;
+        LogSegment output = null;
+        long outputBytes = 0;
+        boolean firstOutput = true;
+        List<LogSegment.Record> batch = new ArrayList<>(WRITE_BATCH_RECORDS);
+        try {
+            for (LogSegment segment : run) {
+                try (FileChannel channel = FileChannel.open(segment.logPath(), StandardOpenOption.READ)) {
+                    long position = 0;
+                    long limit = segment.size();
+                    LogSegment.Record record;
+                    while ((record = LogSegment.read(channel, position, limit)) != null) {
+                        int recordBytes = LogSegment.HEADER_BYTES + record.payload.length;
+                        position += recordBytes;
+                        String url = ArticleCodec.decode(ByteBuffer.wrap(record.payload)).getUrl();
+                        Long latest = (url == null) ? null : latestOffsets.get(url);
+                        if (record.appendMillis < cutoff || (latest != null && latest != record.offset)) {
+                            if (url != null) {
+                                cleanOffsets.remove(url, record.offset);
+                            }
+                            dropped++;
+                            continue;
+                        }
+
+                        if (output != null && outputBytes + recordBytes > log.segmentBytes()) {
+                            output.append(batch);
+                            batch.clear();
+                            seal(output);
+                            output = null;
+                        }
+                        if (output == null) {
+                            // The first output keeps the run's base offset, so reads by offset still find it
+                            long baseOffset = firstOutput ? run.get(0).baseOffset() : record.offset;
+                            output = LogSegment.createCleaned(log.getDirectory(), baseOffset, log.indexIntervalBytes());
+                            cleaned.add(output);
+                            outputBytes = 0;
+                            firstOutput = false;
+                        }
+                        batch.add(record);
+                        outputBytes += recordBytes;
+                        if (url != null) {
+                            cleanOffsets.put(url, record.offset);
+                        }
+                        if (batch.size() == WRITE_BATCH_RECORDS) {
+                            output.append(batch);
+                            batch.clear();
+                        }
+                    }
+                }
+            }
+            if (output != null) {
+                output.append(batch);
+                seal(output);
+            }
+        } finally {
+            if (output != null) {
+                output.close();
+            }
+        }
+        return dropped;
+    }
+
+    private long applySizeRetention() throws IOException {
+        if (maxBytes == UNLIMITED) {
+            return 0;
+        }
+
+        // Drop the oldest sealed segments while the log is over its size budget
+        long removed = 0;
+        List<LogSegment> current = log.segments();
+        long total = log.sizeInBytes();
+        int drop = 0;
+        while (total > maxBytes && drop < current.size() - 1) {
+            total -= current.get(drop).size();
+            drop++;
+        }
+        if (drop > 0) {
+            List<LogSegment> dropped = List.copyOf(current.subList(0, drop));
+            for (LogSegment segment : dropped) {
+                removed += countRecords(segment);
+            }
+            log.replaceSegments(dropped, List.of());
+
+            // Forget the compacted versions that were dropped with their segments
+            long firstOffset = log.segments().get(0).baseOffset();
+            cleanOffsets.values().removeIf(offset -> offset < firstOffset);
+        }
+        return removed;
+    }
+
+    private static void collectLatestOffsets(LogSegment segment, Map<String, Long> latestOffsets) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment.logPath(), StandardOpenOption.READ)) {
+            long position = 0;
+            long limit = segment.size();
+            LogSegment.Record record;
+            while ((record = LogSegment.read(channel, position, limit)) != null) {
+                position += LogSegment.HEADER_BYTES + record.payload.length;
+                String url = ArticleCodec.decode(ByteBuffer.wrap(record.payload)).getUrl();
+                if (url != null) {
+                    latestOffsets.put(url, record.offset);
+                }
+            }
+        }
+    }
+
+    private static LogSegment segmentHolding(List<LogSegment> segments, long offset) {
+        LogSegment holding = segments.get(0);
+        for (LogSegment segment : segments) {
+            if (segment.baseOffset() > offset) {
+                break;
+            }
+            holding = segment;
+        }
+        return holding;
+    }
+
+    private static void seal(LogSegment segment) throws IOException {
+        segment.force();
+        segment.close();
+    }
+
+    private static long countRecords(LogSegment segment) throws IOException {
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(segment.logPath(), StandardOpenOption.READ)) {
+            long position = 0;
+            LogSegment.Record record;
+            while ((record = LogSegment.read(channel, position, segment.size())) != null) {
+                position += LogSegment.HEADER_BYTES + record.payload.length;
+                count++;
+            }
+        }
+        return count;
+    }
+}
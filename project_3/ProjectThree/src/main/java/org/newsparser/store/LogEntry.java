@@ -0,0 +1,53 @@
+package org.newsparser.store;
+
+import org.newsparser.databind.Article;
+
+/**
+ * An article read back from the {@link ArticleLog}, together with its position in the log.
+ */
+public class LogEntry {
+
+    private final long offset;
+    private final long appendMillis;
+    private final Article article;
+
+    /**
+     * Constructs a LogEntry with the specified offset, append time and article.
+     *
+     * @param offset       the logical offset of the record in the log
+     * @param appendMillis the epoch millis at which the record was appended
+     * @param article      the stored article
+     */
+    public LogEntry(long offset, long appendMillis, Article article) {
+        this.offset = offset;
+        this.appendMillis = appendMillis;
+        this.article = article;
+    }
+
+    /**
+     * Gets the logical offset of the record in the log.
+     *
+     * @return the record offset
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Gets the time at which the record was appended.
+     *
+     * @return the append time as epoch millis
+     */
+    public long getAppendMillis() {
+        return appendMillis;
+    }
+
+    /**
+     * Gets the stored article.
+     *
+     * @return the article
+     */
+    public Article getArticle() {
+        return article;
+    }
+}
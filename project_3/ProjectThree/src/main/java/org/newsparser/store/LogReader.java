@@ -0,0 +1,124 @@
+package org.newsparser.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over the records of an {@link ArticleLog} in offset order.
+ *
+ * <p>A reader works on the segments that existed when it was created and only sees records
+ * written before then. It opens its own channel on every segment up front, so segments
+ * replaced by compaction remain readable until the reader is closed.</p>
+ */
+public class LogReader implements Iterator<LogEntry>, Closeable {
+
+    private final List<FileChannel> channels = new ArrayList<>();
+    private final List<Long> limits = new ArrayList<>();
+    private final long fromOffset;
+    private final long fromMillis;
+
+    private int segmentIndex;
+    private long position;
+    private LogEntry next;
+
+    /**
+     * Constructs a LogReader positioned at the first record with an offset at or after
+     * {@code fromOffset} that was appended at or after {@code fromMillis}, starting the
+     * scan at the given position of the first segment.
+     *
+     * @param segments      the segments to read, in offset order
+     * @param fromOffset    the first offset to return
+     * @param fromMillis    the earliest append time to return
+     * @param startPosition the position in the first segment to start scanning from
+     * @throws IOException if a segment cannot be opened
+     */
+    LogReader(List<LogSegment> segments, long fromOffset, long fromMillis, long startPosition) throws IOException {
+        this.fromOffset = fromOffset;
+        this.fromMillis = fromMillis;
+        this.position = startPosition;
+        try {
+            for (LogSegment segment : segments) {
+                limits.add(segment.size());
+                channels.add(FileChannel.open(segment.logPath(), StandardOpenOption.READ));
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether another record is available.
+     *
+     * @return true if {@link #next()} will return a record
+     * @throws UncheckedIOException if reading the segment fails
+     */
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        try {
+            while (segmentIndex < channels.size()) {
+                LogSegment.Record record = LogSegment.read(channels.get(segmentIndex), position, limits.get(segmentIndex));
+                if (record == null) {
+                    segmentIndex++;
+                    position = 0;
+                    continue;
+                }
+                position += LogSegment.HEADER_BYTES + record.payload.length;
+                if (record.offset >= fromOffset && record.appendMillis >= fromMillis) {
+                    next = new LogEntry(record.offset, record.appendMillis, ArticleCodec.decode(ByteBuffer.wrap(record.payload)));
+                    return true;
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read article log segment.", e);
+        }
+    }
+
+    /**
+     * Returns the next record.
+     *
+     * @return the next log entry
+     * @throws NoSuchElementException if no records remain
+     */
+    @Override
+    public LogEntry next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        LogEntry entry = next;
+        next = null;
+        return entry;
+    }
+
+    /**
+     * Closes the channels opened on the segments.
+     *
+     * @throws IOException if a channel cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (FileChannel channel : channels) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,481 @@
+package org.newsparser.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * One segment file of the {@link ArticleLog} and its sparse index.
+ *
+ * <p>The segment file {@code <baseOffset>.log} is a sequence of records, each framed as
+ * {@code [int payloadLength][int crc][long offset][long appendMillis][payload]}. The CRC covers
+ * everything after it, so a torn write at the end of the file is detected and truncated on
+ * recovery.</p>
+ *
+ * <p>The index file {@code <baseOffset>.idx} holds an {@code [offset, appendMillis, position]}
+ * entry for roughly every {@code indexIntervalBytes} of records, which lets readers seek close
+ * to an offset or time and scan forward from there.</p>
+ */
+final class LogSegment implements Closeable {
+
+    static final String LOG_SUFFIX = ".log";
+    static final String INDEX_SUFFIX = ".idx";
+    static final String CLEANED_SUFFIX = ".cleaned";
+    static final int HEADER_BYTES = 2 * Integer.BYTES + 2 * Long.BYTES;
+    static final int MAX_PAYLOAD_BYTES = 64 << 20;
+    private static final int INDEX_ENTRY_BYTES = 3 * Long.BYTES;
+
+    private final long baseOffset;
+    private final Path logPath;
+    private final Path indexPath;
+    private final FileChannel channel;
+    private final FileChannel indexChannel;
+    private final int indexIntervalBytes;
+
+    private volatile long size;
+    private long nextOffset;
+    private long lastAppendMillis;
+    private long lastIndexedPosition;
+
+    private long[] indexOffsets = new long[16];
+    private long[] indexMillis = new long[16];
+    private long[] indexPositions = new long[16];
+    private int indexCount;
+
+    private LogSegment(Path logPath, Path indexPath, long baseOffset, int indexIntervalBytes) throws IOException {
+        this.baseOffset = baseOffset;
+        this.logPath = logPath;
+        this.indexPath = indexPath;
+        this.indexIntervalBytes = indexIntervalBytes;
+        this.channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.indexChannel = FileChannel.open(indexPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.nextOffset = baseOffset;
+        this.lastIndexedPosition = -indexIntervalBytes;
+    }
+
+    /**
+     * Creates a new, empty segment.
+     *
+     * @param directory          the log directory
+     * @param baseOffset         the offset of the first record the segment will hold
+     * @param indexIntervalBytes the approximate number of record bytes between index entries
+     * @return the new segment
+     * @throws IOException if the files cannot be created
+     */
+    static LogSegment create(Path directory, long baseOffset, int indexIntervalBytes) throws IOException {
+        return create(logPath(directory, baseOffset), indexPath(directory, baseOffset), baseOffset, indexIntervalBytes);
+    }
+
+    /**
+     * Creates a new, empty segment under temporary file names, used while compacting
+     * segments into a replacement for the segment with the same base offset.
+     *
+     * @param directory          the log directory
+     * @param baseOffset         the offset of the first record the segment will hold
+     * @param indexIntervalBytes the approximate number of record bytes between index entries
+     * @return the new segment
+     * @throws IOException if the files cannot be created
+     */
+    static LogSegment createCleaned(Path directory, long baseOffset, int indexIntervalBytes) throws IOException {
+        return create(cleanedLogPath(directory, baseOffset), cleanedIndexPath(directory, baseOffset), baseOffset, indexIntervalBytes);
+    }
+
+    private static LogSegment create(Path logPath, Path indexPath, long baseOffset, int indexIntervalBytes) throws IOException {
+        LogSegment segment = new LogSegment(logPath, indexPath, baseOffset, indexIntervalBytes);
+        segment.channel.truncate(0);
+        segment.indexChannel.truncate(0);
+        return segment;
+    }
+
+    /**
+     * Opens an existing segment, truncating any partially written record at its end.
+     *
+     * @param logPath            the path of the segment's log file
+     * @param indexIntervalBytes the approximate number of record bytes between index entries
+     * @return the recovered segment
+     * @throws IOException if the files cannot be read
+     */
+    static LogSegment open(Path logPath, int indexIntervalBytes) throws IOException {
+        long baseOffset = parseBaseOffset(logPath);
+        LogSegment segment = new LogSegment(logPath, indexPath(logPath.getParent(), baseOffset), baseOffset, indexIntervalBytes);
+        segment.recover();
+        return segment;
+    }
+
+    /**
+     * Gets the path of the log file of the segment with the given base offset.
+     *
+     * @param directory  the log directory
+     * @param baseOffset the segment's base offset
+     * @return the log file path
+     */
+    static Path logPath(Path directory, long baseOffset) {
+        return directory.resolve(fileName(baseOffset) + LOG_SUFFIX);
+    }
+
+    /**
+     * Gets the path of the index file of the segment with the given base offset.
+     *
+     * @param directory  the log directory
+     * @param baseOffset the segment's base offset
+     * @return the index file path
+     */
+    static Path indexPath(Path directory, long baseOffset) {
+        return directory.resolve(fileName(baseOffset) + INDEX_SUFFIX);
+    }
+
+    /**
+     * Gets the temporary path of the log file of a compacted segment with the given base offset.
+     *
+     * @param directory  the log directory
+     * @param baseOffset the segment's base offset
+     * @return the cleaned log file path
+     */
+    static Path cleanedLogPath(Path directory, long baseOffset) {
+        return directory.resolve(fileName(baseOffset) + LOG_SUFFIX + CLEANED_SUFFIX);
+    }
+
+    /**
+     * Gets the temporary path of the index file of a compacted segment with the given base offset.
+     *
+     * @param directory  the log directory
+     * @param baseOffset the segment's base offset
+     * @return the cleaned index file path
+     */
+    static Path cleanedIndexPath(Path directory, long baseOffset) {
+        return directory.resolve(fileName(baseOffset) + INDEX_SUFFIX + CLEANED_SUFFIX);
+    }
+
+    /**
+     * Parses the base offset from a segment file name.
+     *
+     * @param path the path of a segment's log or index file
+     * @return the base offset
+     */
+    static long parseBaseOffset(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.indexOf('.')));
+    }
+
+    private static String fileName(long baseOffset) {
+        return String.format("%020d", baseOffset);
+    }
+
+    /**
+     * Appends records to the end of the segment with a single write.
+     * Offsets and append times must be increasing across calls.
+     *
+     * @param records the records to append
+     * @throws IOException              if the write fails
+     * @throws IllegalArgumentException if a payload is larger than {@link #MAX_PAYLOAD_BYTES}
+     */
+    synchronized void append(List<Record> records) throws IOException {
+        int length = 0;
+        for (Record record : records) {
+            // Recovery treats a larger payload as a torn write, which would truncate it and everything after it
+            if (record.payload.length > MAX_PAYLOAD_BYTES) {
+                throw new IllegalArgumentException("Record payload exceeds " + MAX_PAYLOAD_BYTES + " bytes.");
+            }
+            length += HEADER_BYTES + record.payload.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        ByteBuffer indexBuffer = null;
+        long position = size;
+        for (Record record : records) {
+            if (position - lastIndexedPosition >= indexIntervalBytes) {
+                if (indexBuffer == null) {
+                    indexBuffer = ByteBuffer.allocate(records.size() * INDEX_ENTRY_BYTES);
+                }
+                indexBuffer.putLong(record.offset).putLong(record.appendMillis).putLong(position);
+                addIndexEntry(record.offset, record.appendMillis, position);
+                lastIndexedPosition = position;
+            }
+            frame(buffer, record);
+            position += HEADER_BYTES + record.payload.length;
+            nextOffset = record.offset + 1;
+            lastAppendMillis = record.appendMillis;
+        }
+
+        buffer.flip();
+        writeFully(channel, buffer, size);
+        if (indexBuffer != null) {
+            indexBuffer.flip();
+            writeFully(indexChannel, indexBuffer, indexChannel.size());
+        }
+        size = position;
+    }
+
+    /**
+     * Forces written records and index entries to the storage device.
+     *
+     * @throws IOException if the sync fails
+     */
+    void force() throws IOException {
+        channel.force(false);
+        indexChannel.force(false);
+    }
+
+    /**
+     * Reads the record at the given position.
+     *
+     * @param channel  the channel to read from, open on this segment's log file
+     * @param position the position of the record's header
+     * @param limit    the end of the readable region
+     * @return the record, or {@code null} if no complete, intact record starts at the position
+     * @throws IOException if the read fails
+     */
+    static Record read(FileChannel channel, long position, long limit) throws IOException {
+        if (position + HEADER_BYTES > limit) {
+            return null;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(channel, header, position);
+        header.flip();
+        int payloadLength = header.getInt();
+        int crc = header.getInt();
+        long offset = header.getLong();
+        long appendMillis = header.getLong();
+        if (payloadLength < 0 || payloadLength > MAX_PAYLOAD_BYTES || position + HEADER_BYTES + payloadLength > limit) {
+            return null;
+        }
+
+        ByteBuffer payload = ByteBuffer.allocate(payloadLength);
+        readFully(channel, payload, position + HEADER_BYTES);
+        Record record = new Record(offset, appendMillis, payload.array());
+        return (record.crc() == crc) ? record : null;
+    }
+
+    /**
+     * Finds the position to start scanning from to reach the given offset.
+     *
+     * @param offset the offset to seek to
+     * @return the position of the last indexed record at or before the offset, or 0
+     */
+    synchronized long floorPositionForOffset(long offset) {
+        int entry = floorEntry(indexOffsets, offset);
+        return (entry >= 0) ? indexPositions[entry] : 0;
+    }
+
+    /**
+     * Finds the position to start scanning from to reach the first record appended at or
+     * after the given time.
+     *
+     * @param appendMillis the append time to seek to
+     * @return the position of the last indexed record appended before the time, or 0
+     */
+    synchronized long floorPositionForTime(long appendMillis) {
+        int entry = floorEntry(indexMillis, appendMillis - 1);
+        return (entry >= 0) ? indexPositions[entry] : 0;
+    }
+
+    /**
+     * Gets the offset of the first record this segment holds or will hold.
+     *
+     * @return the base offset
+     */
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    /**
+     * Gets the offset the next appended record should have.
+     *
+     * @return one past the last offset in the segment, or the base offset if it is empty
+     */
+    synchronized long nextOffset() {
+        return nextOffset;
+    }
+
+    /**
+     * Gets the append time of the first record in the segment.
+     *
+     * @return the append time as epoch millis, or 0 if the segment is empty
+     */
+    synchronized long firstAppendMillis() {
+        // The first record is always indexed, at position 0
+        return (indexCount > 0) ? indexMillis[0] : 0;
+    }
+
+    /**
+     * Gets the append time of the last record in the segment.
+     *
+     * @return the append time as epoch millis, or 0 if the segment is empty
+     */
+    synchronized long lastAppendMillis() {
+        return lastAppendMillis;
+    }
+
+    /**
+     * Gets the number of bytes of complete records in the segment.
+     *
+     * @return the segment size in bytes
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Gets the path of this segment's log file.
+     *
+     * @return the log file path
+     */
+    Path logPath() {
+        return logPath;
+    }
+
+    /**
+     * Gets the path of this segment's index file.
+     *
+     * @return the index file path
+     */
+    Path indexPath() {
+        return indexPath;
+    }
+
+    /**
+     * Closes the segment and deletes its files.
+     *
+     * @throws IOException if the files cannot be deleted
+     */
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(logPath);
+        Files.deleteIfExists(indexPath);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        indexChannel.close();
+    }
+
+    private void recover() throws IOException {
+        long fileSize = channel.size();
+
+        // Load the persisted index, dropping partial entries and entries past the end of the log
+        long indexEntries = indexChannel.size() / INDEX_ENTRY_BYTES;
+        ByteBuffer indexBuffer = ByteBuffer.allocate((int) (indexEntries * INDEX_ENTRY_BYTES));
+        readFully(indexChannel, indexBuffer, 0);
+        indexBuffer.flip();
+        while (indexBuffer.remaining() >= INDEX_ENTRY_BYTES) {
+            long offset = indexBuffer.getLong();
+            long millis = indexBuffer.getLong();
+            long position = indexBuffer.getLong();
+            if (position >= fileSize) {
+                break;
+            }
+            addIndexEntry(offset, millis, position);
+        }
+
+        // Scan forward from the last indexed record to find the end of the intact records
+        long position = (indexCount > 0) ? indexPositions[indexCount - 1] : 0;
+        lastIndexedPosition = (indexCount > 0) ? position : -indexIntervalBytes;
+        Record record;
+        while ((record = read(channel, position, fileSize)) != null) {
+            if (position - lastIndexedPosition >= indexIntervalBytes) {
+                addIndexEntry(record.offset, record.appendMillis, position);
+                lastIndexedPosition = position;
+            }
+            position += HEADER_BYTES + record.payload.length;
+            nextOffset = record.offset + 1;
+            lastAppendMillis = record.appendMillis;
+        }
+
+        channel.truncate(position);
+        size = position;
+        rewriteIndex();
+    }
+
+    private void rewriteIndex() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(indexCount * INDEX_ENTRY_BYTES);
+        for (int i = 0; i < indexCount; i++) {
+            buffer.putLong(indexOffsets[i]).putLong(indexMillis[i]).putLong(indexPositions[i]);
+        }
+        buffer.flip();
+        indexChannel.truncate(0);
+        writeFully(indexChannel, buffer, 0);
+    }
+
+    private void addIndexEntry(long offset, long millis, long position) {
+        if (indexCount == indexOffsets.length) {
+            indexOffsets = Arrays.copyOf(indexOffsets, indexCount * 2);
+            indexMillis = Arrays.copyOf(indexMillis, indexCount * 2);
+            indexPositions = Arrays.copyOf(indexPositions, indexCount * 2);
+        }
+        indexOffsets[indexCount] = offset;
+        indexMillis[indexCount] = millis;
+        indexPositions[indexCount] = position;
+        indexCount++;
+    }
+
+    private int floorEntry(long[] keys, long key) {
+        int low = 0;
+        int high = indexCount - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private static void frame(ByteBuffer buffer, Record record) {
+        buffer.putInt(record.payload.length);
+        buffer.putInt(record.crc());
+        buffer.putLong(record.offset);
+        buffer.putLong(record.appendMillis);
+        buffer.put(record.payload);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of segment file.");
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * A raw record: its offset, append time and encoded article payload.
+     */
+    static final class Record {
+        final long offset;
+        final long appendMillis;
+        final byte[] payload;
+
+        Record(long offset, long appendMillis, byte[] payload) {
+            this.offset = offset;
+            this.appendMillis = appendMillis;
+            this.payload = payload;
+        }
+
+        int crc() {
+            CRC32C crc = new CRC32C();
+            ByteBuffer header = ByteBuffer.allocate(2 * Long.BYTES).putLong(offset).putLong(appendMillis);
+            crc.update(header.array());
+            crc.update(payload);
+            return (int) crc.getValue();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.newsparser.utils;
+
+import org.newsparser.databind.Article;
+import org.newsparser.databind.NewsResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Utility class for merging several recency-sorted article streams into one.
+ * Instead of concatenating and re-sorting every article, the streams are merged
+ * through a heap holding one head article per stream, so each output article
+ * costs {@code O(log N)} for {@code N} streams.
+ */
+public class ArticleMerger {
+
+    /**
+     * Orders articles from the most recently published to the oldest.
+     * Articles without a publication date are ordered last.
+     */
+    public static final Comparator<Article> NEWEST_FIRST =
+            Comparator.comparingLong(ArticleMerger::publishedAtMillis).reversed();
+
+    // Private constructor to prevent instantiation
+    private ArticleMerger() {}
+
+    /**
+     * Merges article iterators, each already ordered by {@link #NEWEST_FIRST},
+     * into one lazily evaluated iterator in the same order.
+     *
+     * @param iterators the sorted iterators to merge
+     * @return an iterator over all articles, newest first
+     */
+    public static Iterator<Article> merge(List<? extends Iterator<Article>> iterators) {
+        return new MergingIterator(iterators);
+    }
+
+    /**
+     * Merges the article lists of several news responses, each already ordered by
+     * {@link #NEWEST_FIRST}, into one lazily evaluated iterator in the same order.
+     *
+     * @param responses the responses to merge
+     * @return an iterator over all articles, newest first
+     */
+    public static Iterator<Article> mergeResponses(List<NewsResponse> responses) {
+        List<Iterator<Article>> iterators = new ArrayList<>(responses.size());
+        for (NewsResponse response : responses) {
+            if (response != null && response.getArticles() != null) {
+                iterators.add(response.getArticles().iterator());
+            }
+        }
+        return merge(iterators);
+    }
+
+    /**
+     * Gets the most recent articles across several news responses, each already ordered by
+     * {@link #NEWEST_FIRST}. Only the first {@code limit} articles are pulled through the heap.
+     *
+     * @param responses the responses to merge
+     * @param limit     the maximum number of articles to return
+     * @return up to {@code limit} articles, newest first
+     */
+    public static List<Article> latest(List<NewsResponse> responses, int limit) {
+        return take(mergeResponses(responses), limit);
+    }
+
+    /**
+     * Collects up to {@code limit} articles from the iterator.
+     *
+     * @param iterator the iterator to read from
+     * @param limit    the maximum number of articles to collect
+     * @return the collected articles, in iterator order
+     */
+    public static List<Article> take(Iterator<Article> iterator, int limit) {
+        List<Article> articles = new ArrayList<>(Math.max(0, Math.min(limit, 1024)));
+        while (articles.size() < limit && iterator.hasNext()) {
+            articles.add(iterator.next());
+        }
+        return articles;
+    }
+
+    private static long publishedAtMillis(Article article) {
+        Date publishedAt = article.getPublishedDateTime();
+        return (publishedAt != null) ? publishedAt.getTime() : Long.MIN_VALUE;
+    }
+
+    /**
+     * Iterator yielding the newest head among all source iterators on each call.
+     */
+    private static final class MergingIterator implements Iterator<Article> {
+
+        private final PriorityQueue<Head> heap;
+
+        private MergingIterator(List<? extends Iterator<Article>> iterators) {
+            this.heap = new PriorityQueue<>(Math.max(1, iterators.size()));
+            for (int i = 0; i < iterators.size(); i++) {
+                Iterator<Article> iterator = iterators.get(i);
+                if (iterator.hasNext()) {
+                    Article article = iterator.next();
+                    heap.add(new Head(article, publishedAtMillis(article), i, iterator));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heap.isEmpty();
+        }
+
+        @Override
+        public Article next() {
+            Head head = heap.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            Article article = head.article;
+
+            // Refill the heap from the stream that produced this article
+            if (head.iterator.hasNext()) {
+                head.article = head.iterator.next();
+                head.publishedAt = publishedAtMillis(head.article);
+                heap.add(head);
+            }
+            return article;
+        }
+    }
+
+    /**
+     * The current head article of one source iterator.
+     * Ties on publication time keep the order of the source iterators.
+     */
+    private static final class Head implements Comparable<Head> {
+        private Article article;
+        private long publishedAt;
+        private final int streamIndex;
+        private final Iterator<Article> iterator;
+
+        private Head(Article article, long publishedAt, int streamIndex, Iterator<Article> iterator) {
+            this.article = article;
+            this.publishedAt = publishedAt;
+            this.streamIndex = streamIndex;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public int compareTo(Head other) {
+            int byTime = Long.compare(other.publishedAt, publishedAt);
+            return (byTime != 0) ? byTime : Integer.compare(streamIndex, other.streamIndex);
+        }
+    }
+}
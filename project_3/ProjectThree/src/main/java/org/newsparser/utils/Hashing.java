@@ -0,0 +1,58 @@
+package org.newsparser.utils;
+
+/**
+ * Utility class providing a fast, non-cryptographic 64-bit hash for strings.
+ * The hash consumes four UTF-16 characters per round with xxHash64-style mixing,
+ * so it runs directly over a {@link CharSequence} without encoding it to bytes first.
+ */
+public class Hashing {
+
+    private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME_3 = 0x165667B19E3779F9L;
+
+    // Private constructor to prevent instantiation
+    private Hashing() {}
+
+    /**
+     * Computes a 64-bit hash of the characters of the given text.
+     *
+     * @param text the text to hash, may be null
+     * @return the hash, or 0 if the text is null
+     */
+    public static long hash64(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+
+        int length = text.length();
+        long hash = PRIME_3 + length;
+        int i = 0;
+        for (; i + 4 <= length; i += 4) {
+            long lane = text.charAt(i)
+                    | (long) text.charAt(i + 1) << 16
+                    | (long) text.charAt(i + 2) << 32
+                    | (long) text.charAt(i + 3) << 48;
+            hash ^= round(lane);
+            hash = Long.rotateLeft(hash, 27) * PRIME_1 + PRIME_2;
+        }
+        for (; i < length; i++) {
+            hash ^= text.charAt(i) * PRIME_3;
+            hash = Long.rotateLeft(hash, 11) * PRIME_1;
+        }
+        return avalanche(hash);
+    }
+
+    private static long round(long lane) {
+        return Long.rotateLeft(lane * PRIME_2, 31) * PRIME_1;
+    }
+
+    private static long avalanche(long hash) {
+        hash ^= hash >>> 33;
+        hash *= PRIME_2;
+        hash ^= hash >>> 29;
+        hash *= PRIME_3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+}
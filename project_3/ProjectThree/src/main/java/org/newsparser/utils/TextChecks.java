@@ -0,0 +1,102 @@
+package org.newsparser.utils;
+
+/**
+ * Utility class with allocation-free checks on text fields, for use on validation hot paths
+ * where {@link String#trim()} or {@link java.net.URI} parsing would create garbage per item.
+ */
+public class TextChecks {
+
+    // Private constructor to prevent instantiation
+    private TextChecks() {}
+
+    /**
+     * Checks whether the text is missing or consists only of characters that {@link String#trim()}
+     * would remove, without creating a trimmed copy.
+     *
+     * @param text the text to check, may be null
+     * @return true if the text is null, empty or blank
+     */
+    public static boolean isBlank(CharSequence text) {
+        if (text == null) {
+            return true;
+        }
+        for (int i = 0, length = text.length(); i < length; i++) {
+            if (text.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the text is an absolute {@code http} or {@code https} URL with a host name,
+     * an optional port and no whitespace or control characters.
+     *
+     * @param text the text to check, may be null
+     * @return true if the text is a well-formed HTTP URL
+     */
+    public static boolean isHttpUrl(CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+        int length = text.length();
+        int i;
+        if (regionMatchesIgnoreCase(text, 0, "https://")) {
+            i = 8;
+        } else if (regionMatchesIgnoreCase(text, 0, "http://")) {
+            i = 7;
+        } else {
+            return false;
+        }
+
+        // Host: letters, digits, dots and hyphens, not starting with a separator
+        int hostStart = i;
+        while (i < length && isHostChar(text.charAt(i))) {
+            i++;
+        }
+        if (i == hostStart || text.charAt(hostStart) == '.' || text.charAt(hostStart) == '-') {
+            return false;
+        }
+
+        // Optional port
+        if (i < length && text.charAt(i) == ':') {
+            int portStart = ++i;
+            while (i < length && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+                i++;
+            }
+            if (i == portStart || i - portStart > 5) {
+                return false;
+            }
+        }
+
+        // Anything after the authority must start a path, query or fragment
+        if (i < length) {
+            char next = text.charAt(i);
+            if (next != '/' && next != '?' && next != '#') {
+                return false;
+            }
+        }
+        for (; i < length; i++) {
+            if (text.charAt(i) <= ' ' || text.charAt(i) == 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHostChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '.' || c == '-';
+    }
+
+    private static boolean regionMatchesIgnoreCase(CharSequence text, int offset, String prefix) {
+        if (text.length() - offset < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (Character.toLowerCase(text.charAt(offset + i)) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,57 @@
+package org.newsparser.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Utility class for splitting article text into normalized tokens.
+ * A token is a maximal run of letters or digits, lower-cased. Everything else
+ * (whitespace, punctuation, markup) acts as a separator.
+ */
+public class Tokenizer {
+
+    // Private constructor to prevent instantiation
+    private Tokenizer() {}
+
+    /**
+     * Splits the given text into lower-cased tokens.
+     *
+     * @param text the text to tokenize, may be null
+     * @return the tokens in the order they appear, or an empty list if the text is null
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        tokenize(text, tokens::add);
+        return tokens;
+    }
+
+    /**
+     * Splits the given text into lower-cased tokens and passes each one to the consumer.
+     *
+     * @param text     the text to tokenize, may be null
+     * @param consumer the consumer receiving each token in order
+     */
+    public static void tokenize(String text, Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i < length; i++) {
+            if (Character.isLetterOrDigit(text.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                consumer.accept(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            consumer.accept(text.substring(start).toLowerCase(Locale.ROOT));
+        }
+    }
+}
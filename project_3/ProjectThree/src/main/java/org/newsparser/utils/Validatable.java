@@ -12,4 +12,15 @@ public interface Validatable {
      * @return true if the object is valid, false otherwise
      */
     boolean isValid();
+
+    /**
+     * Gets a short reason code naming the first check the object fails, typically the name
+     * of a missing field. Reason codes are used to count rejections without formatting the
+     * whole object.
+     *
+     * @return the reason code, or {@code null} if the object is valid
+     */
+    default String invalidReason() {
+        return isValid() ? null : "invalid";
+    }
 }
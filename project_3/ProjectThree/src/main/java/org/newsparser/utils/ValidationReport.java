@@ -0,0 +1,227 @@
+package org.newsparser.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Collects the outcome of validating many items without formatting each rejected item.
+ *
+ * <p>Rejections are counted per reason code from {@link Validatable#invalidReason()}, and a
+ * bounded, uniformly random sample of rejected items is kept for inspection using reservoir
+ * sampling. Individual rejections are logged only at {@link java.util.logging.Level#FINE},
+ * and every log message is built lazily, so a feed full of bad items costs a counter
+ * increment per item rather than a formatted string. A single summary line can be logged
+ * with {@link #logSummary()}.</p>
+ *
+ * <p>A report can be shared by parsers running on many threads.</p>
+ */
+public class ValidationReport {
+
+    /**
+     * The number of rejected items sampled when no sample size is given.
+     */
+    public static final int DEFAULT_SAMPLE_SIZE = 16;
+
+    /**
+     * The reason code recorded for invalid items that do not report a reason.
+     */
+    public static final String UNKNOWN_REASON = "unknown";
+
+    private final Logger logger;
+    private final LongAdder accepted = new LongAdder();
+    private final AtomicLong rejected = new AtomicLong();
+    private final ConcurrentHashMap<String, LongAdder> reasonCounts = new ConcurrentHashMap<>();
+    private final Validatable[] samples;
+
+    /**
+     * Constructs a {@code ValidationReport} keeping {@link #DEFAULT_SAMPLE_SIZE} sampled rejects.
+     *
+     * @param logger the {@link Logger} for individual rejections and the summary
+     */
+    public ValidationReport(Logger logger) {
+        this(logger, DEFAULT_SAMPLE_SIZE);
+    }
+
+    /**
+     * Constructs a {@code ValidationReport} keeping the given number of sampled rejects.
+     *
+     * @param logger     the {@link Logger} for individual rejections and the summary
+     * @param sampleSize the maximum number of rejected items kept as examples
+     * @throws IllegalArgumentException if the sample size is negative
+     */
+    public ValidationReport(Logger logger, int sampleSize) {
+        if (sampleSize < 0) {
+            throw new IllegalArgumentException("Sample size must not be negative: " + sampleSize);
+        }
+        this.logger = logger;
+        this.samples = new Validatable[sampleSize];
+    }
+
+    /**
+     * Records a number of items that passed validation.
+     *
+     * @param count the number of accepted items
+     */
+    public void recordAccepted(long count) {
+        accepted.add(count);
+    }
+
+    /**
+     * Records an item that failed validation under its reason code, and offers it to the sample.
+     *
+     * @param item the invalid item
+     */
+    public void recordRejected(Validatable item) {
+        recordRejected(item, item.invalidReason());
+    }
+
+    /**
+     * Records an item that failed validation under the given reason code, and offers it to the sample.
+     *
+     * @param item   the invalid item
+     * @param reason the reason code, or {@code null} for {@link #UNKNOWN_REASON}
+     */
+    public void recordRejected(Validatable item, String reason) {
+        String code = Objects.requireNonNullElse(reason, UNKNOWN_REASON);
+        reasonCounts.computeIfAbsent(code, key -> new LongAdder()).increment();
+
+        // Reservoir sampling: the n-th reject replaces a random sample with probability size / n
+        long seen = rejected.incrementAndGet();
+        long slot = (seen <= samples.length) ? seen - 1 : ThreadLocalRandom.current().nextLong(seen);
+        if (slot < samples.length) {
+            synchronized (samples) {
+                samples[(int) slot] = item;
+            }
+        }
+
+        logger.fine(() -> "Invalid item (" + code + "): " + item);
+    }
+
+    /**
+     * Adds the counts of another report to this one, and offers its sampled items to this
+     * sample. Each sampled item stands for an equal share of the other report's rejects, so the
+     * merged sample stays roughly uniform.
+     *
+     * @param other the report to add, which should not be recording concurrently
+     */
+    public void addAll(ValidationReport other) {
+        accepted.add(other.getAcceptedCount());
+        other.reasonCounts.forEach((reason, count) ->
+                reasonCounts.computeIfAbsent(reason, key -> new LongAdder()).add(count.sum()));
+
+        List<Validatable> sampled = other.getSamples();
+        long added = other.getRejectedCount();
+        synchronized (samples) {
+            long seen = rejected.getAndAdd(added);
+            for (int i = 0; i < sampled.size(); i++) {
+                long before = seen;
+                seen += added * (i + 1) / sampled.size() - added * i / sampled.size();
+                long slot = (before < samples.length) ? before : ThreadLocalRandom.current().nextLong(seen);
+                if (slot < samples.length) {
+                    samples[(int) slot] = sampled.get(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of items that passed validation.
+     *
+     * @return the accepted count
+     */
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    /**
+     * Gets the number of items that failed validation.
+     *
+     * @return the rejected count
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Gets the number of rejections recorded for each reason code.
+     *
+     * @return a snapshot of the counts, sorted by reason code
+     */
+    public Map<String, Long> getReasonCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        reasonCounts.forEach((reason, count) -> counts.put(reason, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Gets the sampled rejected items.
+     *
+     * @return a copy of the sample, holding at most the configured sample size
+     */
+    public List<Validatable> getSamples() {
+        List<Validatable> sampled = new ArrayList<>(samples.length);
+        synchronized (samples) {
+            for (Validatable sample : samples) {
+                if (sample != null) {
+                    sampled.add(sample);
+                }
+            }
+        }
+        return sampled;
+    }
+
+    /**
+     * Formats a one-line summary of the counts.
+     *
+     * @return the summary, e.g. {@code "Validated 12 items: 9 accepted, 3 invalid {title=2, url=1}"}
+     */
+    public String summary() {
+        long acceptedCount = getAcceptedCount();
+        long rejectedCount = getRejectedCount();
+        return "Validated " + (acceptedCount + rejectedCount) + " items: " + acceptedCount + " accepted, "
+                + rejectedCount + " invalid " + getReasonCounts();
+    }
+
+    /**
+     * Logs the summary as a warning if any item was rejected, otherwise at info level.
+     */
+    public void logSummary() {
+        if (getRejectedCount() > 0) {
+            logger.warning(this::summary);
+        } else {
+            logger.info(this::summary);
+        }
+    }
+
+    /**
+     * Clears all counts and samples. Items recorded concurrently with a reset may be
+     * partially counted.
+     */
+    public void reset() {
+        accepted.reset();
+        reasonCounts.clear();
+        synchronized (samples) {
+            rejected.set(0);
+            Arrays.fill(samples, null);
+        }
+    }
+
+    /**
+     * Returns the same text as {@link #summary()}.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return summary();
+    }
+}
@@ -0,0 +1,19 @@
+package org.newsparser.utils;
+
+/**
+ * A validation check that reports why an item is invalid rather than only whether it is.
+ * Implementations should return constant reason codes so that checking an item does not allocate.
+ *
+ * @param <T> the type of items checked
+ */
+@FunctionalInterface
+public interface ValidationRule<T> {
+
+    /**
+     * Checks the item.
+     *
+     * @param item the item to check
+     * @return the reason code of the first failed check, or {@code null} if the item is valid
+     */
+    String check(T item);
+}
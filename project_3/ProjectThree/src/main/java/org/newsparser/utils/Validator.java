@@ -1,6 +1,11 @@
 package org.newsparser.utils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -10,6 +15,15 @@ import java.util.stream.Collectors;
  */
 public class Validator {
 
+    /**
+     * Lists with fewer items than this are always validated sequentially,
+     * since splitting them costs more than it saves.
+     */
+    public static final int PARALLEL_THRESHOLD = 4096;
+
+    // Smallest range of items validated by a single fork/join task
+    private static final int MIN_CHUNK_SIZE = 1024;
+
     // Private constructor to prevent instantiation
     private Validator() {}
 
@@ -28,9 +42,72 @@ public class Validator {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Filters a list of items, retaining only those that pass validation.
+     * Invalid items are recorded in the report instead of being logged one by one.
+     *
+     * @param items  the list of items to be validated and filtered
+     * @param report the report counting accepted and rejected items
+     * @param <T>    the type of items in the list, which must implement {@link Validatable}
+     * @return a list of valid items, with invalid items filtered out
+     */
+    public static <T extends Validatable> List<T> filterValidItems(List<T> items, ValidationReport report) {
+        return filterValidItems(items, Validatable::invalidReason, report, item -> {}, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Filters a list of items in parallel on the given pool, retaining only those that pass the
+     * given rule. Lists smaller than {@link #PARALLEL_THRESHOLD} are filtered sequentially.
+     *
+     * <p>Worker tasks only record each item's reason code in their own range of a shared array.
+     * Invalid items are logged with their reason code and passed to the reject callback afterwards
+     * on the calling thread, in list order, so workers never contend on the {@link Logger}.</p>
+     *
+     * @param items    the list of items to be validated and filtered
+     * @param rule     the rule deciding which items are valid, such as {@link Validatable#invalidReason()}
+     * @param logger   the logger to log invalid items
+     * @param onReject the callback receiving each invalid item, on the calling thread
+     * @param pool     the pool running the validation tasks
+     * @param <T>      the type of items in the list, which must implement {@link Validatable}
+     * @return a list of valid items in their original order, with invalid items filtered out
+     */
+    public static <T extends Validatable> List<T> filterValidItems(List<T> items, ValidationRule<? super T> rule,
+                                                                   Logger logger, Consumer<? super T> onReject,
+                                                                   ForkJoinPool pool) {
+        return filter(items, rule, (item, reason) -> {
+            logger.warning(() -> "Invalid item (" + reason + "): " + item);
+            onReject.accept(item);
+        }, pool);
+    }
+
+    /**
+     * Filters a list of items in parallel on the given pool, retaining only those that pass the
+     * given rule. Lists smaller than {@link #PARALLEL_THRESHOLD} are filtered sequentially.
+     * Invalid items are recorded in the report under the rule's reason code and passed to the
+     * reject callback on the calling thread.
+     *
+     * @param items    the list of items to be validated and filtered
+     * @param rule     the rule deciding which items are valid, such as {@link Validatable#invalidReason()}
+     * @param report   the report counting accepted and rejected items
+     * @param onReject the callback receiving each invalid item, on the calling thread
+     * @param pool     the pool running the validation tasks
+     * @param <T>      the type of items in the list, which must implement {@link Validatable}
+     * @return a list of valid items in their original order, with invalid items filtered out
+     */
+    public static <T extends Validatable> List<T> filterValidItems(List<T> items, ValidationRule<? super T> rule,
+                                                                   ValidationReport report, Consumer<? super T> onReject,
+                                                                   ForkJoinPool pool) {
+        List<T> validItems = filter(items, rule, (item, reason) -> {
+            report.recordRejected(item, reason);
+            onReject.accept(item);
+        }, pool);
+        report.recordAccepted(validItems.size());
+        return validItems;
+    }
+
     /**
      * Checks if a single item is valid based on its {@link Validatable#isValid()} method.
-     * Logs a warning if the item is invalid.
+     * Logs a warning if the item is invalid; the message is only formatted if the warning is logged.
      *
      * @param item   the item to validate
      * @param logger the logger to log the invalid item if validation fails
@@ -39,9 +116,101 @@ public class Validator {
      */
     public static <T extends Validatable> boolean isItemValid(T item, Logger logger) {
         if (!item.isValid()) {
-            logger.warning("Invalid item: " + item);
+            logger.warning(() -> "Invalid item: " + item);
             return false;
         }
         return true;
     }
-}
\ No newline at end of file
+
+    /**
+     * Checks if a single item is valid based on its {@link Validatable#isValid()} method,
+     * recording the outcome in the report.
+     *
+     * @param item   the item to validate
+     * @param report the report counting accepted and rejected items
+     * @param <T>    the type of the item, which must implement {@link Validatable}
+     * @return true if the item is valid, otherwise false
+     */
+    public static <T extends Validatable> boolean isItemValid(T item, ValidationReport report) {
+        if (!item.isValid()) {
+            report.recordRejected(item);
+            return false;
+        }
+        report.recordAccepted(1);
+        return true;
+    }
+
+    /**
+     * Validates the items with the rule, in parallel when the list is large enough, and hands every
+     * invalid item with its reason code to the reject handler on the calling thread, in list order.
+     */
+    private static <T extends Validatable> List<T> filter(List<T> items, ValidationRule<? super T> rule,
+                                                          BiConsumer<? super T, String> onReject, ForkJoinPool pool) {
+        if (items.size() < PARALLEL_THRESHOLD) {
+            List<T> validItems = new ArrayList<>(items.size());
+            for (T item : items) {
+                String reason = rule.check(item);
+                if (reason == null) {
+                    validItems.add(item);
+                } else {
+                    onReject.accept(item, reason);
+                }
+            }
+            return validItems;
+        }
+
+        String[] reasons = new String[items.size()];
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, items.size() / (pool.getParallelism() * 4));
+        pool.invoke(new ValidateRange<>(items, rule, reasons, 0, items.size(), chunkSize));
+
+        List<T> validItems = new ArrayList<>(items.size());
+        for (int i = 0; i < reasons.length; i++) {
+            T item = items.get(i);
+            if (reasons[i] == null) {
+                validItems.add(item);
+            } else {
+                onReject.accept(item, reasons[i]);
+            }
+        }
+        return validItems;
+    }
+
+    /**
+     * Fork/join task checking a range of items, splitting it in half until it is small enough.
+     * Each item's reason code, or {@code null} if it is valid, is stored at its index.
+     */
+    private static final class ValidateRange<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        // Tasks are never serialized; they only run within the pool that forked them
+        private final transient List<T> items;
+        private final transient ValidationRule<? super T> rule;
+        private final String[] reasons;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        private ValidateRange(List<T> items, ValidationRule<? super T> rule, String[] reasons,
+                              int from, int to, int chunkSize) {
+            this.items = items;
+            this.rule = rule;
+            this.reasons = reasons;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int i = from; i < to; i++) {
+                    reasons[i] = rule.check(items.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ValidateRange<>(items, rule, reasons, from, middle, chunkSize),
+                    new ValidateRange<>(items, rule, reasons, middle, to, chunkSize));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.newsparser.cli;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.newsparser.TestHandler;
+import org.newsparser.databind.NewsResponse;
+import org.newsparser.parsers.NewsResponseJsonParser;
+import org.newsparser.sources.FileJsonSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link BatchCommand}. Verifies option handling, the summary totals and the
+ * percentile calculation.
+ */
+public class BatchCommandTest {
+
+    private Logger logger;
+    private TestHandler testHandler;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    /**
+     * Sets up the logger and test handler before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        logger = Logger.getLogger(BatchCommandTest.class.getName());
+        logger.setLevel(Level.WARNING);
+        logger.setUseParentHandlers(false);
+
+        testHandler = new TestHandler();
+        testHandler.setLevel(Level.WARNING);
+        logger.addHandler(testHandler);
+
+        testHandler.flush();
+    }
+
+    private int run(String... args) {
+        return BatchCommand.run(args, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8), logger);
+    }
+
+    /**
+     * Tests that files on disk, resources and manifest jobs are all processed, and that the
+     * summary counts their documents, articles and bytes.
+     *
+     * @param dir a temporary directory for the input files
+     * @throws IOException if the input files cannot be written
+     */
+    @Test
+    public void testSummarisesInputsAndManifest(@TempDir Path dir) throws IOException {
+        String json = new FileJsonSource("newsapi.txt").getJsonString();
+        Path file = Files.writeString(dir.resolve("drop.json"), json);
+        Path manifest = Files.writeString(dir.resolve("manifest.json"), """
+                {"jobs": [
+                  {"source": "FILE_JSON", "format": "SIMPLE_ARTICLE", "location": "simple.txt"},
+                  {"source": "FILE_JSON", "format": "NEWS_RESPONSE", "location": "missing.json"}
+                ]}
+                """);
+        NewsResponse expected = new NewsResponseJsonParser(new FileJsonSource("newsapi.txt"), logger).getNewsResponse();
+
+        int exit = run("--threads", "3", "--manifest", manifest.toString(), file.toString(), "newsapi.txt");
+
+        String summary = out.toString(StandardCharsets.UTF_8);
+        assertEquals(BatchCommand.EXIT_FAILURES, exit);
+        assertTrue(summary.contains("Documents: 4 (3 ok, 1 failed, 0 timed out)"), summary);
+        assertTrue(summary.contains("Articles: " + (2 * expected.getArticles().size() + 1) + " accepted"), summary);
+        long bytes = 2L * json.getBytes(StandardCharsets.UTF_8).length
+                + new FileJsonSource("simple.txt").getJsonString().getBytes(StandardCharsets.UTF_8).length;
+        assertTrue(summary.contains("Bytes read: " + bytes), summary);
+        assertTrue(summary.contains("Time per document: p50 "), summary);
+    }
+
+    /**
+     * Tests that invalid options print the usage and return the usage exit code.
+     */
+    @Test
+    public void testInvalidOptions() {
+        assertEquals(BatchCommand.EXIT_USAGE, run("--threads", "0", "newsapi.txt"));
+        assertEquals(BatchCommand.EXIT_USAGE, run("--bogus"));
+        assertEquals(BatchCommand.EXIT_USAGE, run("--threads", "2"));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Usage:"));
+        assertEquals(0, out.size());
+    }
+
+    /**
+     * Tests the nearest-rank percentiles and the UTF-8 length calculation.
+     */
+    @Test
+    public void testPercentilesAndByteCounts() {
+        long[] times = new long[100];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = i + 1;
+        }
+        assertEquals(50, BatchSummary.percentile(times, 0.50));
+        assertEquals(99, BatchSummary.percentile(times, 0.99));
+        assertEquals(7, BatchSummary.percentile(new long[] {7}, 0.99));
+        assertEquals(0, BatchSummary.percentile(new long[0], 0.5));
+
+        String text = "aé€😀";
+        assertEquals(text.getBytes(StandardCharsets.UTF_8).length, CountingSource.utf8Length(text));
+    }
+}
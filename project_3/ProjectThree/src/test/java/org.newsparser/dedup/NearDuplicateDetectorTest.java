@@ -0,0 +1,101 @@
+package org.newsparser.dedup;
+
+import org.junit.jupiter.api.Test;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.Source;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link NearDuplicateDetector}. Verifies that syndicated copies of a story
+ * share a cluster while unrelated stories do not.
+ */
+class NearDuplicateDetectorTest {
+
+    private static Article article(String sourceId, String title, String description) {
+        return new Article(new Source(sourceId, sourceId), "Author", title, description,
+                "https://" + sourceId + ".com/story", null, new Date(), "Content");
+    }
+
+    /**
+     * Tests that the same story with slightly different wording from two sources
+     * is assigned the same cluster ID.
+     */
+    @Test
+    void testSyndicatedStoriesShareCluster() {
+        NearDuplicateDetector detector = new NearDuplicateDetector();
+
+        long first = detector.assignCluster(article("ap",
+                "Senate passes sweeping infrastructure bill after months of negotiation",
+                "The Senate on Tuesday passed a sweeping infrastructure bill that would fund roads, bridges and broadband across the country."));
+        long second = detector.assignCluster(article("cnn",
+                "Senate passes sweeping infrastructure bill after months of negotiation - CNN",
+                "The Senate on Tuesday passed a sweeping infrastructure bill that would fund roads, bridges and broadband across the nation."));
+
+        assertEquals(first, second, "Expected near-duplicate stories to share a cluster.");
+    }
+
+    /**
+     * Tests that unrelated stories are assigned different cluster IDs.
+     */
+    @Test
+    void testUnrelatedStoriesGetDifferentClusters() {
+        NearDuplicateDetector detector = new NearDuplicateDetector();
+
+        long first = detector.assignCluster(article("ap",
+                "Senate passes sweeping infrastructure bill",
+                "The Senate on Tuesday passed a sweeping infrastructure bill."));
+        long second = detector.assignCluster(article("espn",
+                "Local team wins championship in overtime thriller",
+                "Fans celebrated downtown after a dramatic overtime victory."));
+
+        assertNotEquals(first, second, "Expected unrelated stories to be in different clusters.");
+        assertEquals(2, detector.size());
+    }
+
+    /**
+     * Tests that {@link NearDuplicateDetector#collapse(List)} keeps the first article of each cluster.
+     */
+    @Test
+    void testCollapseKeepsFirstOfEachCluster() {
+        NearDuplicateDetector detector = new NearDuplicateDetector();
+        Article original = article("ap", "Markets rally as inflation cools faster than expected",
+                "Stocks rose sharply on Wednesday after new data showed inflation cooling faster than economists expected.");
+        Article copy = article("reuters", "Markets rally as inflation cools faster than expected",
+                "Stocks rose sharply on Wednesday after new data showed inflation cooling faster than economists had expected.");
+        Article other = article("bbc", "New species of frog discovered in rainforest",
+                "Researchers found a tiny frog species previously unknown to science.");
+
+        List<Article> collapsed = detector.collapse(List.of(original, copy, other));
+
+        assertEquals(List.of(original, other), collapsed);
+    }
+
+    /**
+     * Tests that articles without any words in their title or description are not clustered
+     * with each other or with later articles.
+     */
+    @Test
+    void testArticlesWithoutWordsGetTheirOwnClusters() {
+        NearDuplicateDetector detector = new NearDuplicateDetector();
+
+        long first = detector.assignCluster(article("ap", null, "  "));
+        long second = detector.assignCluster(article("cnn", "-", null));
+        long story = detector.assignCluster(article("bbc", "New species of frog discovered in rainforest", null));
+
+        assertNotEquals(first, second);
+        assertNotEquals(second, story);
+        assertEquals(3, detector.size());
+    }
+
+    /**
+     * Tests that invalid thresholds are rejected.
+     */
+    @Test
+    void testInvalidThresholdThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new NearDuplicateDetector(16, 4, 0));
+    }
+}
@@ -0,0 +1,74 @@
+package org.newsparser.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.NewsResponse;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link InvertedIndex}. Verifies AND/OR queries and recency ranking.
+ */
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+    private Article oldVaccine;
+    private Article newVaccine;
+    private Article election;
+
+    private static Article article(String title, String description, long publishedAt) {
+        return new Article(null, "Author", title, description, "https://example.com/" + publishedAt,
+                null, new Date(publishedAt), null);
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        oldVaccine = article("Vaccine rollout begins", "First doses shipped to hospitals.", 1_000L);
+        newVaccine = article("Vaccine rollout expands", "Pharmacies start giving doses.", 3_000L);
+        election = article("Election results delayed", "Counting continues in several states.", 2_000L);
+        index.addAll(new NewsResponse("ok", 3, List.of(oldVaccine, newVaccine, election)));
+    }
+
+    /**
+     * Tests that an AND query only returns articles containing every term, newest first.
+     */
+    @Test
+    void testSearchAllIntersectsTerms() {
+        assertEquals(List.of(newVaccine, oldVaccine), index.searchAll("vaccine ROLLOUT", 10));
+        assertEquals(List.of(oldVaccine), index.searchAll("vaccine hospitals", 10));
+        assertTrue(index.searchAll("vaccine unknownterm", 10).isEmpty());
+    }
+
+    /**
+     * Tests that an OR query returns articles containing any term, newest first.
+     */
+    @Test
+    void testSearchAnyMergesTerms() {
+        assertEquals(List.of(newVaccine, election, oldVaccine), index.searchAny("doses counting", 10));
+    }
+
+    /**
+     * Tests that the limit keeps only the most recent matches.
+     */
+    @Test
+    void testLimitKeepsMostRecent() {
+        assertEquals(List.of(newVaccine), index.searchAny("vaccine election", 1));
+    }
+
+    /**
+     * Tests that articles indexed after earlier searches are found by later ones.
+     */
+    @Test
+    void testIncrementalIndexing() {
+        Article latest = article("Vaccine booster approved", "Regulators approve a booster.", 4_000L);
+        index.add(latest);
+
+        assertEquals(4, index.size());
+        assertEquals(latest, index.searchAll("vaccine", 1).get(0));
+    }
+}
@@ -0,0 +1,110 @@
+package org.newsparser.index;
+
+import org.junit.jupiter.api.Test;
+import org.newsparser.databind.Article;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link PagedArticleSet}. Verifies that cursors walk the set newest first
+ * without gaps or repeats, even when articles are added between pages, and that eviction
+ * removes the oldest articles.
+ */
+class PagedArticleSetTest {
+
+    private static Article article(int number, long publishedAt) {
+        return new Article(null, null, "Title " + number, "Description", "https://example.com/" + number,
+                null, new Date(publishedAt), null);
+    }
+
+    /**
+     * Tests that paging visits every article exactly once, newest first.
+     */
+    @Test
+    void testPagesCoverSetInOrder() {
+        PagedArticleSet set = new PagedArticleSet();
+        for (int i = 0; i < 25; i++) {
+            // Pairs of articles share a publication time, so ties are ordered by URL hash
+            set.add(article(i, (i / 2) * 1000L));
+        }
+
+        List<Article> seen = new ArrayList<>();
+        ArticlePage page = set.firstPage(10);
+        seen.addAll(page.getArticles());
+        while (page.hasMore()) {
+            page = set.page(page.getNextCursor(), 10);
+            seen.addAll(page.getArticles());
+        }
+
+        assertEquals(25, seen.size());
+        assertEquals(25, seen.stream().map(Article::getUrl).distinct().count());
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1).getPublishedTimeMillis() >= seen.get(i).getPublishedTimeMillis());
+        }
+    }
+
+    /**
+     * Tests that articles added behind a cursor do not shift the following pages,
+     * and that a newer version of an article replaces the older one.
+     */
+    @Test
+    void testCursorIsStableUnderInserts() {
+        PagedArticleSet set = new PagedArticleSet();
+        for (int i = 0; i < 6; i++) {
+            set.add(article(i, i * 1000L));
+        }
+
+        ArticlePage first = set.firstPage(3);
+        assertEquals(List.of("Title 5", "Title 4", "Title 3"), first.getArticles().stream().map(Article::getTitle).toList());
+
+        set.add(article(100, 9000));
+        set.add(article(2, 10_000));
+        assertEquals(7, set.size());
+
+        ArticlePage second = set.page(first.getNextCursor(), 3);
+        assertEquals(List.of("Title 1", "Title 0"), second.getArticles().stream().map(Article::getTitle).toList());
+        assertFalse(second.hasMore());
+
+        assertTrue(set.remove("https://example.com/2"));
+        assertEquals("Title 100", set.firstPage(1).getArticles().get(0).getTitle());
+    }
+
+    /**
+     * Tests that malformed cursors and page sizes are rejected.
+     */
+    @Test
+    void testRejectsInvalidRequests() {
+        PagedArticleSet set = new PagedArticleSet();
+
+        assertThrows(IllegalArgumentException.class, () -> set.page("not a cursor!", 10));
+        assertThrows(IllegalArgumentException.class, () -> set.page(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> set.page(null, PagedArticleSet.MAX_PAGE_SIZE + 1));
+        assertTrue(set.firstPage(5).getArticles().isEmpty());
+    }
+
+    /**
+     * Tests that eviction drops articles older than the window, then the oldest beyond the cap,
+     * and that an evicted URL can be added again.
+     */
+    @Test
+    void testEvictOldestKeepsNewestArticles() {
+        PagedArticleSet set = new PagedArticleSet();
+        for (int i = 0; i < 10; i++) {
+            set.add(article(i, i * 1000L));
+        }
+
+        List<Article> expired = set.evictOldest(100, 3000);
+        assertEquals(List.of("Title 0", "Title 1", "Title 2"), expired.stream().map(Article::getTitle).toList());
+        List<Article> capped = set.evictOldest(5, Long.MIN_VALUE);
+        assertEquals(List.of("Title 3", "Title 4"), capped.stream().map(Article::getTitle).toList());
+        assertEquals(5, set.size());
+        assertFalse(set.remove("https://example.com/4"));
+
+        assertTrue(set.add(article(0, 20_000)));
+        assertEquals("Title 0", set.firstPage(1).getArticles().get(0).getTitle());
+    }
+}
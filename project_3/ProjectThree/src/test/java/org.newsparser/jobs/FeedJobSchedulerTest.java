@@ -0,0 +1,129 @@
+package org.newsparser.jobs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.newsparser.TestHandler;
+import org.newsparser.parsers.NewsResponseJsonParser;
+import org.newsparser.parsers.SimpleNewsResponseJsonParser;
+import org.newsparser.sources.FileJsonSource;
+import org.newsparser.sources.SourceFormat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link FeedJobScheduler}, {@link ParserRegistry} and {@link FeedManifest}.
+ * Verifies that manifest jobs resolve to the right parser, run in parallel and time out individually.
+ */
+public class FeedJobSchedulerTest {
+
+    private Logger logger;
+    private TestHandler testHandler;
+    private FeedJobScheduler scheduler;
+
+    /**
+     * Sets up the logger and test handler before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        logger = Logger.getLogger(FeedJobSchedulerTest.class.getName());
+        logger.setLevel(Level.WARNING);
+        logger.setUseParentHandlers(false);
+
+        testHandler = new TestHandler();
+        testHandler.setLevel(Level.WARNING);
+        logger.addHandler(testHandler);
+
+        testHandler.flush();
+    }
+
+    /**
+     * Stops the scheduler after each test.
+     */
+    @AfterEach
+    public void tearDown() {
+        if (scheduler != null) {
+            scheduler.close();
+        }
+    }
+
+    /**
+     * Tests that each manifest job is parsed by the parser for its format, and that an
+     * unsupported format and source combination fails only that job.
+     *
+     * @throws IOException if the manifest cannot be parsed
+     */
+    @Test
+    public void testManifestJobsResolveToParsers() throws IOException {
+        String json = """
+                {
+                  "jobs": [
+                    {"id": "news", "source": "FILE_JSON", "format": "NEWS_RESPONSE", "location": "newsapi.txt"},
+                    {"source": "FILE_JSON", "format": "SIMPLE_ARTICLE", "location": "simple.txt"},
+                    {"id": "bad", "source": "WEB", "format": "SIMPLE_ARTICLE", "location": "http://localhost/"}
+                  ]
+                }
+                """;
+        FeedManifest manifest = FeedManifest.load(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        Map<String, String> parsed = new ConcurrentHashMap<>();
+        scheduler = new FeedJobScheduler(ParserRegistry.standard(), 4, logger);
+
+        List<JobResult> results = scheduler.runAll(manifest, (job, parser) -> {
+            if (parser instanceof NewsResponseJsonParser news) {
+                parsed.put(job.getId(), news.getNewsResponse().getArticles().size() + " articles");
+            } else {
+                parsed.put(job.getId(), ((SimpleNewsResponseJsonParser) parser).getArticle().getTitle());
+            }
+        });
+
+        assertEquals(List.of("news", "simple.txt", "bad"), results.stream().map(r -> r.getJob().getId()).toList());
+        assertEquals(JobResult.Status.SUCCEEDED, results.get(0).getStatus());
+        assertEquals(JobResult.Status.SUCCEEDED, results.get(1).getStatus());
+        assertEquals(JobResult.Status.FAILED, results.get(2).getStatus());
+        assertTrue(results.get(2).getError() instanceof IllegalArgumentException);
+        assertEquals(2, parsed.size());
+        assertFalse(parsed.get("news").startsWith("0 "));
+        assertEquals(new SimpleNewsResponseJsonParser(new FileJsonSource("simple.txt"), logger).getArticle().getTitle(),
+                parsed.get("simple.txt"));
+    }
+
+    /**
+     * Tests that a job past its timeout is reported without waiting for it, while the other
+     * jobs still complete.
+     */
+    @Test
+    public void testSlowJobTimesOut() {
+        ParserRegistry registry = ParserRegistry.standard();
+        registry.registerSource(SourceFormat.ArticleSourceType.WEB, location -> () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                throw new IOException("Interrupted", e);
+            }
+            return "{}";
+        });
+        scheduler = new FeedJobScheduler(registry, 2, 5_000, logger);
+        List<FeedJob> jobs = List.of(
+                new FeedJob("slow", SourceFormat.ArticleSourceType.WEB, SourceFormat.ArticleFormatType.NEWS_RESPONSE,
+                        "http://localhost/", 100L),
+                new FeedJob("fast", SourceFormat.ArticleSourceType.FILE_JSON, SourceFormat.ArticleFormatType.NEWS_RESPONSE,
+                        "newsapi.txt", null));
+
+        long start = System.nanoTime();
+        List<JobResult> results = scheduler.runAll(jobs, (job, parser) -> ((NewsResponseJsonParser) parser).getNewsResponse());
+
+        assertTrue(System.nanoTime() - start < 5_000_000_000L);
+        assertEquals(JobResult.Status.TIMED_OUT, results.get(0).getStatus());
+        assertEquals(JobResult.Status.SUCCEEDED, results.get(1).getStatus());
+        assertTrue(testHandler.getMessages().stream().anyMatch(m -> m.contains("slow timed out")));
+    }
+}
@@ -0,0 +1,143 @@
+package org.newsparser.jobs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link PollingScheduler} and {@link PollingPolicy}. Verifies that intervals
+ * adapt to changes, jitter stays in bounds and full downstream queues skip polls.
+ */
+class PollingSchedulerTest {
+
+    private final Logger logger = Logger.getLogger(PollingSchedulerTest.class.getName());
+
+    /**
+     * Tests that unchanged payloads back off to the maximum and changed payloads speed up to
+     * the minimum, and that jitter stays within its fraction.
+     */
+    @Test
+    void testPolicyAdaptsAndJitters() {
+        PollingPolicy policy = new PollingPolicy(100, 1000, 400, 2.0, 4.0, 0.25);
+
+        assertEquals(800, policy.nextInterval(400, false));
+        assertEquals(1000, policy.nextInterval(800, false));
+        assertEquals(100, policy.nextInterval(400, true));
+        assertEquals(100, policy.nextInterval(100, true));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            long delay = policy.jittered(400, random);
+            assertTrue(delay >= 300 && delay <= 500);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new PollingPolicy(100, 50, 100, 2, 2, 0));
+    }
+
+    /**
+     * Tests that only changed payloads reach the listener, and that no poll fetches the source
+     * while downstream is full.
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testDeliversChangesAndSkipsUnderBackpressure() throws InterruptedException {
+        AtomicInteger fetches = new AtomicInteger();
+        AtomicBoolean full = new AtomicBoolean();
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        PollingPolicy policy = new PollingPolicy(5, 20, 5, 1.0, 1.0, 0);
+
+        try (PollingScheduler scheduler = new PollingScheduler(policy, 1, full::get, logger)) {
+            PollingScheduler.PolledFeed feed = scheduler.schedule("feed",
+                    () -> "{\"version\": " + (fetches.incrementAndGet() / 3) + "}", delivered::add);
+
+            while (fetches.get() < 9) {
+                Thread.sleep(5);
+            }
+            full.set(true);
+            long skipped = feed.getSkippedCount();
+            while (feed.getSkippedCount() < skipped + 3) {
+                Thread.sleep(5);
+            }
+            int fetchesWhileFull = fetches.get();
+            Thread.sleep(50);
+            assertTrue(fetches.get() <= fetchesWhileFull + 1);
+            feed.cancel();
+
+            assertEquals(feed.getChangeCount(), delivered.size());
+            assertEquals(List.of("{\"version\": 0}", "{\"version\": 1}", "{\"version\": 2}"), delivered.subList(0, 3));
+            assertTrue(feed.getChangeCount() < feed.getPollCount());
+            assertNull(scheduler.getFeed("feed"));
+        }
+    }
+
+    /**
+     * Tests that a payload the listener fails on is delivered again on the next poll.
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testRedeliversPayloadAfterListenerFailure() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        PollingPolicy policy = new PollingPolicy(5, 20, 5, 1.0, 1.0, 0);
+
+        try (PollingScheduler scheduler = new PollingScheduler(policy, 1, logger)) {
+            PollingScheduler.PolledFeed feed = scheduler.schedule("feed", () -> "{\"version\": 0}", json -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new IllegalStateException("Downstream ingest failed.");
+                }
+                delivered.add(json);
+            });
+
+            while (delivered.isEmpty()) {
+                Thread.sleep(5);
+            }
+            feed.cancel();
+
+            assertEquals(List.of("{\"version\": 0}"), delivered);
+            assertEquals(1, feed.getChangeCount());
+            assertTrue(feed.getFailureCount() >= 1);
+        }
+    }
+
+    /**
+     * Tests that cancelling a feed while it is being polled stops it for good, rather than the
+     * running poll scheduling another.
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testCancelDuringPollStopsFeed() throws InterruptedException {
+        CountDownLatch polling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PollingPolicy policy = new PollingPolicy(5, 20, 5, 1.0, 1.0, 0);
+
+        try (PollingScheduler scheduler = new PollingScheduler(policy, 2, logger)) {
+            PollingScheduler.PolledFeed feed = scheduler.schedule("feed", () -> {
+                polling.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "{\"version\": 0}";
+            }, json -> {});
+
+            polling.await();
+            feed.cancel();
+            release.countDown();
+            Thread.sleep(50);
+
+            assertEquals(1, feed.getPollCount());
+            assertNull(scheduler.getFeed("feed"));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.newsparser.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.Source;
+import org.newsparser.parsers.NewsResponseJsonParser;
+import org.newsparser.sources.FileJsonSource;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link SourceStatistics}. Verifies per-source counting, rollups
+ * and recording from a parser.
+ */
+class SourceStatisticsTest {
+
+    private static Article article(String sourceId) {
+        Source source = (sourceId != null) ? new Source(sourceId, sourceId) : null;
+        return new Article(source, null, "Title", "Description", "https://example.com", null, new Date(), null);
+    }
+
+    /**
+     * Tests that accepted and rejected articles are counted per source and rolled up.
+     */
+    @Test
+    void testCountsPerSourceAndTotals() {
+        SourceStatistics statistics = new SourceStatistics();
+        statistics.recordAccepted(article("cnn"));
+        statistics.recordAccepted(article("cnn"));
+        statistics.recordRejected(article("cnn"));
+        statistics.recordAccepted(article("bbc"));
+        statistics.recordRejected(article(null));
+
+        Map<String, SourceSnapshot> snapshot = statistics.snapshot();
+
+        assertEquals(2, snapshot.get("cnn").getAcceptedCount());
+        assertEquals(1, snapshot.get("cnn").getRejectedCount());
+        assertEquals(1, snapshot.get("bbc").getArticleCount());
+        assertEquals(1, snapshot.get(SourceStatistics.UNKNOWN_SOURCE).getRejectedCount());
+        assertTrue(snapshot.get("cnn").getLastSeenMillis() > 0);
+
+        SourceSnapshot totals = statistics.totals();
+        assertEquals(3, totals.getAcceptedCount());
+        assertEquals(2, totals.getRejectedCount());
+    }
+
+    /**
+     * Tests that concurrent updates from many threads are not lost.
+     *
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    @Test
+    void testConcurrentUpdates() throws InterruptedException {
+        SourceStatistics statistics = new SourceStatistics();
+        Article article = article("cnn");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    statistics.recordAccepted(article);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(80_000, statistics.snapshot("cnn").getAcceptedCount());
+    }
+
+    /**
+     * Tests that a parser with statistics attached records accepted and rejected articles.
+     */
+    @Test
+    void testParserRecordsStatistics() {
+        Logger logger = Logger.getLogger(SourceStatisticsTest.class.getName());
+        logger.setLevel(Level.OFF);
+
+        SourceStatistics statistics = new SourceStatistics();
+        NewsResponseJsonParser parser = new NewsResponseJsonParser(new FileJsonSource("test/someArticlesMissingFields.json"), logger);
+        parser.setSourceStatistics(statistics);
+        parser.getNewsResponse();
+
+        assertEquals(0, statistics.totals().getAcceptedCount());
+        assertEquals(6, statistics.totals().getRejectedCount());
+    }
+}
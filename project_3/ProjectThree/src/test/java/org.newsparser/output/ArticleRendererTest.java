@@ -0,0 +1,151 @@
+package org.newsparser.output;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.SimpleArticle;
+import org.newsparser.databind.Source;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link ArticleRenderer} implementations and {@link AsyncWriter}.
+ * Verifies that each format renders the article fields and can be read back.
+ */
+class ArticleRendererTest {
+
+    private static final String NEWLINE = System.lineSeparator();
+
+    private static List<Article> articles(int count) {
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            articles.add(new Article(new Source("id", "Name"), "Author", "Title " + i, "Says \"hi\", twice",
+                    "https://example.com/" + i, null, new Date(1_700_000_000_000L + i * 1000L), "Content"));
+        }
+        return articles;
+    }
+
+    private static String render(OutputFormat format, List<Article> articles) throws IOException {
+        StringWriter out = new StringWriter();
+        ArticleRenderer renderer = format.open(out);
+        renderer.renderAll(articles);
+        renderer.finish();
+        return out.toString();
+    }
+
+    /**
+     * Tests that the text format matches the labelled blocks of the display methods.
+     *
+     * @throws IOException if rendering fails
+     */
+    @Test
+    void testTextFormat() throws IOException {
+        Article article = articles(1).get(0);
+        String expected = NEWLINE + "--- Article ---" + NEWLINE
+                + "Title: Title 0" + NEWLINE
+                + "Description: Says \"hi\", twice" + NEWLINE
+                + "Published Date: " + article.getPublishedDateTime() + NEWLINE
+                + "URL: https://example.com/0" + NEWLINE;
+
+        assertEquals(expected, render(OutputFormat.TEXT, List.of(article)));
+    }
+
+    /**
+     * Tests that the JSON and NDJSON formats use the input schema and can be parsed back into articles.
+     *
+     * @throws IOException if rendering or parsing fails
+     */
+    @Test
+    void testJsonFormatsRoundTrip() throws IOException {
+        List<Article> articles = articles(3);
+        ObjectMapper mapper = new ObjectMapper();
+
+        List<Article> parsed = mapper.readValue(render(OutputFormat.JSON, articles), new TypeReference<>() {});
+        assertEquals(3, parsed.size());
+        assertEquals("Title 2", parsed.get(2).getTitle());
+        assertEquals(articles.get(2).getPublishedDateTime(), parsed.get(2).getPublishedDateTime());
+        assertEquals("Name", parsed.get(2).getSource().getName());
+
+        String[] lines = render(OutputFormat.NDJSON, articles).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("Title 1", mapper.readValue(lines[1], Article.class).getTitle());
+
+        assertEquals("[]", render(OutputFormat.JSON, List.of()));
+    }
+
+    /**
+     * Tests that CSV fields containing commas or quotes are quoted and escaped.
+     *
+     * @throws IOException if rendering fails
+     */
+    @Test
+    void testCsvFormat() throws IOException {
+        String[] rows = render(OutputFormat.CSV, articles(1)).split("\r\n");
+
+        assertEquals(CsvRenderer.HEADER, rows[0]);
+        assertEquals("id,Name,Author,Title 0,\"Says \"\"hi\"\", twice\",https://example.com/0,,2023-11-14T22:13:20Z,Content",
+                rows[1]);
+
+        StringWriter out = new StringWriter();
+        ArticleRenderer renderer = new CsvRenderer(out);
+        renderer.render(new SimpleArticle("Title", "Description", "2021-04-16 09:53:23.709229", "https://example.com"));
+        renderer.finish();
+        assertTrue(out.toString().endsWith(",,,Title,Description,https://example.com,,2021-04-16 09:53:23.709229,\r\n"));
+    }
+
+    /**
+     * Tests that the async writer delivers every character in order across many small chunks.
+     *
+     * @throws IOException if rendering fails
+     */
+    @Test
+    void testAsyncWriterPreservesOutput() throws IOException {
+        List<Article> articles = articles(500);
+        String expected = render(OutputFormat.NDJSON, articles);
+
+        StringWriter target = new StringWriter();
+        try (AsyncWriter writer = new AsyncWriter(target, 64, 2)) {
+            ArticleRenderer renderer = OutputFormat.NDJSON.open(writer);
+            renderer.renderAll(articles);
+            renderer.finish();
+            assertEquals(expected, target.toString());
+        }
+    }
+
+    /**
+     * Tests that an unchecked exception thrown by the target is reported by flush and close
+     * instead of leaving them waiting on a dead background thread.
+     *
+     * @throws IOException if the target cannot be created
+     */
+    @Test
+    void testAsyncWriterReportsUncheckedFailure() throws IOException {
+        Writer target = new StringWriter() {
+            @Override
+            public void write(char[] chars, int offset, int length) {
+                throw new UncheckedIOException(new IOException("disk full"));
+            }
+        };
+        AsyncWriter writer = new AsyncWriter(target, 8, 1);
+        writer.write("0123456789");
+        IOException flushFailure = assertThrows(IOException.class, writer::flush);
+        assertTrue(flushFailure.getCause() instanceof UncheckedIOException);
+
+        // Later chunks are discarded rather than blocking on the full queue
+        assertThrows(IOException.class, () -> {
+            for (int i = 0; i < 10; i++) {
+                writer.write("0123456789");
+            }
+        });
+        assertThrows(IOException.class, writer::close);
+    }
+}
@@ -0,0 +1,206 @@
+package org.newsparser.parser;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.newsparser.TestHandler;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.SimpleArticle;
+import org.newsparser.parsers.ArticlePublisher;
+import org.newsparser.parsers.NewsResponseJsonParser;
+import org.newsparser.parsers.SimpleNewsResponseJsonParser;
+import org.newsparser.sources.ArticleSource;
+import org.newsparser.sources.FileJsonSource;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ArticlePublisher}. Verifies that the parsers publish the same articles
+ * they return, and that the source is read no further than subscribers request.
+ */
+public class ArticlePublisherTest {
+
+    private Logger logger;
+    private TestHandler testHandler;
+
+    /**
+     * A subscriber recording every signal, requesting items only when told to.
+     *
+     * @param <T> the type of items received
+     */
+    private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        final List<T> items = new CopyOnWriteArrayList<>();
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        volatile Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+    }
+
+    /**
+     * Sets up the logger and test handler before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        logger = Logger.getLogger(ArticlePublisherTest.class.getName());
+        logger.setLevel(Level.WARNING);
+        logger.setUseParentHandlers(false);
+
+        testHandler = new TestHandler();
+        testHandler.setLevel(Level.WARNING);
+        logger.addHandler(testHandler);
+
+        testHandler.flush();
+    }
+
+    /**
+     * Tests that publishing with unbounded demand yields the same articles as {@link NewsResponseJsonParser#getNewsResponse()}.
+     */
+    @Test
+    public void testPublishesValidArticles() {
+        NewsResponseJsonParser parser = new NewsResponseJsonParser(new FileJsonSource("test/someArticlesMissingFields.json"), logger);
+        List<String> expected = parser.getNewsResponse().getArticles().stream().map(Article::getUrl).toList();
+        testHandler.flush();
+
+        RecordingSubscriber<Article> subscriber = new RecordingSubscriber<>();
+        parser.publisher(Runnable::run).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertTrue(subscriber.done.isDone());
+        assertEquals(expected, subscriber.items.stream().map(Article::getUrl).toList());
+        assertEquals(6, testHandler.getMessages().stream().filter(t -> t.contains("Invalid")).count());
+
+        RecordingSubscriber<SimpleArticle> simple = new RecordingSubscriber<>();
+        new SimpleNewsResponseJsonParser(new FileJsonSource("simple.txt"), logger).publisher(Runnable::run).subscribe(simple);
+        simple.subscription.request(5);
+        assertEquals(1, simple.items.size());
+        assertTrue(simple.done.isDone());
+    }
+
+    /**
+     * Tests that the source is opened on the first request and read only as far as the demand,
+     * and that cancelling closes it.
+     */
+    @Test
+    public void testReadsOnlyAsFarAsRequested() {
+        StringBuilder json = new StringBuilder("{\"status\": \"ok\", \"articles\": [");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"title\": \"T").append(i)
+                    .append("\", \"description\": \"D\", \"url\": \"www.a.com/").append(i)
+                    .append("\", \"publishedAt\": \"2021-12-18T12:32:00Z\"}");
+        }
+        json.append("]}");
+        AtomicInteger charsRead = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        ArticleSource source = new ArticleSource() {
+            @Override
+            public String getJsonString() {
+                return json.toString();
+            }
+
+            @Override
+            public Reader openReader() {
+                return new StringReader(json.toString()) {
+                    @Override
+                    public int read(char[] buffer, int offset, int length) throws IOException {
+                        int count = super.read(buffer, offset, Math.min(length, 256));
+                        charsRead.addAndGet(Math.max(count, 0));
+                        return count;
+                    }
+
+                    @Override
+                    public void close() {
+                        closed.incrementAndGet();
+                        super.close();
+                    }
+                };
+            }
+        };
+
+        RecordingSubscriber<Article> subscriber = new RecordingSubscriber<>();
+        new NewsResponseJsonParser(source, logger).publisher(Runnable::run).subscribe(subscriber);
+        assertEquals(0, charsRead.get());
+
+        subscriber.subscription.request(2);
+        subscriber.subscription.request(1);
+        assertEquals(List.of("T0", "T1", "T2"), subscriber.items.stream().map(Article::getTitle).toList());
+        assertTrue(charsRead.get() < json.length() / 10);
+
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+        assertEquals(3, subscriber.items.size());
+        assertEquals(1, closed.get());
+        assertFalse(subscriber.done.isDone());
+    }
+
+    /**
+     * Tests that an exception thrown by the subscriber cancels the subscription, closes the
+     * source and is passed to the subscriber's {@code onError}.
+     */
+    @Test
+    public void testSubscriberFailureCancelsSubscription() {
+        AtomicInteger closed = new AtomicInteger();
+        ArticleSource source = new ArticleSource() {
+            @Override
+            public String getJsonString() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Reader openReader() throws IOException {
+                return new FilterReader(new FileJsonSource("newsapi.txt").openReader()) {
+                    @Override
+                    public void close() throws IOException {
+                        closed.incrementAndGet();
+                        super.close();
+                    }
+                };
+            }
+        };
+        RuntimeException failure = new IllegalStateException("Subscriber failed.");
+        RecordingSubscriber<Article> subscriber = new RecordingSubscriber<>() {
+            @Override
+            public void onNext(Article item) {
+                super.onNext(item);
+                throw failure;
+            }
+        };
+        new NewsResponseJsonParser(source, logger).publisher(Runnable::run).subscribe(subscriber);
+
+        subscriber.subscription.request(5);
+        subscriber.subscription.request(5);
+        assertEquals(1, subscriber.items.size());
+        assertEquals(1, closed.get());
+        assertTrue(subscriber.done.isCompletedExceptionally());
+        assertSame(failure, assertThrows(CompletionException.class, subscriber.done::join).getCause());
+    }
+}
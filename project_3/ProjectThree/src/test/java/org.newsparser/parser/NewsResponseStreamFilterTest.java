@@ -0,0 +1,104 @@
+package org.newsparser.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.newsparser.TestHandler;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.NewsResponse;
+import org.newsparser.parsers.NewsResponseJsonParser;
+import org.newsparser.parsers.NewsResponseStreamFilter;
+import org.newsparser.sources.FileJsonSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link NewsResponseStreamFilter}. Verifies that invalid articles are dropped,
+ * valid articles are copied verbatim and the result matches the in-memory parser.
+ */
+public class NewsResponseStreamFilterTest {
+
+    private Logger logger;
+    private TestHandler testHandler;
+
+    /**
+     * Sets up the logger and test handler before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        logger = Logger.getLogger(NewsResponseStreamFilterTest.class.getName());
+        logger.setLevel(Level.WARNING);
+        logger.setUseParentHandlers(false);
+
+        testHandler = new TestHandler();
+        testHandler.setLevel(Level.WARNING);
+        logger.addHandler(testHandler);
+
+        testHandler.flush();
+    }
+
+    /**
+     * Tests that valid articles are copied character for character, invalid and unreadable
+     * articles are dropped, and totalResults is rewritten.
+     *
+     * @throws IOException if filtering fails
+     */
+    @Test
+    public void testFiltersAndCopiesVerbatim() throws IOException {
+        String json = """
+            {
+                "status": "ok",
+                "totalResults": 4,
+                "articles": [
+                    {"title": "Caf\\u00e9", "description": "One", "url": "www.one.com", "publishedAt": "2021-12-18T12:32:00Z"},
+                    {"title": "", "description": "Two", "url": "www.two.com", "publishedAt": "2021-12-18T12:32:00Z"},
+                    {"title": "Three", "description": "Three", "url": "www.three.com", "publishedAt": "yesterday"},
+                    {"title": "Four", "description": "Four", "url": "www.four.com", "publishedAt": "2021-12-19T13:32:00Z"}
+                ]
+            }
+            """;
+        StringWriter out = new StringWriter();
+        NewsResponseStreamFilter filter = new NewsResponseStreamFilter(new ObjectMapper(), logger);
+
+        NewsResponseStreamFilter.Result result = filter.filter(new StringReader(json), out);
+
+        assertEquals("ok", result.getStatus());
+        assertEquals(2, result.getAcceptedCount());
+        assertEquals(2, result.getRejectedCount());
+        assertTrue(result.isValid());
+        assertEquals(2, testHandler.getMessages().stream().filter(t -> t.contains("Invalid")).count());
+
+        // The escape sequence survives untouched, proving the article was not re-encoded
+        assertTrue(out.toString().contains("{\"title\": \"Caf\\u00e9\", \"description\": \"One\""));
+
+        NewsResponse filtered = new ObjectMapper().readValue(out.toString(), NewsResponse.class);
+        assertEquals(2, filtered.getTotalResults());
+        assertEquals(List.of("Café", "Four"), filtered.getArticles().stream().map(Article::getTitle).toList());
+    }
+
+    /**
+     * Tests that streaming a real feed keeps the same articles as {@link NewsResponseJsonParser#getNewsResponse()}.
+     *
+     * @throws IOException if filtering fails
+     */
+    @Test
+    public void testMatchesInMemoryParser() throws IOException {
+        NewsResponseJsonParser parser = new NewsResponseJsonParser(new FileJsonSource("newsapi.txt"), logger);
+        StringWriter out = new StringWriter();
+
+        NewsResponseStreamFilter.Result result = parser.writeValidResponse(out);
+        NewsResponse expected = parser.getNewsResponse();
+        NewsResponse streamed = parser.getObjectMapper().readValue(out.toString(), NewsResponse.class);
+
+        assertEquals(expected.getArticles().size(), result.getAcceptedCount());
+        assertEquals(expected.getArticles().stream().map(Article::getUrl).toList(),
+                streamed.getArticles().stream().map(Article::getUrl).toList());
+    }
+}
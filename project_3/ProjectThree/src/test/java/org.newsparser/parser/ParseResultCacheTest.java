@@ -0,0 +1,213 @@
+package org.newsparser.parser;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.newsparser.TestHandler;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.NewsResponse;
+import org.newsparser.databind.SimpleArticle;
+import org.newsparser.parsers.NewsResponseJsonParser;
+import org.newsparser.parsers.ParseResultCache;
+import org.newsparser.parsers.SimpleNewsResponseJsonParser;
+import org.newsparser.rules.FieldRules;
+import org.newsparser.rules.RuleEngine;
+import org.newsparser.rules.RuleTarget;
+import org.newsparser.utils.ValidationReport;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ParseResultCache}. Verifies that repeated payloads reuse their parsed
+ * result while their articles are validated again, and that frequent payloads survive a burst
+ * of one-off payloads.
+ */
+public class ParseResultCacheTest {
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static class ManualClock extends Clock {
+        private Instant now;
+
+        ManualClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private static final String RESPONSE = """
+            {
+                "status": "ok",
+                "totalResults": 3,
+                "articles": [
+                    {"title": "One", "description": "One", "url": "www.one.com", "publishedAt": "2021-12-18T12:32:00Z"},
+                    {"title": "", "description": "Two", "url": "www.two.com", "publishedAt": "2021-12-18T12:32:00Z"},
+                    {"title": "Three", "description": "Three", "url": "www.three.com", "publishedAt": "2021-12-19T13:32:00Z"}
+                ]
+            }
+            """;
+
+    private Logger logger;
+    private TestHandler testHandler;
+
+    /**
+     * Sets up the logger and test handler before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        logger = Logger.getLogger(ParseResultCacheTest.class.getName());
+        logger.setLevel(Level.WARNING);
+        logger.setUseParentHandlers(false);
+
+        testHandler = new TestHandler();
+        testHandler.setLevel(Level.WARNING);
+        logger.addHandler(testHandler);
+
+        testHandler.flush();
+    }
+
+    private static String simpleArticle(String title) {
+        return "{\"title\": \"" + title + "\", \"description\": \"d\", \"url\": \"www.x.com\", "
+                + "\"publishedAt\": \"2021-04-16 09:53:23.709229\"}";
+    }
+
+    /**
+     * Tests that a repeated payload returns the articles parsed the first time, while the
+     * validation report and the logged warnings match a fresh parse.
+     */
+    @Test
+    public void testRepeatedResponseIsReused() {
+        ParseResultCache cache = new ParseResultCache(16);
+        ValidationReport report = new ValidationReport(logger);
+
+        NewsResponseJsonParser first = new NewsResponseJsonParser(() -> RESPONSE, logger);
+        first.setParseResultCache(cache);
+        first.setValidationReport(report);
+        NewsResponse parsed = first.getNewsResponse();
+
+        NewsResponseJsonParser second = new NewsResponseJsonParser(() -> RESPONSE, logger);
+        second.setParseResultCache(cache);
+        second.setValidationReport(report);
+        NewsResponse reused = second.getNewsResponse();
+
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, reused.getArticles().size());
+        for (int i = 0; i < 2; i++) {
+            assertSame(parsed.getArticles().get(i), reused.getArticles().get(i));
+        }
+        assertEquals(4, report.getAcceptedCount());
+        assertEquals(2, report.getRejectedCount());
+
+        // Without a report, the reject is logged on the hit as well
+        second.setValidationReport(null);
+        second.getNewsResponse();
+        assertEquals(1, testHandler.getMessages().stream().filter(m -> m.startsWith("Invalid item")).count());
+    }
+
+    /**
+     * Tests that a different article rule is applied to a cached payload.
+     */
+    @Test
+    public void testRuleIsAppliedOnHit() {
+        ParseResultCache cache = new ParseResultCache(16);
+        NewsResponseJsonParser parser = new NewsResponseJsonParser(() -> RESPONSE, logger);
+        parser.setParseResultCache(cache);
+        assertEquals(2, parser.getNewsResponse().getArticles().size());
+
+        parser.setArticleRule(article -> article.getTitle().equals("Three") ? null : "title");
+        NewsResponse filtered = parser.getNewsResponse();
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, filtered.getArticles().size());
+        assertEquals("Three", filtered.getArticles().get(0).getTitle());
+    }
+
+    /**
+     * Tests that a rule relative to the current time is checked at the time of each call, so
+     * articles of a cached payload age out as the clock moves.
+     */
+    @Test
+    public void testTimeRelativeRuleIsCheckedOnHit() {
+        ManualClock clock = new ManualClock(Instant.parse("2021-12-19T12:00:00Z"));
+        RuleEngine engine = new RuleEngine(clock);
+        engine.register(RuleEngine.DEFAULT_TENANT, Map.of("Article",
+                new FieldRules(null, null, null, null, null, Duration.ofDays(1).toMillis(), null, null)));
+        ParseResultCache cache = new ParseResultCache(16);
+        ValidationReport report = new ValidationReport(logger);
+        NewsResponseJsonParser parser = new NewsResponseJsonParser(() -> RESPONSE, logger);
+        parser.setParseResultCache(cache);
+        parser.setValidationReport(report);
+        parser.setArticleRule(engine.rulesFor(RuleEngine.DEFAULT_TENANT, RuleTarget.ARTICLE));
+
+        assertEquals(3, parser.getNewsResponse().getArticles().size());
+
+        clock.now = Instant.parse("2021-12-20T12:00:00Z");
+        NewsResponse aged = parser.getNewsResponse();
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, aged.getArticles().size());
+        assertEquals("Three", aged.getArticles().get(0).getTitle());
+
+        clock.now = Instant.parse("2021-12-19T12:00:00Z");
+        assertEquals(3, parser.getNewsResponse().getArticles().size());
+        assertEquals(7, report.getAcceptedCount());
+        assertEquals(2, report.getRejectedCount());
+    }
+
+    /**
+     * Tests that a frequently parsed payload stays cached through more one-off payloads than
+     * the cache holds, which plain LRU eviction would not survive.
+     */
+    @Test
+    public void testFrequentPayloadSurvivesScan() {
+        ParseResultCache cache = new ParseResultCache(10);
+        String hot = simpleArticle("Hot");
+        SimpleNewsResponseJsonParser parser = new SimpleNewsResponseJsonParser(() -> hot, logger);
+        parser.setParseResultCache(cache);
+        SimpleArticle article = parser.getArticle();
+        for (int i = 0; i < 4; i++) {
+            assertSame(article, parser.getArticle());
+        }
+        // Push the hot payload out of the window into the main segment
+        for (int i = 0; i < 9; i++) {
+            String payload = simpleArticle("Warm " + i);
+            parser.setDataSource(() -> payload);
+            parser.getArticle();
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String payload = simpleArticle("Once " + i);
+            parser.setDataSource(() -> payload);
+            assertNotNull(parser.getArticle());
+        }
+        assertTrue(cache.size() <= 10);
+
+        long hits = cache.getHitCount();
+        parser.setDataSource(() -> hot);
+        assertSame(article, parser.getArticle());
+        assertEquals(hits + 1, cache.getHitCount());
+    }
+}
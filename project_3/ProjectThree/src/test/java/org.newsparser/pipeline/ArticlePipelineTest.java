@@ -0,0 +1,193 @@
+package org.newsparser.pipeline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.newsparser.TestHandler;
+import org.newsparser.databind.Article;
+import org.newsparser.parsers.NewsResponseJsonParser;
+import org.newsparser.sources.ArticleSource;
+import org.newsparser.sources.FileJsonSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ArticlePipeline}. Verifies that every valid article reaches the sink in
+ * batches, that failures stay in their stage and that a blocked stage backs up the queues before it.
+ */
+public class ArticlePipelineTest {
+
+    private Logger logger;
+    private TestHandler testHandler;
+
+    /**
+     * Sets up the logger and test handler before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        logger = Logger.getLogger(ArticlePipelineTest.class.getName());
+        logger.setLevel(Level.WARNING);
+        logger.setUseParentHandlers(false);
+
+        testHandler = new TestHandler();
+        testHandler.setLevel(Level.WARNING);
+        logger.addHandler(testHandler);
+
+        testHandler.flush();
+    }
+
+    /**
+     * Tests that the pipeline delivers the same articles as the parser for each source, and
+     * that a source that cannot be read fails only itself.
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    public void testDeliversValidArticles() throws InterruptedException {
+        List<Article> received = new CopyOnWriteArrayList<>();
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        int expected = new NewsResponseJsonParser(new FileJsonSource("newsapi.txt"), logger).getNewsResponse().getArticles().size()
+                + new NewsResponseJsonParser(new FileJsonSource("test/someArticlesMissingFields.json"), logger)
+                .getNewsResponse().getArticles().size();
+        testHandler.flush();
+
+        try (ArticlePipeline pipeline = new ArticlePipeline(new StageConfig(4, 1, 8), new StageConfig(2, 2, 8),
+                new StageConfig(2, 4, 8), new StageConfig(1, 5, 64), batch -> {
+                    received.addAll(batch);
+                    batchSizes.add(batch.size());
+                }, logger)) {
+            for (int i = 0; i < 5; i++) {
+                pipeline.submit(new FileJsonSource("newsapi.txt"));
+                pipeline.submit(new FileJsonSource("test/someArticlesMissingFields.json"));
+            }
+            pipeline.submit(new FileJsonSource("missing.json"));
+            assertTrue(pipeline.finish(10, TimeUnit.SECONDS));
+
+            assertEquals(5 * expected, received.size());
+            assertTrue(batchSizes.stream().allMatch(size -> size <= 5));
+            assertEquals(1, pipeline.getStages().get(0).getFailedCount());
+            assertEquals(10, pipeline.getStages().get(0).getProcessedCount());
+            assertEquals(5 * 6, testHandler.getMessages().stream().filter(t -> t.contains("Invalid")).count());
+        }
+    }
+
+    /**
+     * Tests that a blocked sink fills its own queue and then the queues before it, and that
+     * submitting resumes once the sink drains.
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    public void testBlockedSinkBacksUpQueues() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        String json = "{\"status\": \"ok\", \"totalResults\": 1, \"articles\": [{\"title\": \"T\", \"description\": \"D\","
+                + " \"url\": \"www.a.com\", \"publishedAt\": \"2021-12-18T12:32:00Z\"}]}";
+        ArticleSource source = () -> json;
+
+        try (ArticlePipeline pipeline = new ArticlePipeline(new StageConfig(1, 1, 2), new StageConfig(1, 1, 2),
+                new StageConfig(1, 1, 2), new StageConfig(1, 1, 2), batch -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }, logger)) {
+            Thread producer = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 50; i++) {
+                        pipeline.submit(source);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producer.start();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!pipeline.getQueueDepths().equals(Map.of("fetch", 2, "parse", 2, "validate", 2, "sink", 2))
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(List.of("fetch", "parse", "validate", "sink"), List.copyOf(pipeline.getQueueDepths().keySet()));
+            assertEquals(List.of(2, 2, 2, 2), List.copyOf(pipeline.getQueueDepths().values()));
+            assertTrue(producer.isAlive());
+
+            release.countDown();
+            producer.join(5000);
+            assertFalse(producer.isAlive());
+            assertTrue(pipeline.finish(5, TimeUnit.SECONDS));
+            assertEquals(50, pipeline.getStages().get(3).getProcessedCount());
+        }
+    }
+
+    /**
+     * Tests that a malformed payload fails only itself, not the valid responses batched with it.
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    public void testMalformedPayloadFailsOnlyItself() throws InterruptedException {
+        List<Article> received = new CopyOnWriteArrayList<>();
+        String json = "{\"status\": \"ok\", \"totalResults\": 1, \"articles\": [{\"title\": \"T\", \"description\": \"D\","
+                + " \"url\": \"www.a.com\", \"publishedAt\": \"2021-12-18T12:32:00Z\"}]}";
+
+        // The parse stage takes batches of up to eight, so the payloads usually share a batch
+        try (ArticlePipeline pipeline = new ArticlePipeline(new StageConfig(1, 1, 8), new StageConfig(1, 8, 8),
+                new StageConfig(1, 8, 8), new StageConfig(1, 8, 8), received::addAll, logger)) {
+            pipeline.submit(() -> json);
+            pipeline.submit(() -> "{not json");
+            pipeline.submit(() -> json);
+            assertTrue(pipeline.finish(5, TimeUnit.SECONDS));
+
+            assertEquals(2, received.size());
+            assertEquals(1, pipeline.getStages().get(1).getFailedCount());
+            assertEquals(2, pipeline.getStages().get(1).getProcessedCount());
+        }
+    }
+
+    /**
+     * Tests that a source that throws fails only itself, not the sources fetched in its batch.
+     *
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    public void testFailingSourceFailsOnlyItself() throws InterruptedException {
+        List<Article> received = new CopyOnWriteArrayList<>();
+        String json = "{\"status\": \"ok\", \"totalResults\": 1, \"articles\": [{\"title\": \"T\", \"description\": \"D\","
+                + " \"url\": \"www.a.com\", \"publishedAt\": \"2021-12-18T12:32:00Z\"}]}";
+        CountDownLatch submitted = new CountDownLatch(1);
+        ArticleSource blocking = () -> {
+            try {
+                submitted.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return json;
+        };
+
+        // The first source holds the only fetch thread until the rest are queued as one batch
+        try (ArticlePipeline pipeline = new ArticlePipeline(new StageConfig(1, 8, 8), new StageConfig(1, 8, 8),
+                new StageConfig(1, 8, 8), new StageConfig(1, 8, 8), received::addAll, logger)) {
+            pipeline.submit(blocking);
+            pipeline.submit(() -> {
+                throw new IllegalStateException("unreachable");
+            });
+            pipeline.submit(() -> json);
+            pipeline.submit(() -> json);
+            submitted.countDown();
+            assertTrue(pipeline.finish(5, TimeUnit.SECONDS));
+
+            assertEquals(3, received.size());
+            assertEquals(1, pipeline.getStages().get(0).getFailedCount());
+            assertEquals(3, pipeline.getStages().get(0).getProcessedCount());
+            assertTrue(testHandler.getMessages().contains("Failed to fetch data source: unreachable"));
+        }
+    }
+}
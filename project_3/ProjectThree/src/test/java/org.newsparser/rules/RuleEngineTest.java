@@ -0,0 +1,167 @@
+package org.newsparser.rules;
+
+import org.junit.jupiter.api.Test;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.NewsResponse;
+import org.newsparser.databind.Source;
+import org.newsparser.parsers.NewsResponseJsonParser;
+import org.newsparser.parsers.SimpleNewsResponseJsonParser;
+import org.newsparser.sources.FileJsonSource;
+import org.newsparser.utils.ValidationReport;
+import org.newsparser.utils.ValidationRule;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link RuleEngine}. Verifies that rule files compile into checks reporting
+ * the first failed rule, that tenants fall back to the default rules, and that the parsers
+ * apply the rules they are given.
+ */
+class RuleEngineTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+
+    private final RuleEngine engine = new RuleEngine(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    private static Article article(String sourceId, String title, String url, Instant publishedAt) {
+        return new Article(new Source(sourceId, "Name"), null, title, "Description", url, null,
+                (publishedAt != null) ? Date.from(publishedAt) : null, null);
+    }
+
+    private void load(String tenant, String json) throws IOException {
+        engine.load(tenant, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Tests each kind of rule and the reason code it reports.
+     *
+     * @throws IOException if the rule file cannot be parsed
+     */
+    @Test
+    void testRulesReportFirstFailure() throws IOException {
+        load("acme", """
+                {
+                  "Article": {
+                    "required": ["title", "publishedAt"],
+                    "maxLength": {"title": 10},
+                    "urlFields": ["url"],
+                    "maxAgeMillis": 86400000,
+                    "maxFutureMillis": 0,
+                    "allowedSources": ["reuters"]
+                  }
+                }
+                """);
+        ValidationRule<Article> rule = engine.rulesFor("acme", RuleTarget.ARTICLE);
+        Instant hourAgo = NOW.minusSeconds(3600);
+
+        assertNull(rule.check(article("reuters", "Short", "https://example.com/a", hourAgo)));
+        assertEquals("title", rule.check(article("reuters", "   ", "https://example.com/a", hourAgo)));
+        assertEquals("publishedAt", rule.check(article("reuters", "Short", "https://example.com/a", null)));
+        assertEquals("title.length", rule.check(article("reuters", "Far too long", "https://example.com/a", hourAgo)));
+        assertEquals("url.syntax", rule.check(article("reuters", "Short", "www.example.com", hourAgo)));
+        assertEquals("publishedAt.window", rule.check(article("reuters", "Short", "https://example.com/a",
+                NOW.minusSeconds(2 * 86400))));
+        assertEquals("publishedAt.window", rule.check(article("reuters", "Short", "https://example.com/a",
+                NOW.plusSeconds(60))));
+        assertEquals("source.notAllowed", rule.check(article("bbc", "Short", "https://example.com/a", hourAgo)));
+    }
+
+    /**
+     * Tests that tenants without rules for a type fall back to the default tenant, and then
+     * to the type's own validity check.
+     *
+     * @throws IOException if the rule file cannot be parsed
+     */
+    @Test
+    void testTenantFallback() throws IOException {
+        Article untitled = article("bbc", null, "https://example.com/a", NOW);
+        Article noContent = article("bbc", "Title", "https://example.com/a", NOW);
+
+        assertEquals("title", engine.rulesFor("acme", RuleTarget.ARTICLE).check(untitled));
+        assertNull(engine.rulesFor("acme", RuleTarget.ARTICLE).check(noContent));
+
+        load(RuleEngine.DEFAULT_TENANT, """
+                {"Article": {"required": ["content"]}}
+                """);
+        assertEquals("content", engine.rulesFor("acme", RuleTarget.ARTICLE).check(noContent));
+
+        load("acme", """
+                {"Article": {"required": ["url"]}}
+                """);
+        assertNull(engine.rulesFor("acme", RuleTarget.ARTICLE).check(noContent));
+        assertNull(engine.rulesFor("acme", RuleTarget.NEWS_RESPONSE).check(new NewsResponse("ok", 1, List.of(noContent))));
+    }
+
+    /**
+     * Tests that length limits are checked in the order the rule file lists them.
+     *
+     * @throws IOException if the rule file cannot be parsed
+     */
+    @Test
+    void testMaxLengthKeepsDeclaredOrder() throws IOException {
+        Article article = article("bbc", "Long title", "https://example.com/a", NOW);
+
+        load("acme", """
+                {"Article": {"maxLength": {"title": 3, "description": 3, "url": 3}}}
+                """);
+        assertEquals("title.length", engine.rulesFor("acme", RuleTarget.ARTICLE).check(article));
+
+        load("acme", """
+                {"Article": {"maxLength": {"url": 3, "description": 3, "title": 3}}}
+                """);
+        assertEquals("url.length", engine.rulesFor("acme", RuleTarget.ARTICLE).check(article));
+    }
+
+    /**
+     * Tests that the parsers apply the rules they are given in place of each type's own check.
+     *
+     * @throws IOException if the rule file cannot be parsed
+     */
+    @Test
+    void testParsersApplyRules() throws IOException {
+        Logger logger = Logger.getLogger(RuleEngineTest.class.getName());
+        logger.setUseParentHandlers(false);
+        load("acme", """
+                {
+                  "NewsResponse": {"required": ["status"], "maxLength": {"status": 1}},
+                  "SimpleArticle": {"maxLength": {"title": 1}}
+                }
+                """);
+
+        NewsResponseJsonParser newsParser = new NewsResponseJsonParser(new FileJsonSource("newsapi.txt"), logger);
+        assertNotNull(newsParser.getNewsResponse());
+        newsParser.setResponseRule(engine.rulesFor("acme", RuleTarget.NEWS_RESPONSE));
+        assertNull(newsParser.getNewsResponse());
+
+        SimpleNewsResponseJsonParser simpleParser = new SimpleNewsResponseJsonParser(new FileJsonSource("simple.txt"), logger);
+        assertNotNull(simpleParser.getArticle());
+        ValidationReport report = new ValidationReport(logger);
+        simpleParser.setValidationReport(report);
+        simpleParser.setArticleRule(engine.rulesFor("acme", RuleTarget.SIMPLE_ARTICLE));
+        assertNull(simpleParser.getArticle());
+        assertEquals(Map.of("title.length", 1L), report.getReasonCounts());
+    }
+
+    /**
+     * Tests that rules naming an unknown field are rejected when they are loaded.
+     */
+    @Test
+    void testUnknownFieldIsRejected() {
+        FieldRules rules = new FieldRules(List.of("headline"), null, null, null, null, null, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> engine.register("acme", Map.of("Article", rules)));
+        assertThrows(IllegalArgumentException.class, () -> engine.register("acme", Map.of("Tweet", rules)));
+        assertThrows(IllegalArgumentException.class, () -> engine.register("acme", Map.of("Source", rules)));
+    }
+}
@@ -0,0 +1,84 @@
+package org.newsparser.server;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.newsparser.databind.Article;
+import org.newsparser.jobs.ParserRegistry;
+import org.newsparser.jobs.PollingPolicy;
+import org.newsparser.store.ArticleSnapshot;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ArticleDaemon}. Verifies that expired articles are evicted even when
+ * no feed delivers a new payload, and that articles survive a restart through a snapshot.
+ */
+class ArticleDaemonTest {
+
+    private final Logger logger = Logger.getLogger(ArticleDaemonTest.class.getName());
+
+    @TempDir
+    Path directory;
+
+    private static Article article(int number) {
+        return new Article(null, null, "Title " + number, "Description", "https://example.com/" + number, null,
+                new Date(), null);
+    }
+
+    private ArticleDaemon daemon(long retentionMillis) throws IOException {
+        return new ArticleDaemon(List.of(), ParserRegistry.standard(), PollingPolicy.DEFAULT, 1, 10, retentionMillis,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), logger);
+    }
+
+    /**
+     * Tests that articles past the retention window are evicted without any ingest.
+     *
+     * @throws IOException          if the server cannot be bound
+     * @throws InterruptedException if the test is interrupted while waiting
+     */
+    @Test
+    void testEvictsWithoutIngest() throws IOException, InterruptedException {
+        try (ArticleDaemon daemon = daemon(50)) {
+            daemon.getArticles().add(article(1));
+            assertEquals(1, daemon.getArticles().size());
+            daemon.start();
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (daemon.getArticles().size() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, daemon.getArticles().size());
+        }
+    }
+
+    /**
+     * Tests that a daemon loads an existing snapshot on start and writes its articles on close.
+     *
+     * @throws IOException if the snapshot or the server fails
+     */
+    @Test
+    void testRestoresAndWritesSnapshot() throws IOException {
+        Path path = directory.resolve("articles.snapshot");
+        ArticleSnapshot.write(path, List.of(article(1), article(2)));
+
+        try (ArticleDaemon daemon = daemon(ArticleDaemon.DEFAULT_RETENTION_MILLIS)) {
+            daemon.setSnapshot(path, ArticleDaemon.DEFAULT_SNAPSHOT_PERIOD_MILLIS);
+            daemon.start();
+            assertEquals(2, daemon.getArticles().size());
+            daemon.getArticles().add(article(3));
+        }
+
+        try (ArticleSnapshot snapshot = ArticleSnapshot.open(path)) {
+            assertEquals(3, snapshot.size());
+            assertNotNull(snapshot.findByUrl("https://example.com/3"));
+        }
+    }
+}
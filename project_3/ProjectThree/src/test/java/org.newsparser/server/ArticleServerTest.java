@@ -0,0 +1,109 @@
+package org.newsparser.server;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.Source;
+import org.newsparser.index.PagedArticleSet;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ArticleServer}. Verifies that the query parameters select articles by
+ * source, time window and limit, and that malformed parameters are rejected.
+ */
+class ArticleServerTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private ArticleServer server;
+
+    /**
+     * Starts a server over ten articles, one per hour before now, alternating between two sources.
+     *
+     * @throws IOException if the server cannot be started
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        PagedArticleSet articles = new PagedArticleSet();
+        for (int i = 0; i < 10; i++) {
+            Source source = (i % 2 == 0) ? new Source("bbc-news", "BBC News") : new Source(null, "Reuters");
+            articles.add(new Article(source, null, "Title " + i, "Description", "https://example.com/" + i, null,
+                    Date.from(NOW.minusSeconds(3600L * i)), null));
+        }
+        server = new ArticleServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), articles,
+                Clock.fixed(NOW, ZoneOffset.UTC), Logger.getLogger(ArticleServerTest.class.getName()));
+        server.start();
+    }
+
+    /**
+     * Stops the server after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws IOException, InterruptedException {
+        URI uri = URI.create("http://localhost:" + server.getPort() + pathAndQuery);
+        return client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private List<String> titles(String pathAndQuery) throws IOException, InterruptedException {
+        HttpResponse<String> response = get(pathAndQuery);
+        assertEquals(200, response.statusCode(), response.body());
+        List<Article> articles = mapper.readValue(response.body(), new TypeReference<>() {});
+        return articles.stream().map(Article::getTitle).toList();
+    }
+
+    /**
+     * Tests filtering by source, time window and limit.
+     *
+     * @throws Exception if a request fails
+     */
+    @Test
+    void testQueryParameters() throws Exception {
+        assertEquals(10, titles("/articles").size());
+        assertEquals(List.of("Title 0", "Title 1", "Title 2"), titles("/articles?limit=3"));
+        assertEquals(List.of("Title 1", "Title 3", "Title 5", "Title 7", "Title 9"), titles("/articles?source=reuters"));
+        assertEquals(List.of("Title 2", "Title 4"), titles("/articles?source=BBC-NEWS&since=2024-06-01T07:00:00Z"
+                + "&until=" + NOW.minusSeconds(7200).toEpochMilli()));
+        assertEquals(List.of("Title 0", "Title 1"), titles("/articles?maxAge=PT1H30M"));
+        assertTrue(get("/health").body().contains("\"articles\":10"));
+    }
+
+    /**
+     * Tests that malformed parameters and other methods are rejected.
+     *
+     * @throws Exception if a request fails
+     */
+    @Test
+    void testRejectsBadRequests() throws Exception {
+        assertEquals(400, get("/articles?limit=0").statusCode());
+        assertEquals(400, get("/articles?since=yesterday").statusCode());
+        assertTrue(get("/articles?maxAge=6h").body().contains("ISO-8601 duration"));
+
+        HttpRequest post = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/articles"))
+                .POST(HttpRequest.BodyPublishers.noBody()).build();
+        assertEquals(405, client.send(post, HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+}
@@ -0,0 +1,124 @@
+package org.newsparser.server;
+
+import org.junit.jupiter.api.Test;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.Source;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ResponseCache}. Verifies that cached bodies are reused until articles
+ * arrive from their source, that relative queries expire, and that eviction is least recently used.
+ */
+class ResponseCacheTest {
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static class ManualClock extends Clock {
+        private long millis;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    private final ManualClock clock = new ManualClock();
+    private final ResponseCache cache = new ResponseCache(16, clock);
+    private final AtomicInteger renders = new AtomicInteger();
+    private final Function<ArticleQuery, byte[]> render =
+            query -> ("render " + renders.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+
+    private static Article article(String id, String name) {
+        return new Article(new Source(id, name), null, "Title", "Description", "https://example.com", null, null, null);
+    }
+
+    /**
+     * Tests that a query is rendered once and then served from the cache, that queries are
+     * normalized, and that new articles only invalidate queries for their own source.
+     */
+    @Test
+    void testInvalidatesPerSource() {
+        ArticleQuery bbc = new ArticleQuery("BBC-News", Long.MIN_VALUE, Long.MAX_VALUE, -1, 10);
+        ArticleQuery reuters = new ArticleQuery("reuters", Long.MIN_VALUE, Long.MAX_VALUE, -1, 10);
+        ArticleQuery all = new ArticleQuery(null, Long.MIN_VALUE, Long.MAX_VALUE, -1, 10);
+
+        byte[] first = cache.get(bbc, render);
+        assertSame(first, cache.get(new ArticleQuery("bbc-news", Long.MIN_VALUE, Long.MAX_VALUE, -1, 10), render));
+        cache.get(reuters, render);
+        cache.get(all, render);
+        assertEquals(3, renders.get());
+
+        cache.articlesAdded(List.of(article(null, "Reuters")));
+        assertSame(first, cache.get(bbc, render));
+        assertEquals("render 4", new String(cache.get(reuters, render), StandardCharsets.UTF_8));
+        assertEquals("render 5", new String(cache.get(all, render), StandardCharsets.UTF_8));
+
+        cache.articlesAdded(List.of(article("bbc-news", "BBC News")));
+        assertNotSame(first, cache.get(bbc, render));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(6, cache.getMissCount());
+    }
+
+    /**
+     * Tests that queries with a maximum age expire while absolute queries do not, and that the
+     * cache stays within its size.
+     */
+    @Test
+    void testRelativeQueriesExpire() {
+        ArticleQuery recent = new ArticleQuery(null, Long.MIN_VALUE, Long.MAX_VALUE, 3_600_000, 10);
+        ArticleQuery fixed = new ArticleQuery(null, 0, 1000, -1, 10);
+
+        byte[] recentBody = cache.get(recent, render);
+        byte[] fixedBody = cache.get(fixed, render);
+        clock.millis = ResponseCache.RELATIVE_TTL_MILLIS - 1;
+        assertSame(recentBody, cache.get(recent, render));
+        clock.millis = ResponseCache.RELATIVE_TTL_MILLIS;
+        assertNotSame(recentBody, cache.get(recent, render));
+        assertSame(fixedBody, cache.get(fixed, render));
+
+        for (int limit = 1; limit <= 100; limit++) {
+            cache.get(new ArticleQuery(null, 0, 1000, -1, limit), render);
+        }
+        assertTrue(cache.size() <= 16);
+    }
+
+    /**
+     * Tests that a query used between a stream of one-off queries stays cached.
+     */
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        ArticleQuery hot = new ArticleQuery(null, 0, 1000, -1, 1);
+        byte[] hotBody = cache.get(hot, render);
+        for (int limit = 2; limit <= 100; limit++) {
+            cache.get(new ArticleQuery(null, 0, 1000, -1, limit), render);
+            assertSame(hotBody, cache.get(hot, render));
+        }
+        assertEquals(16, cache.size());
+
+        ArticleQuery oldest = new ArticleQuery(null, 0, 1000, -1, 85);
+        int before = renders.get();
+        cache.get(oldest, render);
+        assertEquals(before + 1, renders.get());
+    }
+}
@@ -0,0 +1,197 @@
+package org.newsparser.shard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.newsparser.TestHandler;
+import org.newsparser.databind.Article;
+import org.newsparser.jobs.FeedJob;
+import org.newsparser.jobs.ParserRegistry;
+import org.newsparser.parsers.NewsResponseJsonParser;
+import org.newsparser.sources.FileJsonSource;
+import org.newsparser.sources.SourceFormat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ShardCoordinator} and {@link ConsistentHashRing}. Verifies that jobs are
+ * spread over workers connected on localhost, their articles are merged, and that jobs move only
+ * as far as needed when workers come and go.
+ */
+public class ShardCoordinatorTest {
+
+    private Logger logger;
+    private TestHandler testHandler;
+    private ShardCoordinator coordinator;
+    private final List<ShardWorker> workers = new ArrayList<>();
+
+    /**
+     * Sets up the logger and test handler before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        logger = Logger.getLogger(ShardCoordinatorTest.class.getName());
+        logger.setLevel(Level.WARNING);
+        logger.setUseParentHandlers(false);
+
+        testHandler = new TestHandler();
+        testHandler.setLevel(Level.WARNING);
+        logger.addHandler(testHandler);
+
+        testHandler.flush();
+    }
+
+    /**
+     * Disconnects the workers and stops the coordinator after each test.
+     */
+    @AfterEach
+    public void tearDown() {
+        workers.forEach(ShardWorker::close);
+        if (coordinator != null) {
+            coordinator.close();
+        }
+    }
+
+    private ShardWorker startWorker(String id) throws IOException {
+        ShardWorker worker = new ShardWorker(id, new InetSocketAddress("localhost", coordinator.getPort()),
+                ParserRegistry.standard(), 2, logger);
+        workers.add(worker);
+        worker.start();
+        return worker;
+    }
+
+    private static List<FeedJob> newsJobs(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new FeedJob("news-" + i, SourceFormat.ArticleSourceType.FILE_JSON,
+                        SourceFormat.ArticleFormatType.NEWS_RESPONSE, "newsapi.txt", null))
+                .toList();
+    }
+
+    private int validArticlesPerFeed() {
+        return new NewsResponseJsonParser(new FileJsonSource("newsapi.txt"), logger).getNewsResponse().getArticles().size();
+    }
+
+    /**
+     * Tests that adding a node moves only keys onto the new node, about a fair share of them,
+     * and removing it moves them back.
+     */
+    @Test
+    public void testRingMovesOnlyNeededKeys() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>();
+        ring.add("a");
+        ring.add("b");
+        ring.add("c");
+        List<String> keys = IntStream.range(0, 4000).mapToObj(i -> "feed-" + i).toList();
+        List<String> before = keys.stream().map(ring::nodeFor).toList();
+
+        ring.add("d");
+        int moved = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String owner = ring.nodeFor(keys.get(i));
+            if (!owner.equals(before.get(i))) {
+                assertEquals("d", owner);
+                moved++;
+            }
+        }
+        assertTrue(moved > 600 && moved < 1400, "moved " + moved);
+
+        ring.remove("d");
+        assertEquals(before, keys.stream().map(ring::nodeFor).toList());
+    }
+
+    /**
+     * Tests that a round spreads its jobs over every worker and merges all of their articles.
+     *
+     * @throws Exception if the round fails
+     */
+    @Test
+    public void testRoundMergesArticlesFromAllWorkers() throws Exception {
+        coordinator = new ShardCoordinator(0, logger);
+        startWorker("w1");
+        startWorker("w2");
+        startWorker("w3");
+        assertTrue(coordinator.awaitWorkers(3, 5, TimeUnit.SECONDS));
+
+        ConcurrentLinkedQueue<Article> merged = new ConcurrentLinkedQueue<>();
+        RoundResult result = coordinator.runRound(newsJobs(12), merged::add, 10, TimeUnit.SECONDS);
+
+        int perFeed = validArticlesPerFeed();
+        assertEquals(12, result.getJobs());
+        assertEquals(12L * perFeed, result.getArticles());
+        assertEquals(12L * perFeed, merged.size());
+        assertEquals(12L * perFeed, result.getAccepted());
+        assertEquals(0, result.getFailedJobs());
+        assertEquals(0, result.getReassignedJobs());
+        assertEquals(12, result.getJobsPerWorker().values().stream().mapToInt(Integer::intValue).sum());
+        assertTrue(result.getJobsPerWorker().size() > 1);
+    }
+
+    /**
+     * Tests that when a worker leaves, only its jobs move and the next round still runs them all.
+     *
+     * @throws Exception if a round fails
+     */
+    @Test
+    public void testWorkerLeavingRebalancesItsJobs() throws Exception {
+        coordinator = new ShardCoordinator(0, logger);
+        startWorker("w1");
+        startWorker("w2");
+        ShardWorker leaving = startWorker("w3");
+        assertTrue(coordinator.awaitWorkers(3, 5, TimeUnit.SECONDS));
+        List<FeedJob> jobs = newsJobs(12);
+        Map<String, Integer> first = coordinator.runRound(jobs, article -> {}, 10, TimeUnit.SECONDS).getJobsPerWorker();
+
+        leaving.close();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coordinator.getWorkers().contains("w3") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, coordinator.getWorkers().size());
+
+        ConcurrentLinkedQueue<Article> merged = new ConcurrentLinkedQueue<>();
+        RoundResult second = coordinator.runRound(jobs, merged::add, 10, TimeUnit.SECONDS);
+
+        assertEquals(12L * validArticlesPerFeed(), merged.size());
+        assertEquals(0, second.getFailedJobs());
+        assertFalse(second.getJobsPerWorker().containsKey("w3"));
+        // The jobs w1 and w2 already held stay put; they only gain w3's
+        for (String id : List.of("w1", "w2")) {
+            assertTrue(second.getJobsPerWorker().getOrDefault(id, 0) >= first.getOrDefault(id, 0));
+        }
+    }
+
+    /**
+     * Tests that a round with no workers is refused, and a round that cannot finish times out.
+     *
+     * @throws Exception if the coordinator cannot start
+     */
+    @Test
+    public void testRoundWithoutWorkersOrTimeOut() throws Exception {
+        coordinator = new ShardCoordinator(0, logger);
+        assertThrows(IllegalStateException.class,
+                () -> coordinator.runRound(newsJobs(1), article -> {}, 1, TimeUnit.SECONDS));
+
+        // A worker that says hello but never finishes its task
+        try (Socket silent = new Socket("localhost", coordinator.getPort())) {
+            silent.getOutputStream().write((ShardMessages.HELLO + " silent\n").getBytes(StandardCharsets.UTF_8));
+            silent.getOutputStream().flush();
+            assertTrue(coordinator.awaitWorkers(1, 5, TimeUnit.SECONDS));
+            assertThrows(TimeoutException.class,
+                    () -> coordinator.runRound(newsJobs(1), article -> {}, 100, TimeUnit.MILLISECONDS));
+        }
+    }
+}
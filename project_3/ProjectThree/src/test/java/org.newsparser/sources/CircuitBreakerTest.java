@@ -0,0 +1,172 @@
+package org.newsparser.sources;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.newsparser.TestHandler;
+import org.newsparser.databind.NewsResponse;
+import org.newsparser.jobs.FeedJob;
+import org.newsparser.jobs.ParserRegistry;
+import org.newsparser.parsers.NewsResponseJsonParser;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link CircuitBreaker} and {@link CircuitBreakerSource}. Verifies that a failing
+ * source is skipped for a growing backoff window, probed by one trial read, and closed again
+ * once it recovers.
+ */
+class CircuitBreakerTest {
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static class ManualClock extends Clock {
+        private long millis;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    private final ManualClock clock = new ManualClock();
+    private final AtomicInteger reads = new AtomicInteger();
+    private Logger logger;
+    private TestHandler testHandler;
+    private String response;
+
+    /**
+     * Sets up the logger and test handler before each test.
+     */
+    @BeforeEach
+    public void setUp() {
+        logger = Logger.getLogger(CircuitBreakerTest.class.getName());
+        logger.setLevel(Level.WARNING);
+        logger.setUseParentHandlers(false);
+
+        testHandler = new TestHandler();
+        testHandler.setLevel(Level.WARNING);
+        logger.addHandler(testHandler);
+
+        testHandler.flush();
+    }
+
+    private ArticleSource upstream() {
+        return () -> {
+            reads.incrementAndGet();
+            if (response == null) {
+                throw new IOException("Read timed out");
+            }
+            return response;
+        };
+    }
+
+    /**
+     * Tests that the breaker opens after repeated failures, refuses reads without touching the
+     * source, lets one trial read through after the window and doubles the window when it fails,
+     * then closes when a trial succeeds.
+     *
+     * @throws IOException if the final trial read fails
+     */
+    @Test
+    public void testOpensProbesAndCloses() throws IOException {
+        CircuitBreaker breaker = new CircuitBreaker("feed", 3, 1000, 3000, clock, logger);
+        ArticleSource source = new CircuitBreakerSource(upstream(), breaker);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IOException.class, source::getJsonString);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1, testHandler.getMessages().size());
+
+        SourceUnavailableException refused = assertThrows(SourceUnavailableException.class, source::getJsonString);
+        assertEquals(1000, refused.getRetryAfterMillis());
+        assertTrue(refused.getMessage().contains("Read timed out"));
+        assertEquals(3, reads.get());
+
+        // A failed trial reopens the breaker for twice as long
+        clock.millis = 1000;
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertThrows(IOException.class, source::getJsonString);
+        assertEquals(4, reads.get());
+        clock.millis = 2999;
+        assertThrows(SourceUnavailableException.class, source::getJsonString);
+        assertEquals(4, reads.get());
+
+        // Garbage counts as a failure too, and the window stops growing at the maximum
+        clock.millis = 3000;
+        response = "<html>Bad Gateway</html>";
+        assertThrows(IOException.class, source::getJsonString);
+        clock.millis = 5999;
+        assertThrows(SourceUnavailableException.class, source::getJsonString);
+
+        clock.millis = 6000;
+        response = "{\"status\": \"ok\"}";
+        assertEquals(response, source.getJsonString());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getConsecutiveFailures());
+    }
+
+    /**
+     * Tests that only one trial read is let through while half-open.
+     *
+     * @throws IOException if the trial read fails
+     */
+    @Test
+    public void testSingleTrialWhileHalfOpen() throws IOException {
+        CircuitBreaker breaker = new CircuitBreaker("feed", 1, 1000, 1000, clock, logger);
+        breaker.recordFailure(new IOException("down"));
+        clock.millis = 1000;
+
+        breaker.acquire();
+        assertThrows(SourceUnavailableException.class, breaker::acquire);
+        breaker.recordSuccess();
+        breaker.acquire();
+    }
+
+    /**
+     * Tests that parsers created for the same location share its breaker, and that refused reads
+     * are not logged as parse failures.
+     */
+    @Test
+    public void testRegistrySharesBreakerPerLocation() {
+        CircuitBreakers breakers = new CircuitBreakers(2, 1000, 1000, clock, logger);
+        ParserRegistry registry = new ParserRegistry();
+        registry.registerSource(SourceFormat.ArticleSourceType.WEB, location -> upstream());
+        registry.registerParser(SourceFormat.ArticleFormatType.NEWS_RESPONSE, NewsResponseJsonParser::new,
+                EnumSet.of(SourceFormat.ArticleSourceType.WEB));
+        registry.useCircuitBreakers(breakers);
+        FeedJob job = new FeedJob("down", SourceFormat.ArticleSourceType.WEB,
+                SourceFormat.ArticleFormatType.NEWS_RESPONSE, "http://down.example/", null);
+
+        for (int i = 0; i < 5; i++) {
+            NewsResponse response = ((NewsResponseJsonParser) registry.create(job, logger)).getNewsResponse();
+            assertEquals("error", response.getStatus());
+        }
+
+        assertEquals(2, reads.get());
+        assertEquals(CircuitBreaker.State.OPEN, breakers.states().get("http://down.example/"));
+        assertEquals(2, testHandler.getMessages().stream().filter(m -> m.startsWith("Failed to parse")).count());
+        assertEquals(1, testHandler.getMessages().stream().filter(m -> m.startsWith("Source ")).count());
+    }
+}
@@ -0,0 +1,132 @@
+package org.newsparser.sources;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ConcurrencyLimiter} and {@link LimitedSource}. Verifies that the limit
+ * grows while the host keeps up, shrinks when it slows down or fails, settles near what a host
+ * with load-dependent latency sustains, and ignores how slowly a stream is consumed.
+ */
+class ConcurrencyLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Tests that fast replies under full use raise the limit, slow replies lower it gradually,
+     * and a failure backs it off.
+     *
+     * @throws InterruptedException if interrupted while acquiring
+     */
+    @Test
+    public void testLimitFollowsLatencyAndFailures() throws InterruptedException {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("host", 4, 1, 64);
+        for (int i = 0; i < 40; i++) {
+            while (limiter.getInFlight() < limiter.getLimit()) {
+                limiter.acquire();
+            }
+            limiter.onSuccess(MILLIS);
+        }
+        int grown = limiter.getLimit();
+        assertTrue(grown > 6, "limit " + grown);
+        while (limiter.getInFlight() > 0) {
+            limiter.onIgnore();
+        }
+
+        // Replies at ten times the baseline mean requests are queueing
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+            limiter.onSuccess(10 * MILLIS);
+        }
+        int shrunk = limiter.getLimit();
+        assertTrue(shrunk < grown, "limit " + shrunk);
+        assertTrue(shrunk > 1, "limit " + shrunk);
+
+        limiter.acquire();
+        limiter.onFailure();
+        assertEquals((int) (shrunk * ConcurrencyLimiter.FAILURE_BACKOFF), limiter.getLimit(), 1);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    /**
+     * Tests that a host whose latency grows past four concurrent requests holds the limit near
+     * that level instead of letting every waiting read pile onto it. Reads are simulated in
+     * rounds with latencies computed from the concurrency, so no clock is involved.
+     *
+     * @throws InterruptedException if interrupted while acquiring
+     */
+    @Test
+    public void testSettlesNearSustainableConcurrency() throws InterruptedException {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("host", 4, 1, 64);
+        int peak = 0;
+        for (int round = 0; round < 200; round++) {
+            // Plenty of reads are waiting, so every free slot is taken
+            while (limiter.getInFlight() < limiter.getLimit()) {
+                limiter.acquire();
+            }
+            int concurrent = limiter.getInFlight();
+            peak = Math.max(peak, concurrent);
+            long rtt = (100 + 100L * Math.max(0, concurrent - 4)) * MILLIS;
+            for (int i = 0; i < concurrent; i++) {
+                limiter.onSuccess(rtt);
+            }
+        }
+
+        int limit = limiter.getLimit();
+        assertTrue(limit >= 2 && limit <= 8, "limit " + limit);
+        assertTrue(peak <= 10, "peak " + peak);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    /**
+     * Tests that a streamed read is timed to its first character, so a caller that consumes
+     * the stream slowly does not shrink the host's limit.
+     *
+     * @throws IOException          if the stream cannot be read
+     * @throws InterruptedException if interrupted while sleeping
+     */
+    @Test
+    public void testStreamedReadIsTimedToFirstCharacter() throws IOException, InterruptedException {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("host", 4, 1, 64);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+            limiter.onSuccess(50 * MILLIS);
+        }
+        ArticleSource source = new LimitedSource(new ArticleSource() {
+            @Override
+            public String getJsonString() {
+                return "{\"status\":\"ok\"}";
+            }
+
+            @Override
+            public Reader openReader() {
+                return new StringReader(getJsonString());
+            }
+        }, limiter);
+
+        try (Reader reader = source.openReader()) {
+            assertEquals('{', reader.read());
+            assertEquals(1, limiter.getInFlight());
+            // A slow parse of the rest of the stream
+            Thread.sleep(300);
+        }
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    /**
+     * Tests that locations are grouped by host, including the port.
+     */
+    @Test
+    public void testHostOf() {
+        assertEquals("newsapi.org", ConcurrencyLimiters.hostOf("http://NewsAPI.org/v2/top-headlines?country=us"));
+        assertEquals("localhost:8080", ConcurrencyLimiters.hostOf("http://localhost:8080/feed"));
+        assertEquals("newsapi.txt", ConcurrencyLimiters.hostOf("newsapi.txt"));
+    }
+}
@@ -0,0 +1,179 @@
+package org.newsparser.sources;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link RequestHedging} and {@link HedgedSource}. Verifies that reads stuck far
+ * beyond the usual latency are raced and cancelled, that the hedge budget caps the extra reads,
+ * and that failures only surface when every attempt fails.
+ */
+class RequestHedgingTest {
+
+    private static final String LOCATION = "http://feeds.example.com/top";
+    private static final String JSON = "{\"status\":\"ok\"}";
+
+    private RequestHedging hedging;
+
+    /**
+     * Stops the hedging threads after each test.
+     */
+    @AfterEach
+    public void tearDown() {
+        if (hedging != null) {
+            hedging.close();
+        }
+    }
+
+    /**
+     * A source whose reads sleep for a time chosen by call number, counting reads cut short.
+     */
+    private static class SleepingSource implements ArticleSource {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger cancelled = new AtomicInteger();
+        private final IntToLongFunction sleepMillis;
+
+        SleepingSource(IntToLongFunction sleepMillis) {
+            this.sleepMillis = sleepMillis;
+        }
+
+        @Override
+        public String getJsonString() throws IOException {
+            try {
+                Thread.sleep(sleepMillis.applyAsLong(calls.getAndIncrement()));
+            } catch (InterruptedException e) {
+                cancelled.incrementAndGet();
+                throw new InterruptedIOException("Cancelled.");
+            }
+            return JSON;
+        }
+
+        @Override
+        public Reader openReader() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Tests that reads hanging far past the host's p95 return close to the usual latency once
+     * hedged, and that the hung attempts are cancelled.
+     *
+     * @throws IOException if a read fails
+     */
+    @Test
+    public void testHedgingCutsTailLatency() throws IOException {
+        // Every tenth read after the first 25 hangs for five seconds
+        SleepingSource source = new SleepingSource(call -> (call >= 25 && call % 10 == 0) ? 5_000 : 10);
+        hedging = new RequestHedging(0.2);
+        ArticleSource hedged = hedging.wrap(LOCATION, source);
+
+        long worstNanos = 0;
+        for (int i = 0; i < 80; i++) {
+            long start = System.nanoTime();
+            assertEquals(JSON, hedged.getJsonString());
+            worstNanos = Math.max(worstNanos, System.nanoTime() - start);
+        }
+
+        assertTrue(worstNanos < TimeUnit.SECONDS.toNanos(1), "worst " + TimeUnit.NANOSECONDS.toMillis(worstNanos));
+        assertTrue(hedging.getHedgeWinCount() >= 5, "wins " + hedging.getHedgeWinCount());
+        assertTrue(hedging.getHedgeCount() >= hedging.getHedgeWinCount());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (source.cancelled.get() < hedging.getHedgeWinCount() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertTrue(source.cancelled.get() >= hedging.getHedgeWinCount(), "cancelled " + source.cancelled.get());
+        assertTrue(hedging.hedgeDelaysMillis().get("feeds.example.com") < 1_000);
+    }
+
+    /**
+     * Tests that hedges stop once the budget is spent, leaving the remaining slow reads to run
+     * rather than raced. Latencies are recorded directly, so the outcome does not depend on timing.
+     */
+    @Test
+    public void testBudgetCapsHedges() {
+        hedging = new RequestHedging(0.05);
+        RequestHedging.Host host = hedging.host("feeds.example.com");
+        long usual = TimeUnit.MILLISECONDS.toNanos(5);
+        int reads = 40;
+        for (int i = 0; i < reads; i++) {
+            host.startRead();
+            host.record(usual, false);
+        }
+
+        // Forty reads at 0.05 saved up two hedges; every later read runs past the delay
+        assertEquals(usual, host.hedgeDelayNanos());
+        int hedges = 0;
+        for (int i = 0; i < 6; i++, reads++) {
+            host.startRead();
+            if (host.tryHedge()) {
+                hedges++;
+            }
+            host.record(TimeUnit.MILLISECONDS.toNanos(300), false);
+        }
+
+        assertEquals(2, hedges);
+        assertEquals(hedges, hedging.getHedgeCount());
+        assertTrue(hedges <= reads * 0.05, "hedges " + hedges);
+
+        // The slow reads entered the window, so the delay rose with them
+        assertEquals(300L, (long) hedging.hedgeDelaysMillis().get("feeds.example.com"));
+    }
+
+    /**
+     * Tests that a hedged read succeeds if either attempt does, and fails with both failures
+     * when neither does.
+     *
+     * @throws IOException if a read expected to succeed fails
+     */
+    @Test
+    public void testFailuresSurfaceOnlyWhenEveryAttemptFails() throws IOException {
+        AtomicInteger calls = new AtomicInteger();
+        ArticleSource flaky = new ArticleSource() {
+            @Override
+            public String getJsonString() throws IOException {
+                int call = calls.getAndIncrement();
+                try {
+                    if (call < RequestHedging.MIN_SAMPLES) {
+                        Thread.sleep(5);
+                        return JSON;
+                    }
+                    // The slow primary fails late, its hedge succeeds, then both fail
+                    Thread.sleep(call == RequestHedging.MIN_SAMPLES ? 200 : 100);
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException("Cancelled.");
+                }
+                if (call == RequestHedging.MIN_SAMPLES + 1) {
+                    return JSON;
+                }
+                throw new IOException("Failed read " + call + ".");
+            }
+
+            @Override
+            public Reader openReader() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        hedging = new RequestHedging(1);
+        ArticleSource hedged = hedging.wrap(LOCATION, flaky);
+        for (int i = 0; i < RequestHedging.MIN_SAMPLES; i++) {
+            assertEquals(JSON, hedged.getJsonString());
+        }
+
+        assertEquals(JSON, hedged.getJsonString());
+        assertEquals(1, hedging.getHedgeWinCount());
+
+        IOException e = assertThrows(IOException.class, hedged::getJsonString);
+        assertEquals(1, e.getSuppressed().length);
+        assertEquals(2, hedging.getHedgeCount());
+    }
+}
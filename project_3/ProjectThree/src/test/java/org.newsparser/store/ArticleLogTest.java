@@ -0,0 +1,136 @@
+package org.newsparser.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.Source;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ArticleLog}. Verifies appending, seeking, segment rolling,
+ * recovery of a torn write and rejection of oversized records.
+ */
+class ArticleLogTest {
+
+    @TempDir
+    Path directory;
+
+    private static Article article(int number) {
+        return new Article(new Source("source-" + number % 3, "Source"), "Author", "Title " + number,
+                "Description " + number, "https://example.com/" + number, null,
+                new Date(1_600_000_000_000L + number), "Content " + number);
+    }
+
+    private static List<String> titles(LogReader reader) throws IOException {
+        List<String> titles = new ArrayList<>();
+        try (reader) {
+            reader.forEachRemaining(entry -> titles.add(entry.getArticle().getTitle()));
+        }
+        return titles;
+    }
+
+    /**
+     * Tests that appended articles are read back intact and in order.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void testAppendAndReplay() throws IOException {
+        try (ArticleLog log = new ArticleLog(directory)) {
+            assertEquals(0, log.append(article(0)));
+            assertEquals(1, log.append(List.of(article(1), article(2))));
+
+            List<Article> replayed = new ArrayList<>();
+            log.replay(replayed::add);
+
+            assertEquals(3, replayed.size());
+            Article first = replayed.get(0);
+            assertEquals("Title 0", first.getTitle());
+            assertEquals("source-0", first.getSource().getId());
+            assertEquals(new Date(1_600_000_000_000L), first.getPublishedDateTime());
+            assertNull(first.getUrlToImage());
+        }
+    }
+
+    /**
+     * Tests that small segments roll over and reads can start at any offset.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void testRollingSegmentsAndSeek() throws IOException {
+        try (ArticleLog log = new ArticleLog(directory, 512, 128, 10, 1000)) {
+            for (int i = 0; i < 50; i++) {
+                log.append(article(i));
+            }
+            assertTrue(log.segmentCount() > 1, "Expected the log to roll into several segments.");
+
+            List<String> titles = titles(log.read(37));
+            assertEquals(13, titles.size());
+            assertEquals("Title 37", titles.get(0));
+            assertEquals("Title 49", titles.get(12));
+
+            assertEquals(50, titles(log.readSince(0)).size());
+        }
+    }
+
+    /**
+     * Tests that reopening a log recovers existing records, truncates a torn tail
+     * and continues appending after the last intact record.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void testReopenRecoversAfterTornWrite() throws IOException {
+        try (ArticleLog log = new ArticleLog(directory)) {
+            log.append(List.of(article(0), article(1)));
+        }
+
+        // Simulate a crash in the middle of writing a record
+        Path segment = LogSegment.logPath(directory, 0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 1, 0, 42}));
+        }
+
+        try (ArticleLog log = new ArticleLog(directory)) {
+            assertEquals(2, log.nextOffset());
+            log.append(article(2));
+            assertEquals(List.of("Title 0", "Title 1", "Title 2"), titles(log.read(0)));
+        }
+    }
+
+    /**
+     * Tests that a record too large to be recovered is rejected at write time and
+     * leaves the segment unchanged.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void testOversizedRecordIsRejected() throws IOException {
+        try (ArticleLog log = new ArticleLog(directory)) {
+            log.append(article(0));
+            LogSegment active = log.segments().get(0);
+            long size = active.size();
+
+            LogSegment.Record oversized = new LogSegment.Record(1, System.currentTimeMillis(),
+                    new byte[LogSegment.MAX_PAYLOAD_BYTES + 1]);
+            assertThrows(IllegalArgumentException.class, () -> active.append(List.of(oversized)));
+            assertEquals(size, active.size());
+
+            assertEquals(1, log.append(article(1)));
+        }
+        try (ArticleLog log = new ArticleLog(directory)) {
+            assertEquals(List.of("Title 0", "Title 1"), titles(log.read(0)));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.newsparser.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.Source;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ArticleSnapshot}. Verifies that a written snapshot can be mapped
+ * and queried through its recency and URL indexes.
+ */
+class ArticleSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private static Article article(int number, long publishedAt) {
+        return new Article(new Source("id", "Name"), null, "Title " + number, "Description",
+                "https://example.com/" + number, null, new Date(publishedAt), "Content");
+    }
+
+    /**
+     * Tests that a snapshot round-trips articles and answers indexed queries.
+     *
+     * @throws IOException if the snapshot cannot be written or read
+     */
+    @Test
+    void testWriteAndQuery() throws IOException {
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            articles.add(article(i, (i * 37L) % 100));
+        }
+        Path path = directory.resolve("articles.snapshot");
+        ArticleSnapshot.write(path, articles);
+
+        try (ArticleSnapshot snapshot = ArticleSnapshot.open(path)) {
+            assertEquals(100, snapshot.size());
+            assertEquals("Title 5", snapshot.get(5).getTitle());
+            assertEquals("Name", snapshot.get(5).getSource().getName());
+
+            List<Article> latest = snapshot.latest(3);
+            assertEquals(new Date(99), latest.get(0).getPublishedDateTime());
+            assertEquals(new Date(98), latest.get(1).getPublishedDateTime());
+            assertEquals(new Date(97), latest.get(2).getPublishedDateTime());
+
+            assertEquals("Title 42", snapshot.findByUrl("https://example.com/42").getTitle());
+            assertNull(snapshot.findByUrl("https://example.com/missing"));
+            assertNull(snapshot.findByUrl(null));
+        }
+    }
+
+    /**
+     * Tests that records larger than a write chunk are written in full between smaller ones.
+     *
+     * @throws IOException if the snapshot cannot be written or read
+     */
+    @Test
+    void testWritesRecordsLargerThanAChunk() throws IOException {
+        String content = "x".repeat(3 << 20);
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Article article = article(i, i);
+            articles.add((i % 2 == 1) ? new Article(article.getSource(), null, article.getTitle(),
+                    article.getDescription(), article.getUrl(), null, article.getPublishedDateTime(), content) : article);
+        }
+        Path path = directory.resolve("articles.snapshot");
+        ArticleSnapshot.write(path, articles);
+
+        try (ArticleSnapshot snapshot = ArticleSnapshot.open(path)) {
+            for (int i = 0; i < 5; i++) {
+                assertEquals("Title " + i, snapshot.get(i).getTitle());
+                assertEquals((i % 2 == 1) ? content : "Content", snapshot.get(i).getContent());
+            }
+        }
+    }
+
+    /**
+     * Tests that an empty article set produces a valid snapshot.
+     *
+     * @throws IOException if the snapshot cannot be written or read
+     */
+    @Test
+    void testEmptySnapshot() throws IOException {
+        Path path = directory.resolve("empty.snapshot");
+        ArticleSnapshot.write(path, List.of());
+
+        try (ArticleSnapshot snapshot = ArticleSnapshot.open(path)) {
+            assertEquals(0, snapshot.size());
+            assertTrue(snapshot.latest(10).isEmpty());
+        }
+    }
+
+    /**
+     * Tests that a file that is not a snapshot is rejected.
+     *
+     * @throws IOException if the test file cannot be written
+     */
+    @Test
+    void testRejectsInvalidFile() throws IOException {
+        Path path = directory.resolve("garbage.snapshot");
+        Files.writeString(path, "not a snapshot at all");
+
+        assertThrows(IOException.class, () -> ArticleSnapshot.open(path));
+    }
+}
@@ -0,0 +1,241 @@
+package org.newsparser.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.newsparser.databind.Article;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link LogCompactor}. Verifies that superseded versions are removed,
+ * open readers are unaffected, later passes only rewrite what changed, size retention
+ * trims old segments and interrupted swaps are completed on reopen.
+ */
+class LogCompactorTest {
+
+    @TempDir
+    Path directory;
+
+    private final Logger logger = Logger.getLogger(LogCompactorTest.class.getName());
+
+    private static Article version(int story, int version) {
+        return new Article(null, null, "Story " + story + " v" + version, "Description",
+                "https://example.com/" + story, null, new Date(), null);
+    }
+
+    private static List<String> replayTitles(ArticleLog log) throws IOException {
+        List<String> titles = new ArrayList<>();
+        log.replay(article -> titles.add(article.getTitle()));
+        return titles;
+    }
+
+    /**
+     * Tests that compaction keeps only the latest version of each URL, even when the
+     * latest version lives in the active segment.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void testCompactionKeepsLatestVersionPerUrl() throws IOException {
+        try (ArticleLog log = new ArticleLog(directory, 256, 64, 100, 1000)) {
+            for (int version = 1; version <= 5; version++) {
+                for (int story = 0; story < 3; story++) {
+                    log.append(version(story, version));
+                }
+            }
+            log.append(version(9, 1));
+            log.append(version(0, 6));
+            assertTrue(log.segmentCount() > 2);
+
+            LogReader before = log.read(0);
+            LogCompactor compactor = new LogCompactor(log, LogCompactor.UNLIMITED, LogCompactor.UNLIMITED, logger);
+            long removed = compactor.compact();
+
+            assertTrue(removed > 0);
+            List<String> titles = replayTitles(log);
+            assertTrue(titles.contains("Story 0 v6"));
+            assertTrue(titles.contains("Story 1 v5"));
+            assertTrue(titles.contains("Story 2 v5"));
+            assertTrue(titles.contains("Story 9 v1"));
+            assertFalse(titles.contains("Story 1 v4"));
+            assertEquals(1, titles.stream().filter(title -> title.startsWith("Story 0")).count());
+
+            // A reader opened before the swap still sees every original record
+            int count = 0;
+            try (before) {
+                while (before.hasNext()) {
+                    before.next();
+                    count++;
+                }
+            }
+            assertEquals(17, count);
+
+            // Appends keep working after compaction
+            log.append(version(3, 1));
+            assertTrue(replayTitles(log).contains("Story 3 v1"));
+        }
+    }
+
+    /**
+     * Tests that size retention drops the oldest sealed segments.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void testSizeRetentionDropsOldestSegments() throws IOException {
+        try (ArticleLog log = new ArticleLog(directory, 256, 64, 100, 1000)) {
+            for (int story = 0; story < 30; story++) {
+                log.append(version(story, 1));
+            }
+            LogCompactor compactor = new LogCompactor(log, LogCompactor.UNLIMITED, 600, logger);
+            compactor.compact();
+
+            List<String> titles = replayTitles(log);
+            assertTrue(titles.size() < 30);
+            assertEquals("Story 29 v1", titles.get(titles.size() - 1));
+        }
+    }
+
+    /**
+     * Tests that a compacted log can be reopened.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void testCompactedLogReopens() throws IOException {
+        try (ArticleLog log = new ArticleLog(directory, 256, 64, 100, 1000)) {
+            for (int version = 1; version <= 4; version++) {
+                log.append(version(0, version));
+                log.append(version(1, version));
+            }
+            new LogCompactor(log, LogCompactor.UNLIMITED, LogCompactor.UNLIMITED, logger).compact();
+        }
+        try (ArticleLog log = new ArticleLog(directory, 256, 64, 100, 1000)) {
+            assertEquals(List.of("Story 0 v4", "Story 1 v4"), replayTitles(log));
+            assertEquals(8, log.nextOffset());
+        }
+    }
+
+    /**
+     * Tests that a later pass leaves compacted segments untouched when nothing in them
+     * is superseded, and that compacted output is split at the segment size.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void testLaterPassOnlyRewritesDirtySegments() throws IOException {
+        try (ArticleLog log = new ArticleLog(directory, 256, 64, 100, 1000)) {
+            for (int story = 0; story < 20; story++) {
+                log.append(version(story, 1));
+            }
+            LogCompactor compactor = new LogCompactor(log, LogCompactor.UNLIMITED, LogCompactor.UNLIMITED, logger);
+            compactor.compact();
+
+            List<LogSegment> compacted = log.segments().subList(0, log.segmentCount() - 2);
+            assertTrue(compacted.size() > 1);
+            for (LogSegment segment : compacted) {
+                assertTrue(segment.size() <= 256);
+            }
+
+            for (int story = 20; story < 30; story++) {
+                log.append(version(story, 1));
+            }
+            compactor.compact();
+            for (LogSegment segment : compacted) {
+                assertTrue(log.segments().contains(segment));
+            }
+
+            // Superseding a compacted version rewrites only the segment holding it
+            log.append(version(0, 2));
+            for (int story = 30; story < 40; story++) {
+                log.append(version(story, 1));
+            }
+            compactor.compact();
+            assertFalse(log.segments().contains(compacted.get(0)));
+            assertTrue(log.segments().contains(compacted.get(compacted.size() - 1)));
+
+            List<String> titles = replayTitles(log);
+            assertEquals(40, titles.size());
+            assertFalse(titles.contains("Story 0 v1"));
+            assertTrue(titles.contains("Story 0 v2"));
+        }
+    }
+
+    /**
+     * Tests that size retention after a compaction keeps the newest compacted records
+     * instead of dropping the whole compacted history.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void testSizeRetentionTrimsCompactedHistory() throws IOException {
+        try (ArticleLog log = new ArticleLog(directory, 256, 64, 100, 1000)) {
+            for (int story = 0; story < 40; story++) {
+                log.append(version(story, 1));
+            }
+            new LogCompactor(log, LogCompactor.UNLIMITED, 1200, logger).compact();
+
+            List<String> titles = replayTitles(log);
+            assertTrue(log.sizeInBytes() <= 1200);
+            assertFalse(titles.contains("Story 0 v1"));
+            assertTrue(titles.contains("Story 30 v1"));
+        }
+    }
+
+    /**
+     * Tests that a swap interrupted after its manifest was written is completed on reopen,
+     * so replaced segments do not bring superseded records back.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    void testInterruptedSwapIsCompletedOnReopen() throws IOException {
+        long firstBase;
+        long secondBase;
+        byte[] firstPayload;
+        try (ArticleLog log = new ArticleLog(directory, 256, 64, 100, 1000)) {
+            for (int story = 0; story < 12; story++) {
+                log.append(version(story, 1));
+            }
+            assertTrue(log.segmentCount() > 2);
+            firstBase = log.segments().get(0).baseOffset();
+            secondBase = log.segments().get(1).baseOffset();
+            try (LogReader reader = log.read(0)) {
+                firstPayload = ArticleCodec.encode(reader.next().getArticle());
+            }
+        }
+
+        // A compaction that kept only the first record of the two oldest segments, then crashed mid-swap
+        LogSegment cleaned = LogSegment.createCleaned(directory, firstBase, 64);
+        try {
+            cleaned.append(List.of(new LogSegment.Record(0, System.currentTimeMillis(), firstPayload)));
+            cleaned.force();
+        } finally {
+            cleaned.close();
+        }
+        Files.writeString(directory.resolve(ArticleLog.SWAP_MANIFEST),
+                "replace " + firstBase + "\nreplace " + secondBase + "\ninstall " + firstBase + "\n",
+                StandardCharsets.US_ASCII);
+        Files.move(LogSegment.cleanedIndexPath(directory, firstBase), LogSegment.indexPath(directory, firstBase),
+                StandardCopyOption.REPLACE_EXISTING);
+
+        try (ArticleLog log = new ArticleLog(directory, 256, 64, 100, 1000)) {
+            List<String> titles = replayTitles(log);
+            assertEquals("Story 0 v1", titles.get(0));
+            assertFalse(titles.contains("Story 1 v1"));
+            assertTrue(titles.contains("Story 11 v1"));
+            assertFalse(Files.exists(LogSegment.logPath(directory, secondBase)));
+            assertFalse(Files.exists(directory.resolve(ArticleLog.SWAP_MANIFEST)));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.newsparser.utils;
+
+import org.junit.jupiter.api.Test;
+import org.newsparser.databind.Article;
+import org.newsparser.databind.NewsResponse;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ArticleMerger}. Verifies that sorted responses are merged
+ * into one newest-first stream.
+ */
+class ArticleMergerTest {
+
+    private static Article article(String title, long publishedAt) {
+        return new Article(null, null, title, "Description", "https://example.com/" + title,
+                null, new Date(publishedAt), null);
+    }
+
+    /**
+     * Tests that merging sorted responses yields every article, newest first.
+     */
+    @Test
+    void testMergeResponsesIsNewestFirst() {
+        NewsResponse first = new NewsResponse("ok", 3, List.of(article("a", 9), article("b", 5), article("c", 1)));
+        NewsResponse second = new NewsResponse("ok", 2, List.of(article("d", 8), article("e", 2)));
+        NewsResponse empty = new NewsResponse("ok", 0, List.of());
+
+        List<String> titles = new ArrayList<>();
+        Iterator<Article> merged = ArticleMerger.mergeResponses(List.of(first, empty, second));
+        merged.forEachRemaining(article -> titles.add(article.getTitle()));
+
+        assertEquals(List.of("a", "d", "b", "e", "c"), titles);
+    }
+
+    /**
+     * Tests that {@link ArticleMerger#latest(List, int)} stops at the limit.
+     */
+    @Test
+    void testLatestAppliesLimit() {
+        NewsResponse first = new NewsResponse("ok", 2, List.of(article("a", 9), article("b", 5)));
+        NewsResponse second = new NewsResponse("ok", 2, List.of(article("c", 7), article("d", 3)));
+
+        List<Article> latest = ArticleMerger.latest(List.of(first, second), 3);
+
+        assertEquals(3, latest.size());
+        assertEquals("a", latest.get(0).getTitle());
+        assertEquals("c", latest.get(1).getTitle());
+        assertEquals("b", latest.get(2).getTitle());
+    }
+}
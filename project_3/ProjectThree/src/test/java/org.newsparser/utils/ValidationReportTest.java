@@ -0,0 +1,113 @@
+package org.newsparser.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.newsparser.TestHandler;
+import org.newsparser.databind.Article;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ValidationReport}. Verifies that rejections are counted by reason,
+ * sampled within the configured bound and summarised instead of logged one by one.
+ */
+class ValidationReportTest {
+
+    private Logger logger;
+    private TestHandler testHandler;
+
+    @BeforeEach
+    void setUp() {
+        logger = Logger.getLogger(ValidationReportTest.class.getName());
+        logger.setLevel(Level.WARNING);
+        logger.setUseParentHandlers(false);
+
+        testHandler = new TestHandler();
+        testHandler.setLevel(Level.WARNING);
+        logger.addHandler(testHandler);
+
+        testHandler.flush();
+    }
+
+    private static List<Article> articles(int count) {
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Every fifth article is missing its title, every seventh its URL
+            String title = (i % 5 == 0) ? " " : "Title " + i;
+            String url = (i % 7 == 0) ? null : "https://example.com/" + i;
+            articles.add(new Article(null, null, title, "Description", url, null, new Date(), null));
+        }
+        return articles;
+    }
+
+    /**
+     * Tests that rejected items are counted by the first failing field and that only
+     * the summary is logged.
+     */
+    @Test
+    void testCountsReasonsAndLogsSummaryOnly() {
+        List<Article> articles = articles(100);
+        ValidationReport report = new ValidationReport(logger, 4);
+
+        List<Article> valid = Validator.filterValidItems(articles, report);
+
+        // 20 multiples of 5, plus 15 multiples of 7 of which 3 are also multiples of 5
+        assertEquals(Map.of("title", 20L, "url", 12L), report.getReasonCounts());
+        assertEquals(32, report.getRejectedCount());
+        assertEquals(valid.size(), report.getAcceptedCount());
+        assertEquals(68, valid.size());
+        assertTrue(testHandler.getMessages().isEmpty());
+
+        report.logSummary();
+        assertEquals(1, testHandler.getMessages().size());
+        assertTrue(testHandler.getMessages().get(0).contains("32 invalid"));
+    }
+
+    /**
+     * Tests that the sample never grows past its bound and only holds rejected items.
+     */
+    @Test
+    void testSampleIsBounded() {
+        ValidationReport report = new ValidationReport(logger, 4);
+        Validator.filterValidItems(articles(Validator.PARALLEL_THRESHOLD * 2), report);
+
+        List<Validatable> samples = report.getSamples();
+        assertEquals(4, samples.size());
+        samples.forEach(sample -> assertFalse(sample.isValid()));
+
+        report.reset();
+        assertEquals(0, report.getRejectedCount());
+        assertTrue(report.getSamples().isEmpty());
+        assertTrue(report.getReasonCounts().isEmpty());
+    }
+
+    /**
+     * Tests that adding one report to another sums the counts and fills the sample from both.
+     */
+    @Test
+    void testAddAllMergesCountsAndSamples() {
+        ValidationReport total = new ValidationReport(logger, 4);
+        ValidationReport first = new ValidationReport(logger, 4);
+        ValidationReport second = new ValidationReport(logger, 4);
+        Validator.filterValidItems(articles(10), first);
+        Validator.filterValidItems(articles(100), second);
+
+        total.addAll(first);
+        assertEquals(first.getReasonCounts(), total.getReasonCounts());
+        assertEquals(first.getRejectedCount(), total.getSamples().size());
+
+        total.addAll(second);
+        assertEquals(first.getAcceptedCount() + second.getAcceptedCount(), total.getAcceptedCount());
+        assertEquals(first.getRejectedCount() + second.getRejectedCount(), total.getRejectedCount());
+        assertEquals(Map.of("title", 22L, "url", 13L), total.getReasonCounts());
+        assertEquals(4, total.getSamples().size());
+        total.getSamples().forEach(sample -> assertFalse(sample.isValid()));
+    }
+}
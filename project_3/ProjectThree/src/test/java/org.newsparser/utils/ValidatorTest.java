@@ -0,0 +1,85 @@
+package org.newsparser.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.newsparser.TestHandler;
+import org.newsparser.databind.Article;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link Validator}. Verifies that the parallel path keeps the original
+ * order and reports every invalid item.
+ */
+class ValidatorTest {
+
+    private Logger logger;
+    private TestHandler testHandler;
+
+    @BeforeEach
+    void setUp() {
+        logger = Logger.getLogger(ValidatorTest.class.getName());
+        logger.setLevel(Level.WARNING);
+        logger.setUseParentHandlers(false);
+
+        testHandler = new TestHandler();
+        testHandler.setLevel(Level.WARNING);
+        logger.addHandler(testHandler);
+
+        testHandler.flush();
+    }
+
+    private static List<Article> articles(int count) {
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Every tenth article is missing its title
+            String title = (i % 10 == 0) ? null : "Title " + i;
+            articles.add(new Article(null, null, title, "Description", "https://example.com/" + i, null, new Date(), null));
+        }
+        return articles;
+    }
+
+    /**
+     * Tests that a large list is filtered in parallel, in order, with every reject logged
+     * and passed to the callback.
+     */
+    @Test
+    void testParallelFilterKeepsOrderAndReportsRejects() {
+        List<Article> articles = articles(Validator.PARALLEL_THRESHOLD * 3);
+        List<Article> rejected = new ArrayList<>();
+        int expectedRejects = (articles.size() + 9) / 10;
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Article> valid = Validator.filterValidItems(articles, Validatable::invalidReason, logger, rejected::add, pool);
+
+            assertEquals(articles.size() - expectedRejects, valid.size());
+            assertEquals(expectedRejects, rejected.size());
+            assertEquals("Title 1", valid.get(0).getTitle());
+            assertEquals("Title 11", valid.get(9).getTitle());
+            assertSame(articles.get(10), rejected.get(1));
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(expectedRejects, testHandler.getMessages().size());
+    }
+
+    /**
+     * Tests that the parallel entry point matches the sequential one for small lists.
+     */
+    @Test
+    void testParallelMatchesSequentialBelowThreshold() {
+        List<Article> articles = articles(100);
+
+        assertEquals(Validator.filterValidItems(articles, logger),
+                Validator.filterValidItems(articles, Validatable::invalidReason, logger, item -> {}, ForkJoinPool.commonPool()));
+    }
+}